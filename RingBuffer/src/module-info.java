@@ -8,6 +8,7 @@ module org.ringbuffer {
     exports org.ringbuffer.lang;
     exports org.ringbuffer.marshalling;
     exports org.ringbuffer.object;
+    exports org.ringbuffer.primitive;
     exports org.ringbuffer.system;
     exports org.ringbuffer.util;
     exports org.ringbuffer.wait;
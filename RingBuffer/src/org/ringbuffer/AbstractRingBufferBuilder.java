@@ -19,6 +19,7 @@ import org.ringbuffer.lang.CopiedClass;
 import org.ringbuffer.lang.Numbers;
 import org.ringbuffer.wait.BusyWaitStrategy;
 import org.ringbuffer.wait.HintBusyWaitStrategy;
+import org.ringbuffer.wait.ParkingBusyWaitStrategy;
 
 public abstract class AbstractRingBufferBuilder<T> {
     private Boolean oneWriter;
@@ -131,6 +132,9 @@ public abstract class AbstractRingBufferBuilder<T> {
         if (oneWriter == null) {
             throw new IllegalStateException("You must call either oneWriter() or manyWriters().");
         }
+        if (readBusyWaitStrategy instanceof ParkingBusyWaitStrategy && type != RingBufferType.BLOCKING && (type != RingBufferType.FAST_BLOCKING || !oneReader)) {
+            throw new IllegalStateException("ParkingBusyWaitStrategy is only supported by blocking ring buffers, and by lock-free ones only if there is one reader.");
+        }
     }
 
     protected abstract T create(RingBufferConcurrency concurrency, RingBufferType type);
@@ -141,6 +145,13 @@ public abstract class AbstractRingBufferBuilder<T> {
                 .call(this);
     }
 
+    /**
+     * Can only be called after {@link #validate()}.
+     */
+    protected boolean isOneWriter() {
+        return oneWriter;
+    }
+
     protected BusyWaitStrategy getWriteBusyWaitStrategy() {
         return writeBusyWaitStrategy;
     }
@@ -152,6 +163,16 @@ public abstract class AbstractRingBufferBuilder<T> {
         return readBusyWaitStrategy;
     }
 
+    /**
+     * @return {@code null} if the readers do not wait with a {@link ParkingBusyWaitStrategy}
+     */
+    protected ParkingBusyWaitStrategy getParkingBusyWaitStrategy() {
+        if (readBusyWaitStrategy instanceof ParkingBusyWaitStrategy) {
+            return (ParkingBusyWaitStrategy) readBusyWaitStrategy;
+        }
+        return null;
+    }
+
     protected void afterBuild(T ringBuffer) {
     }
 
@@ -177,6 +198,8 @@ public abstract class AbstractRingBufferBuilder<T> {
         BLOCKING,
         DISCARDING,
 
-        FAST
+        FAST,
+        FAST_BLOCKING,
+        FAST_OVERWRITING
     }
 }
@@ -18,6 +18,9 @@ import org.ringbuffer.AbstractRingBuffer;
 import org.ringbuffer.concurrent.ThreadLocal;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
 interface AbstractDirectRingBuffer extends AbstractRingBuffer {
     long getCapacity();
 
@@ -42,6 +45,28 @@ interface AbstractDirectRingBuffer extends AbstractRingBuffer {
      */
     long take(long size);
 
+    /**
+     * Like {@link #take(long)}, but does not wait.
+     *
+     * @return the offset, which is lesser than the capacity, or {@code -1L} if fewer than {@code size} bytes
+     * are available
+     */
+    long tryTake(long size);
+
+    /**
+     * Like {@link #tryTake(long)}, but waits up to {@code timeout} for {@code size} bytes to become available.
+     * The timeout is measured with {@link System#nanoTime()}, and {@link Thread#onSpinWait()} is called in between
+     * attempts.
+     */
+    default long poll(long size, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long offset;
+        while ((offset = tryTake(size)) == -1L && System.nanoTime() - deadline < 0L) {
+            Thread.onSpinWait();
+        }
+        return offset;
+    }
+
     long size();
 
     byte readByte(long offset);
@@ -60,6 +85,37 @@ interface AbstractDirectRingBuffer extends AbstractRingBuffer {
 
     double readDouble(long offset);
 
+    void readBytes(long offset, byte[] destination, int destinationOffset, int length);
+
+    /**
+     * Fills the remaining bytes of {@code destination}, whose position is set to its limit.
+     */
+    void readBytes(long offset, ByteBuffer destination);
+
+    void readBytes(long offset, long address, long length);
+
+    void readInts(long offset, int[] destination, int destinationOffset, int length);
+
+    void readLongs(long offset, long[] destination, int destinationOffset, int length);
+
+    void readDoubles(long offset, double[] destination, int destinationOffset, int length);
+
+    /**
+     * Points {@code views} at the {@code length} bytes starting at {@code offset} without copying them, so that they
+     * can be passed to {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[], int, int)}: one view is used
+     * if the bytes do not wrap around the end of the ring buffer, two otherwise. The bytes must be available,
+     * and the views are only valid until the read position is advanced past them.
+     * <p>
+     * The views cover the whole ring buffer, and their position and limit delimit the bytes.
+     * {@code null} elements of {@code views} are replaced by new views, which can be reused in later calls
+     * to the same ring buffer to avoid producing garbage.
+     *
+     * @param length must not be greater than the capacity
+     * @return the number of views used, either 1 or 2
+     * @throws UnsupportedOperationException if the capacity is greater than {@code Integer.MAX_VALUE}
+     */
+    int viewBytes(long offset, long length, ByteBuffer[] views);
+
     void writeByte(long offset, byte value);
 
     void writeChar(long offset, char value);
@@ -75,4 +131,23 @@ interface AbstractDirectRingBuffer extends AbstractRingBuffer {
     void writeFloat(long offset, float value);
 
     void writeDouble(long offset, double value);
+
+    /**
+     * Unlike the single value methods, bulk methods wrap around the end of the ring buffer: the values that do not
+     * fit before it are copied at its beginning. Values written in bulk must therefore be read in bulk.
+     */
+    void writeBytes(long offset, byte[] source, int sourceOffset, int length);
+
+    /**
+     * Writes the remaining bytes of {@code source}, whose position is set to its limit.
+     */
+    void writeBytes(long offset, ByteBuffer source);
+
+    void writeBytes(long offset, long address, long length);
+
+    void writeInts(long offset, int[] source, int sourceOffset, int length);
+
+    void writeLongs(long offset, long[] source, int sourceOffset, int length);
+
+    void writeDoubles(long offset, double[] source, int sourceOffset, int length);
 }
@@ -35,6 +35,13 @@ abstract class AbstractDirectRingBufferBuilder<T> extends MarshallingRingBufferB
         capacity = builder.capacity;
     }
 
+    AbstractDirectRingBufferBuilder(AbstractDirectRingBufferBuilder<?> builder, long capacity) {
+        super(builder);
+        validateCapacity(capacity);
+        validateCapacityPowerOfTwo(capacity);
+        this.capacity = capacity;
+    }
+
     @Override
     protected abstract AbstractRingBufferBuilder<?> withoutLocks();
 
@@ -18,6 +18,9 @@ import org.ringbuffer.AbstractRingBuffer;
 import org.ringbuffer.concurrent.ThreadLocal;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
 interface AbstractHeapRingBuffer extends AbstractRingBuffer {
     int getCapacity();
 
@@ -42,6 +45,28 @@ interface AbstractHeapRingBuffer extends AbstractRingBuffer {
      */
     int take(int size);
 
+    /**
+     * Like {@link #take(int)}, but does not wait.
+     *
+     * @return the offset, which is lesser than the capacity, or {@code -1} if fewer than {@code size} bytes
+     * are available
+     */
+    int tryTake(int size);
+
+    /**
+     * Like {@link #tryTake(int)}, but waits up to {@code timeout} for {@code size} bytes to become available.
+     * The timeout is measured with {@link System#nanoTime()}, and {@link Thread#onSpinWait()} is called in between
+     * attempts.
+     */
+    default int poll(int size, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int offset;
+        while ((offset = tryTake(size)) == -1 && System.nanoTime() - deadline < 0L) {
+            Thread.onSpinWait();
+        }
+        return offset;
+    }
+
     int size();
 
     void writeByte(int offset, byte value);
@@ -60,6 +85,25 @@ interface AbstractHeapRingBuffer extends AbstractRingBuffer {
 
     void writeDouble(int offset, double value);
 
+    /**
+     * Unlike the single value methods, bulk methods wrap around the end of the ring buffer: the values that do not
+     * fit before it are copied at its beginning. Values written in bulk must therefore be read in bulk.
+     */
+    void writeBytes(int offset, byte[] source, int sourceOffset, int length);
+
+    /**
+     * Writes the remaining bytes of {@code source}, whose position is set to its limit.
+     */
+    void writeBytes(int offset, ByteBuffer source);
+
+    void writeBytes(int offset, long address, int length);
+
+    void writeInts(int offset, int[] source, int sourceOffset, int length);
+
+    void writeLongs(int offset, long[] source, int sourceOffset, int length);
+
+    void writeDoubles(int offset, double[] source, int sourceOffset, int length);
+
     byte readByte(int offset);
 
     char readChar(int offset);
@@ -75,4 +119,19 @@ interface AbstractHeapRingBuffer extends AbstractRingBuffer {
     float readFloat(int offset);
 
     double readDouble(int offset);
+
+    void readBytes(int offset, byte[] destination, int destinationOffset, int length);
+
+    /**
+     * Fills the remaining bytes of {@code destination}, whose position is set to its limit.
+     */
+    void readBytes(int offset, ByteBuffer destination);
+
+    void readBytes(int offset, long address, int length);
+
+    void readInts(int offset, int[] destination, int destinationOffset, int length);
+
+    void readLongs(int offset, long[] destination, int destinationOffset, int length);
+
+    void readDoubles(int offset, double[] destination, int destinationOffset, int length);
 }
@@ -31,6 +31,13 @@ abstract class AbstractHeapRingBufferBuilder<T> extends MarshallingRingBufferBui
         capacity = builder.capacity;
     }
 
+    AbstractHeapRingBufferBuilder(AbstractHeapRingBufferBuilder<?> builder, int capacity) {
+        super(builder);
+        validateCapacity(capacity);
+        validateCapacityPowerOfTwo(capacity);
+        this.capacity = capacity;
+    }
+
     @Override
     protected void withoutLocks0() {
         super.withoutLocks0();
@@ -19,6 +19,8 @@ import org.ringbuffer.concurrent.AtomicLong;
 import org.ringbuffer.lang.Lang;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
+import java.nio.ByteBuffer;
+
 import static org.ringbuffer.marshalling.DirectBuffer.*;
 
 @Contended
@@ -76,6 +78,16 @@ class AtomicReadDirectRingBuffer implements DirectClearingRingBuffer {
         return readPosition;
     }
 
+    @Override
+    public long tryTake(long size) {
+        long readPosition = this.readPosition & capacityMinusOne;
+        if (isNotFullEnoughCached(readPosition, size)) {
+            return -1L;
+        }
+        this.readPosition += size;
+        return readPosition;
+    }
+
     private boolean isNotFullEnoughCached(long readPosition, long size) {
         if (size(readPosition, cachedWritePosition) < size) {
             cachedWritePosition = AtomicLong.getAcquire(this, WRITE_POSITION) & capacityMinusOne;
@@ -145,6 +157,36 @@ class AtomicReadDirectRingBuffer implements DirectClearingRingBuffer {
         putDouble(buffer, offset & capacityMinusOne, value);
     }
 
+    @Override
+    public void writeBytes(long offset, byte[] source, int sourceOffset, int length) {
+        putBytes(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeBytes(long offset, ByteBuffer source) {
+        putBytes(buffer, capacityMinusOne, offset, source);
+    }
+
+    @Override
+    public void writeBytes(long offset, long address, long length) {
+        putBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void writeInts(long offset, int[] source, int sourceOffset, int length) {
+        putInts(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeLongs(long offset, long[] source, int sourceOffset, int length) {
+        putLongs(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeDoubles(long offset, double[] source, int sourceOffset, int length) {
+        putDoubles(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
     @Override
     public byte readByte(long offset) {
         return getByte(buffer, offset & capacityMinusOne);
@@ -185,6 +227,41 @@ class AtomicReadDirectRingBuffer implements DirectClearingRingBuffer {
         return getDouble(buffer, offset & capacityMinusOne);
     }
 
+    @Override
+    public void readBytes(long offset, byte[] destination, int destinationOffset, int length) {
+        getBytes(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readBytes(long offset, ByteBuffer destination) {
+        getBytes(buffer, capacityMinusOne, offset, destination);
+    }
+
+    @Override
+    public void readBytes(long offset, long address, long length) {
+        getBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void readInts(long offset, int[] destination, int destinationOffset, int length) {
+        getInts(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readLongs(long offset, long[] destination, int destinationOffset, int length) {
+        getLongs(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readDoubles(long offset, double[] destination, int destinationOffset, int length) {
+        getDoubles(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public int viewBytes(long offset, long length, ByteBuffer[] views) {
+        return view(buffer, capacityMinusOne, offset, length, views, this);
+    }
+
     @Override
     public long take(long size, BusyWaitStrategy busyWaitStrategy) {
         throw new UnsupportedOperationException();
@@ -19,6 +19,8 @@ import org.ringbuffer.concurrent.AtomicInt;
 import org.ringbuffer.lang.Lang;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
+import java.nio.ByteBuffer;
+
 import static org.ringbuffer.marshalling.HeapBuffer.*;
 
 @Contended
@@ -76,6 +78,16 @@ class AtomicReadHeapRingBuffer implements HeapClearingRingBuffer {
         return readPosition;
     }
 
+    @Override
+    public int tryTake(int size) {
+        int readPosition = this.readPosition & capacityMinusOne;
+        if (isNotFullEnoughCached(readPosition, size)) {
+            return -1;
+        }
+        this.readPosition += size;
+        return readPosition;
+    }
+
     private boolean isNotFullEnoughCached(int readPosition, int size) {
         if (size(readPosition, cachedWritePosition) < size) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION) & capacityMinusOne;
@@ -145,6 +157,36 @@ class AtomicReadHeapRingBuffer implements HeapClearingRingBuffer {
         putDouble(buffer, offset & capacityMinusOne, value);
     }
 
+    @Override
+    public void writeBytes(int offset, byte[] source, int sourceOffset, int length) {
+        putBytes(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeBytes(int offset, ByteBuffer source) {
+        putBytes(buffer, capacityMinusOne, offset, source);
+    }
+
+    @Override
+    public void writeBytes(int offset, long address, int length) {
+        putBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void writeInts(int offset, int[] source, int sourceOffset, int length) {
+        putInts(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeLongs(int offset, long[] source, int sourceOffset, int length) {
+        putLongs(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeDoubles(int offset, double[] source, int sourceOffset, int length) {
+        putDoubles(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
     @Override
     public byte readByte(int offset) {
         return getByte(buffer, offset & capacityMinusOne);
@@ -185,6 +227,36 @@ class AtomicReadHeapRingBuffer implements HeapClearingRingBuffer {
         return getDouble(buffer, offset & capacityMinusOne);
     }
 
+    @Override
+    public void readBytes(int offset, byte[] destination, int destinationOffset, int length) {
+        getBytes(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readBytes(int offset, ByteBuffer destination) {
+        getBytes(buffer, capacityMinusOne, offset, destination);
+    }
+
+    @Override
+    public void readBytes(int offset, long address, int length) {
+        getBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void readInts(int offset, int[] destination, int destinationOffset, int length) {
+        getInts(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readLongs(int offset, long[] destination, int destinationOffset, int length) {
+        getLongs(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readDoubles(int offset, double[] destination, int destinationOffset, int length) {
+        getDoubles(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
     @Override
     public int take(int size, BusyWaitStrategy busyWaitStrategy) {
         throw new UnsupportedOperationException();
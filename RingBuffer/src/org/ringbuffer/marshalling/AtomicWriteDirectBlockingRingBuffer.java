@@ -18,6 +18,9 @@ import jdk.internal.vm.annotation.Contended;
 import org.ringbuffer.concurrent.AtomicLong;
 import org.ringbuffer.lang.Lang;
 import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.ParkingBusyWaitStrategy;
+
+import java.nio.ByteBuffer;
 
 import static org.ringbuffer.marshalling.DirectBuffer.*;
 
@@ -36,6 +39,7 @@ class AtomicWriteDirectBlockingRingBuffer implements DirectRingBuffer {
     private final long buffer;
     private final BusyWaitStrategy readBusyWaitStrategy;
     private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final ParkingBusyWaitStrategy parkingBusyWaitStrategy;
 
     @Contended("read")
     private long readPosition;
@@ -52,6 +56,7 @@ class AtomicWriteDirectBlockingRingBuffer implements DirectRingBuffer {
         buffer = builder.getBuffer();
         readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
         writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        parkingBusyWaitStrategy = builder.getParkingBusyWaitStrategy();
     }
 
     @Override
@@ -69,6 +74,15 @@ class AtomicWriteDirectBlockingRingBuffer implements DirectRingBuffer {
         return writePosition;
     }
 
+    @Override
+    public long tryNext(long size) {
+        long writePosition = this.writePosition & capacityMinusOne;
+        if (isThereNotEnoughFreeSpaceCached(writePosition, size)) {
+            return -1L;
+        }
+        return writePosition;
+    }
+
     private boolean isThereNotEnoughFreeSpaceCached(long writePosition, long size) {
         if (freeSpace(writePosition, cachedReadPosition) <= size) {
             cachedReadPosition = AtomicLong.getAcquire(this, READ_POSITION) & capacityMinusOne;
@@ -87,6 +101,9 @@ class AtomicWriteDirectBlockingRingBuffer implements DirectRingBuffer {
     @Override
     public void put(long offset) {
         AtomicLong.setRelease(this, WRITE_POSITION, offset);
+        if (parkingBusyWaitStrategy != null) {
+            parkingBusyWaitStrategy.wakeup();
+        }
     }
 
     @Override
@@ -99,6 +116,15 @@ class AtomicWriteDirectBlockingRingBuffer implements DirectRingBuffer {
         return readPosition;
     }
 
+    @Override
+    public long tryTake(long size) {
+        long readPosition = this.readPosition & capacityMinusOne;
+        if (isNotFullEnoughCached(readPosition, size)) {
+            return -1L;
+        }
+        return readPosition;
+    }
+
     private boolean isNotFullEnoughCached(long readPosition, long size) {
         if (size(readPosition, cachedWritePosition) < size) {
             cachedWritePosition = AtomicLong.getAcquire(this, WRITE_POSITION) & capacityMinusOne;
@@ -169,6 +195,36 @@ class AtomicWriteDirectBlockingRingBuffer implements DirectRingBuffer {
         putDouble(buffer, offset & capacityMinusOne, value);
     }
 
+    @Override
+    public void writeBytes(long offset, byte[] source, int sourceOffset, int length) {
+        putBytes(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeBytes(long offset, ByteBuffer source) {
+        putBytes(buffer, capacityMinusOne, offset, source);
+    }
+
+    @Override
+    public void writeBytes(long offset, long address, long length) {
+        putBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void writeInts(long offset, int[] source, int sourceOffset, int length) {
+        putInts(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeLongs(long offset, long[] source, int sourceOffset, int length) {
+        putLongs(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeDoubles(long offset, double[] source, int sourceOffset, int length) {
+        putDoubles(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
     @Override
     public byte readByte(long offset) {
         return getByte(buffer, offset & capacityMinusOne);
@@ -209,6 +265,41 @@ class AtomicWriteDirectBlockingRingBuffer implements DirectRingBuffer {
         return getDouble(buffer, offset & capacityMinusOne);
     }
 
+    @Override
+    public void readBytes(long offset, byte[] destination, int destinationOffset, int length) {
+        getBytes(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readBytes(long offset, ByteBuffer destination) {
+        getBytes(buffer, capacityMinusOne, offset, destination);
+    }
+
+    @Override
+    public void readBytes(long offset, long address, long length) {
+        getBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void readInts(long offset, int[] destination, int destinationOffset, int length) {
+        getInts(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readLongs(long offset, long[] destination, int destinationOffset, int length) {
+        getLongs(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readDoubles(long offset, double[] destination, int destinationOffset, int length) {
+        getDoubles(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public int viewBytes(long offset, long length, ByteBuffer[] views) {
+        return view(buffer, capacityMinusOne, offset, length, views, this);
+    }
+
     @Override
     public Object getReadMonitor() {
         throw new UnsupportedOperationException();
@@ -18,6 +18,9 @@ import jdk.internal.vm.annotation.Contended;
 import org.ringbuffer.concurrent.AtomicInt;
 import org.ringbuffer.lang.Lang;
 import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.ParkingBusyWaitStrategy;
+
+import java.nio.ByteBuffer;
 
 import static org.ringbuffer.marshalling.HeapBuffer.*;
 
@@ -36,6 +39,7 @@ class AtomicWriteHeapBlockingRingBuffer implements HeapRingBuffer {
     private final byte[] buffer;
     private final BusyWaitStrategy readBusyWaitStrategy;
     private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final ParkingBusyWaitStrategy parkingBusyWaitStrategy;
 
     @Contended("read")
     private int readPosition;
@@ -52,6 +56,7 @@ class AtomicWriteHeapBlockingRingBuffer implements HeapRingBuffer {
         buffer = builder.getBuffer();
         readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
         writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        parkingBusyWaitStrategy = builder.getParkingBusyWaitStrategy();
     }
 
     @Override
@@ -69,6 +74,15 @@ class AtomicWriteHeapBlockingRingBuffer implements HeapRingBuffer {
         return writePosition;
     }
 
+    @Override
+    public int tryNext(int size) {
+        int writePosition = this.writePosition & capacityMinusOne;
+        if (isThereNotEnoughFreeSpaceCached(writePosition, size)) {
+            return -1;
+        }
+        return writePosition;
+    }
+
     private boolean isThereNotEnoughFreeSpaceCached(int writePosition, int size) {
         if (freeSpace(writePosition, cachedReadPosition) <= size) {
             cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION) & capacityMinusOne;
@@ -87,6 +101,9 @@ class AtomicWriteHeapBlockingRingBuffer implements HeapRingBuffer {
     @Override
     public void put(int offset) {
         AtomicInt.setRelease(this, WRITE_POSITION, offset);
+        if (parkingBusyWaitStrategy != null) {
+            parkingBusyWaitStrategy.wakeup();
+        }
     }
 
     @Override
@@ -99,6 +116,15 @@ class AtomicWriteHeapBlockingRingBuffer implements HeapRingBuffer {
         return readPosition;
     }
 
+    @Override
+    public int tryTake(int size) {
+        int readPosition = this.readPosition & capacityMinusOne;
+        if (isNotFullEnoughCached(readPosition, size)) {
+            return -1;
+        }
+        return readPosition;
+    }
+
     private boolean isNotFullEnoughCached(int readPosition, int size) {
         if (size(readPosition, cachedWritePosition) < size) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION) & capacityMinusOne;
@@ -169,6 +195,36 @@ class AtomicWriteHeapBlockingRingBuffer implements HeapRingBuffer {
         putDouble(buffer, offset & capacityMinusOne, value);
     }
 
+    @Override
+    public void writeBytes(int offset, byte[] source, int sourceOffset, int length) {
+        putBytes(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeBytes(int offset, ByteBuffer source) {
+        putBytes(buffer, capacityMinusOne, offset, source);
+    }
+
+    @Override
+    public void writeBytes(int offset, long address, int length) {
+        putBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void writeInts(int offset, int[] source, int sourceOffset, int length) {
+        putInts(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeLongs(int offset, long[] source, int sourceOffset, int length) {
+        putLongs(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeDoubles(int offset, double[] source, int sourceOffset, int length) {
+        putDoubles(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
     @Override
     public byte readByte(int offset) {
         return getByte(buffer, offset & capacityMinusOne);
@@ -209,6 +265,36 @@ class AtomicWriteHeapBlockingRingBuffer implements HeapRingBuffer {
         return getDouble(buffer, offset & capacityMinusOne);
     }
 
+    @Override
+    public void readBytes(int offset, byte[] destination, int destinationOffset, int length) {
+        getBytes(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readBytes(int offset, ByteBuffer destination) {
+        getBytes(buffer, capacityMinusOne, offset, destination);
+    }
+
+    @Override
+    public void readBytes(int offset, long address, int length) {
+        getBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void readInts(int offset, int[] destination, int destinationOffset, int length) {
+        getInts(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readLongs(int offset, long[] destination, int destinationOffset, int length) {
+        getLongs(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readDoubles(int offset, double[] destination, int destinationOffset, int length) {
+        getDoubles(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
     @Override
     public Object getReadMonitor() {
         throw new UnsupportedOperationException();
@@ -14,12 +14,27 @@
 
 package org.ringbuffer.marshalling;
 
+import org.ringbuffer.InternalUnsafe;
 import org.ringbuffer.lang.Assume;
+import org.ringbuffer.lang.Lang;
 import org.ringbuffer.system.Unsafe;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
 import static org.ringbuffer.InternalUnsafe.UNSAFE;
 
 public class DirectBuffer {
+    private static final long ADDRESS = Lang.objectFieldOffset(Buffer.class, "address");
+    private static final jdk.internal.misc.JavaNioAccess JAVA_NIO_ACCESS;
+
+    static {
+        InternalUnsafe.init();
+        JAVA_NIO_ACCESS = jdk.internal.misc.SharedSecrets.getJavaNioAccess();
+    }
+
     public static long allocate(long length) {
         Assume.notGreater(length, Long.MAX_VALUE - 8L);
         return Unsafe.allocateMemory(length + 8L);
@@ -88,4 +103,203 @@ public class DirectBuffer {
     public static double getDouble(long address, long index) {
         return UNSAFE.getDouble(address + index);
     }
+
+    /**
+     * @return the address of the first byte of {@code directBuffer}, regardless of its position
+     */
+    public static long getAddress(ByteBuffer directBuffer) {
+        if (!directBuffer.isDirect()) {
+            throw new IllegalArgumentException("The buffer must be direct.");
+        }
+        return UNSAFE.getLong(directBuffer, ADDRESS);
+    }
+
+    /**
+     * Copies {@code length} bytes of {@code source} into the ring buffer at {@code address}, starting at
+     * {@code index & mask}. If the end of the ring buffer is reached, then the remaining bytes are copied at its
+     * beginning, so {@link #getBytes(long, long, long, byte[], int, int)} with the same {@code index} reads them
+     * back even if they wrap around.
+     * At most {@code mask + 1} bytes can be copied, and the range of {@code source} is bounds checked.
+     */
+    public static void putBytes(long address, long mask, long index, byte[] source, int sourceOffset, int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        copyIn(address, mask, index, source, Unsafe.ARRAY_BYTE_BASE_OFFSET + sourceOffset, length);
+    }
+
+    /**
+     * Copies the remaining bytes of {@code source}, and sets its position to its limit.
+     *
+     * @see #putBytes(long, long, long, byte[], int, int)
+     */
+    public static void putBytes(long address, long mask, long index, ByteBuffer source) {
+        int length = source.remaining();
+        if (source.hasArray()) {
+            putBytes(address, mask, index, source.array(), source.arrayOffset() + source.position(), length);
+        } else if (source.isDirect()) {
+            copyIn(address, mask, index, null, getAddress(source) + source.position(), length);
+        } else {
+            Assume.notGreater(length, mask + 1L);
+            for (int i = 0; i < length; i++) {
+                putByte(address, (index + i) & mask, source.get(source.position() + i));
+            }
+        }
+        source.position(source.limit());
+    }
+
+    /**
+     * @see #putBytes(long, long, long, byte[], int, int)
+     */
+    public static void putBytes(long address, long mask, long index, long sourceAddress, long length) {
+        copyIn(address, mask, index, null, sourceAddress, length);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #putBytes(long, long, long, byte[], int, int)
+     */
+    public static void putInts(long address, long mask, long index, int[] source, int sourceOffset, int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        copyIn(address, mask, index, source, Unsafe.ARRAY_INT_BASE_OFFSET + Unsafe.ARRAY_INT_INDEX_SCALE * sourceOffset, (long) length * Offsets.INT);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #putBytes(long, long, long, byte[], int, int)
+     */
+    public static void putLongs(long address, long mask, long index, long[] source, int sourceOffset, int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        copyIn(address, mask, index, source, Unsafe.ARRAY_LONG_BASE_OFFSET + Unsafe.ARRAY_LONG_INDEX_SCALE * sourceOffset, (long) length * Offsets.LONG);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #putBytes(long, long, long, byte[], int, int)
+     */
+    public static void putDoubles(long address, long mask, long index, double[] source, int sourceOffset, int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        copyIn(address, mask, index, source, Unsafe.ARRAY_DOUBLE_BASE_OFFSET + Unsafe.ARRAY_DOUBLE_INDEX_SCALE * sourceOffset, (long) length * Offsets.DOUBLE);
+    }
+
+    /**
+     * Copies {@code length} bytes of the ring buffer at {@code address}, starting at {@code index & mask}, into
+     * {@code destination}. If the end of the ring buffer is reached, then the remaining bytes are copied from its
+     * beginning.
+     *
+     * @see #putBytes(long, long, long, byte[], int, int)
+     */
+    public static void getBytes(long address, long mask, long index, byte[] destination, int destinationOffset, int length) {
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        copyOut(address, mask, index, destination, Unsafe.ARRAY_BYTE_BASE_OFFSET + destinationOffset, length);
+    }
+
+    /**
+     * Fills the remaining bytes of {@code destination}, and sets its position to its limit.
+     *
+     * @see #getBytes(long, long, long, byte[], int, int)
+     */
+    public static void getBytes(long address, long mask, long index, ByteBuffer destination) {
+        int length = destination.remaining();
+        if (destination.hasArray()) {
+            getBytes(address, mask, index, destination.array(), destination.arrayOffset() + destination.position(), length);
+        } else if (destination.isDirect() && !destination.isReadOnly()) {
+            copyOut(address, mask, index, null, getAddress(destination) + destination.position(), length);
+        } else {
+            Assume.notGreater(length, mask + 1L);
+            for (int i = 0; i < length; i++) {
+                destination.put(destination.position() + i, getByte(address, (index + i) & mask));
+            }
+        }
+        destination.position(destination.limit());
+    }
+
+    /**
+     * @see #getBytes(long, long, long, byte[], int, int)
+     */
+    public static void getBytes(long address, long mask, long index, long destinationAddress, long length) {
+        copyOut(address, mask, index, null, destinationAddress, length);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #getBytes(long, long, long, byte[], int, int)
+     */
+    public static void getInts(long address, long mask, long index, int[] destination, int destinationOffset, int length) {
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        copyOut(address, mask, index, destination, Unsafe.ARRAY_INT_BASE_OFFSET + Unsafe.ARRAY_INT_INDEX_SCALE * destinationOffset, (long) length * Offsets.INT);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #getBytes(long, long, long, byte[], int, int)
+     */
+    public static void getLongs(long address, long mask, long index, long[] destination, int destinationOffset, int length) {
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        copyOut(address, mask, index, destination, Unsafe.ARRAY_LONG_BASE_OFFSET + Unsafe.ARRAY_LONG_INDEX_SCALE * destinationOffset, (long) length * Offsets.LONG);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #getBytes(long, long, long, byte[], int, int)
+     */
+    public static void getDoubles(long address, long mask, long index, double[] destination, int destinationOffset, int length) {
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        copyOut(address, mask, index, destination, Unsafe.ARRAY_DOUBLE_BASE_OFFSET + Unsafe.ARRAY_DOUBLE_INDEX_SCALE * destinationOffset, (long) length * Offsets.DOUBLE);
+    }
+
+    /**
+     * Points {@code views[0]} at the {@code length} bytes of the ring buffer at {@code address} starting at
+     * {@code index & mask}, and {@code views[1]} at the remaining ones if the end of the ring buffer is reached,
+     * without copying them. Only the position and the limit of the views are set, and their byte order is the
+     * native one.
+     * <p>
+     * {@code null} elements are replaced by new views of the whole ring buffer, which keep {@code owner} reachable
+     * and can be passed again to avoid producing garbage. Other elements must be such views of the same ring buffer.
+     *
+     * @param owner the object that frees the memory of the ring buffer once unreachable
+     * @return the number of views used, either 1 or 2
+     */
+    public static int view(long address, long mask, long index, long length, ByteBuffer[] views, Object owner) {
+        if (mask >= Integer.MAX_VALUE) {
+            throw new UnsupportedOperationException("The ring buffer is too large to be viewed.");
+        }
+        Assume.notGreater(length, mask + 1L);
+        index &= mask;
+        long firstLength = Math.min(length, mask + 1L - index);
+        views[0] = view(address, (int) mask + 1, views[0], (int) index, (int) firstLength, owner);
+        if (firstLength == length) {
+            return 1;
+        }
+        views[1] = view(address, (int) mask + 1, views[1], 0, (int) (length - firstLength), owner);
+        return 2;
+    }
+
+    private static ByteBuffer view(long address, int capacity, ByteBuffer view, int index, int length, Object owner) {
+        if (view == null) {
+            view = JAVA_NIO_ACCESS.newDirectByteBuffer(address, capacity, owner).order(ByteOrder.nativeOrder());
+        } else if (!view.isDirect() || getAddress(view) != address || view.capacity() != capacity) {
+            throw new IllegalArgumentException("The buffer must be a view of the ring buffer.");
+        }
+        view.limit(index + length).position(index);
+        return view;
+    }
+
+    private static void copyIn(long address, long mask, long index, Object sourceBase, long sourceOffset, long length) {
+        Assume.notGreater(length, mask + 1L);
+        index &= mask;
+        long firstLength = Math.min(length, mask + 1L - index);
+        UNSAFE.copyMemory(sourceBase, sourceOffset, null, address + index, firstLength);
+        if (firstLength != length) {
+            UNSAFE.copyMemory(sourceBase, sourceOffset + firstLength, null, address, length - firstLength);
+        }
+    }
+
+    private static void copyOut(long address, long mask, long index, Object destinationBase, long destinationOffset, long length) {
+        Assume.notGreater(length, mask + 1L);
+        index &= mask;
+        long firstLength = Math.min(length, mask + 1L - index);
+        UNSAFE.copyMemory(null, address + index, destinationBase, destinationOffset, firstLength);
+        if (firstLength != length) {
+            UNSAFE.copyMemory(null, address, destinationBase, destinationOffset + firstLength, length - firstLength);
+        }
+    }
 }
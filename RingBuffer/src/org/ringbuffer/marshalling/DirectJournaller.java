@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import org.ringbuffer.lang.Assume;
+
+/**
+ * Reads a blocking {@link DirectRingBuffer} in batches, appending each batch to a {@link Journal} before passing it
+ * to a handler, so that the writer cannot overwrite bytes that have not been journalled yet.
+ * <p>
+ * The journaller takes the place of the reader: if the ring buffer supports multiple readers, then the same
+ * synchronization requirements apply to {@link #journal(DirectBatchHandler)} as to the reader methods.
+ */
+public class DirectJournaller {
+    private final DirectRingBuffer ringBuffer;
+    private final Journal journal;
+
+    /**
+     * @param ringBuffer must be blocking, and not lock-free
+     * @param journal    its {@link Journal#getMaxBatchLength()} must not be lesser than the capacity of
+     *                   {@code ringBuffer}, so that a batch always holds all the bytes available and never ends
+     *                   in the middle of a record
+     */
+    public DirectJournaller(DirectRingBuffer ringBuffer, Journal journal) {
+        Assume.notLesser(journal.getMaxBatchLength(), ringBuffer.getCapacity());
+        this.ringBuffer = ringBuffer;
+        this.journal = journal;
+    }
+
+    public DirectRingBuffer getRingBuffer() {
+        return ringBuffer;
+    }
+
+    public Journal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Appends all the bytes currently available to the journal as one batch, without waiting, then passes them to
+     * {@code handler} and advances the read position once. The batch is copied like {@code readBytes()} does, so values
+     * must not be written across the end of the ring buffer with the single value methods: aligned values and the
+     * messages of a {@link DirectMessageRingBuffer} never are.
+     *
+     * @return the number of bytes journalled
+     */
+    public long journal(DirectBatchHandler handler) {
+        long size = ringBuffer.size();
+        if (size == 0L) {
+            return 0L;
+        }
+        long offset = ringBuffer.take(size);
+        ringBuffer.readBytes(offset, journal.claim((int) size), size);
+        journal.commit();
+        handler.onBatch(ringBuffer, offset, size);
+        ringBuffer.advance(offset + size);
+        return size;
+    }
+}
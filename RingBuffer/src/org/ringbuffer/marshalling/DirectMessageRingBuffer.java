@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import org.ringbuffer.lang.Assume;
+
+import static org.ringbuffer.marshalling.Offsets.*;
+
+/**
+ * Writes variable-length messages into a blocking {@link DirectRingBuffer}, each preceded by a header containing
+ * its length and type, so that readers do not need to know the layout of messages in advance.
+ * <p>
+ * Records are aligned to {@value #ALIGNMENT} bytes and never wrap around: if a record does not fit before the end of
+ * the buffer, then a padding record fills the remaining space and the record is written at the beginning.
+ * Therefore, the {@code write*()} and {@code read*()} methods of the ring buffer can be used with any offset
+ * inside a message.
+ * <p>
+ * If the ring buffer supports multiple writers or multiple readers, then external synchronization must be performed
+ * as for the ring buffer itself:
+ *
+ * <pre>{@code
+ * synchronized (ringBuffer) {
+ *     messages.write(...);
+ * }
+ *
+ * synchronized (ringBuffer.getReadMonitor()) {
+ *     messages.read(...);
+ * }
+ * }</pre>
+ */
+public class DirectMessageRingBuffer {
+    public static final int HEADER_LENGTH = 2 * INT;
+    public static final int ALIGNMENT = LONG;
+    public static final int PADDING_MSG_TYPE = -1;
+
+    private final DirectRingBuffer ringBuffer;
+    private final long capacity;
+    private final int maxMessageLength;
+
+    /**
+     * @param ringBuffer must be blocking, and not lock-free
+     */
+    public DirectMessageRingBuffer(DirectRingBuffer ringBuffer) {
+        this.ringBuffer = ringBuffer;
+        capacity = ringBuffer.getCapacity();
+        Assume.notLesser(capacity, 8L * ALIGNMENT);
+        maxMessageLength = (int) Math.min(capacity / 8L - HEADER_LENGTH, Integer.MAX_VALUE - ALIGNMENT);
+    }
+
+    public DirectRingBuffer getRingBuffer() {
+        return ringBuffer;
+    }
+
+    public int getMaxMessageLength() {
+        return maxMessageLength;
+    }
+
+    private static int recordLength(int length) {
+        return (HEADER_LENGTH + length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * Waits until there is enough space for a message of {@code length} bytes, and writes its header.
+     * The message must then be written with the {@code write*()} methods of the ring buffer,
+     * and published by calling {@link #commit(long)}.
+     *
+     * <pre>{@code
+     * long offset = messages.claim(ORDER, LONG + INT);
+     * ringBuffer.writeLong(offset, orderId);
+     * ringBuffer.writeInt(offset + LONG, quantity);
+     * messages.commit(offset);
+     * }</pre>
+     *
+     * @return the offset of the first byte of the message
+     */
+    public long claim(int msgType, int length) {
+        Assume.notLesser(msgType, 0);
+        Assume.notGreater(length, maxMessageLength);
+        int recordLength = recordLength(length);
+        long position = ringBuffer.next(recordLength);
+        long paddingLength = capacity - position;
+        if (paddingLength < recordLength) {
+            ringBuffer.next(paddingLength + recordLength);
+            ringBuffer.writeInt(position, (int) paddingLength - HEADER_LENGTH);
+            ringBuffer.writeInt(position + INT, PADDING_MSG_TYPE);
+            position = capacity;
+        }
+        ringBuffer.writeInt(position, length);
+        ringBuffer.writeInt(position + INT, msgType);
+        return position + HEADER_LENGTH;
+    }
+
+    /**
+     * Publishes the message claimed by {@link #claim(int, int)}, together with any padding before it.
+     */
+    public void commit(long offset) {
+        ringBuffer.put(offset - HEADER_LENGTH + recordLength(ringBuffer.readInt(offset - HEADER_LENGTH)));
+    }
+
+    public void write(int msgType, byte[] source, int sourceOffset, int length) {
+        long messageOffset = claim(msgType, length);
+        ringBuffer.writeBytes(messageOffset, source, sourceOffset, length);
+        commit(messageOffset);
+    }
+
+    /**
+     * Passes up to {@code limit} of the messages currently available to {@code handler}, without waiting,
+     * then advances the read position once for all of them.
+     *
+     * @return the number of messages read
+     */
+    public int read(DirectMessageHandler handler, int limit) {
+        long position = ringBuffer.tryTake(HEADER_LENGTH);
+        if (position == -1L) {
+            return 0;
+        }
+        long available = ringBuffer.size();
+        long bytesRead = 0L;
+        int count = 0;
+        while (bytesRead < available && count < limit) {
+            long recordPosition = position + bytesRead;
+            int length = ringBuffer.readInt(recordPosition);
+            int msgType = ringBuffer.readInt(recordPosition + INT);
+            if (msgType != PADDING_MSG_TYPE) {
+                handler.onMessage(msgType, ringBuffer, recordPosition + HEADER_LENGTH, length);
+                count++;
+            }
+            bytesRead += recordLength(length);
+        }
+        ringBuffer.advance(position + bytesRead);
+        return count;
+    }
+}
@@ -14,6 +14,14 @@
 
 package org.ringbuffer.marshalling;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock-free ring buffers, built with {@link DirectClearingRingBufferBuilder#withoutLocks() withoutLocks()}, release the space read by
+ * {@link #take(long)} as soon as it returns, and their writers never wait for readers, so a writer lapping a reader
+ * overwrites data that has not been read yet. Therefore, they do not support {@link #advance(long)} and
+ * {@link #getReadMonitor()}, which throw {@link UnsupportedOperationException}.
+ */
 public interface DirectRingBuffer extends AbstractDirectRingBuffer {
     /**
      * If the ring buffer supports multiple writers and is not lock-free, then external synchronization must be performed:
@@ -29,10 +37,40 @@ public interface DirectRingBuffer extends AbstractDirectRingBuffer {
     long next(long size);
 
     /**
-     * If the ring buffer is lock-free, then this method must not be called.
+     * Like {@link #next(long)}, but does not wait.
+     * If the ring buffer is lock-free, then it never fails, and returns the same offset as {@code next()},
+     * which may be any value.
+     *
+     * @return the offset, which is lesser than the capacity if the ring buffer is not lock-free, or {@code -1L}
+     * if there is not enough free space for {@code size} bytes
+     */
+    long tryNext(long size);
+
+    /**
+     * Like {@link #tryNext(long)}, but waits up to {@code timeout} for enough free space to become available.
+     * The timeout is measured with {@link System#nanoTime()}, and {@link Thread#onSpinWait()} is called in between
+     * attempts.
+     */
+    default long offer(long size, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long offset;
+        while ((offset = tryNext(size)) == -1L && System.nanoTime() - deadline < 0L) {
+            Thread.onSpinWait();
+        }
+        return offset;
+    }
+
+    /**
+     * @throws UnsupportedOperationException if the ring buffer is lock-free
      */
     void advance(long offset);
 
+    /**
+     * @throws UnsupportedOperationException if the ring buffer is lock-free
+     */
+    @Override
+    Object getReadMonitor();
+
     static DirectClearingRingBufferBuilder withCapacity(long capacity) {
         return new DirectClearingRingBufferBuilder(capacity);
     }
@@ -17,11 +17,22 @@ package org.ringbuffer.marshalling;
 import org.ringbuffer.AbstractRingBufferBuilder;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
+import java.nio.file.Path;
+
 public class DirectRingBufferBuilder extends AbstractDirectRingBufferBuilder<DirectRingBuffer> {
+    private Path sharedMemoryFile;
+
     DirectRingBufferBuilder(DirectClearingRingBufferBuilder builder) {
         super(builder);
     }
 
+    private DirectRingBufferBuilder(DirectRingBufferBuilder builder, long capacity) {
+        super(builder, capacity);
+        if (builder.sharedMemoryFile != null) {
+            throw new IllegalStateException("Shared memory ring buffers cannot be resized.");
+        }
+    }
+
     @Override
     public DirectRingBufferBuilder oneWriter() {
         super.oneWriter0();
@@ -73,8 +84,38 @@ public class DirectRingBufferBuilder extends AbstractDirectRingBufferBuilder<Dir
         return this;
     }
 
+    /**
+     * Maps the contents and the positions of the ring buffer from {@code file}, which is created if it does not exist,
+     * so that the writer and the reader can live in different processes: each one builds the ring buffer with the same
+     * capacity and options over the same file, preferably in {@code /dev/shm}.
+     * <p>
+     * Only one writer and one reader are supported, and parking wait strategies cannot be used.
+     * The file is not deleted when the ring buffer is garbage collected.
+     */
+    public DirectRingBufferBuilder sharedMemory(Path file) {
+        sharedMemoryFile = file;
+        return this;
+    }
+
+    DirectRingBufferBuilder copyWithCapacity(long capacity) {
+        return new DirectRingBufferBuilder(this, capacity);
+    }
+
+    SharedMemoryFile getSharedMemoryFile(int type) {
+        return new SharedMemoryFile(sharedMemoryFile, getCapacity(), type);
+    }
+
     @Override
     protected DirectRingBuffer create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (sharedMemoryFile != null) {
+            if (concurrency != RingBufferConcurrency.VOLATILE || getParkingBusyWaitStrategy() != null) {
+                throw new IllegalStateException("Shared memory ring buffers require one writer and one reader, and cannot park.");
+            }
+            if (type == RingBufferType.FAST) {
+                return new FastMappedDirectRingBuffer(this);
+            }
+            return new MappedDirectBlockingRingBuffer(this);
+        }
         switch (concurrency) {
             case VOLATILE:
                 switch (type) {
@@ -21,11 +21,19 @@ import org.ringbuffer.lang.Lang;
 import org.ringbuffer.wait.BusyWaitStrategy;
 import org.ringbuffer.wait.HintBusyWaitStrategy;
 
+import java.nio.ByteBuffer;
+
 import static org.ringbuffer.marshalling.HeapBuffer.*;
 
 @Contended
 class FastAtomicReadHeapRingBuffer extends FastHeapRingBuffer {
-    private static final long READ_POSITION = Lang.objectFieldOffset(FastAtomicReadHeapRingBuffer.class, "readPosition");
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = FastAtomicReadHeapRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
 
     private final int capacityMinusOne;
     private final byte[] buffer;
@@ -75,6 +83,23 @@ class FastAtomicReadHeapRingBuffer extends FastHeapRingBuffer {
         return readPosition;
     }
 
+    @Override
+    public int tryTake(int size) {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            if (AtomicBooleanArray.getAcquire(positionNotModified, index)) {
+                return -1;
+            }
+            int witness = AtomicInt.compareAndExchangeVolatile(this, READ_POSITION, readPosition, readPosition + size);
+            if (witness == readPosition) {
+                AtomicBooleanArray.setOpaque(positionNotModified, index, true);
+                return index;
+            }
+            readPosition = witness;
+        }
+    }
+
     @Override
     public void writeByte(int offset, byte value) {
         putByte(buffer, offset & capacityMinusOne, value);
@@ -115,6 +140,36 @@ class FastAtomicReadHeapRingBuffer extends FastHeapRingBuffer {
         putDouble(buffer, offset & capacityMinusOne, value);
     }
 
+    @Override
+    public void writeBytes(int offset, byte[] source, int sourceOffset, int length) {
+        putBytes(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeBytes(int offset, ByteBuffer source) {
+        putBytes(buffer, capacityMinusOne, offset, source);
+    }
+
+    @Override
+    public void writeBytes(int offset, long address, int length) {
+        putBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void writeInts(int offset, int[] source, int sourceOffset, int length) {
+        putInts(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeLongs(int offset, long[] source, int sourceOffset, int length) {
+        putLongs(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeDoubles(int offset, double[] source, int sourceOffset, int length) {
+        putDoubles(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
     @Override
     public byte readByte(int offset) {
         return getByte(buffer, offset & capacityMinusOne);
@@ -154,4 +209,44 @@ class FastAtomicReadHeapRingBuffer extends FastHeapRingBuffer {
     public double readDouble(int offset) {
         return getDouble(buffer, offset & capacityMinusOne);
     }
+
+    @Override
+    public void readBytes(int offset, byte[] destination, int destinationOffset, int length) {
+        getBytes(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readBytes(int offset, ByteBuffer destination) {
+        getBytes(buffer, capacityMinusOne, offset, destination);
+    }
+
+    @Override
+    public void readBytes(int offset, long address, int length) {
+        getBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void readInts(int offset, int[] destination, int destinationOffset, int length) {
+        getInts(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readLongs(int offset, long[] destination, int destinationOffset, int length) {
+        getLongs(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readDoubles(int offset, double[] destination, int destinationOffset, int length) {
+        getDoubles(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public int size() {
+        return size(AtomicInt.getOpaque(this, READ_POSITION), AtomicInt.getOpaque(this, WRITE_POSITION), capacityMinusOne + 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicBooleanArray.getAcquire(positionNotModified, AtomicInt.getOpaque(this, READ_POSITION) & capacityMinusOne);
+    }
 }
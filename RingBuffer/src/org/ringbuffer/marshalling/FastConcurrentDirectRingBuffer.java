@@ -21,6 +21,8 @@ import org.ringbuffer.lang.Lang;
 import org.ringbuffer.wait.BusyWaitStrategy;
 import org.ringbuffer.wait.HintBusyWaitStrategy;
 
+import java.nio.ByteBuffer;
+
 import static org.ringbuffer.marshalling.DirectBuffer.*;
 
 @Contended
@@ -79,6 +81,23 @@ class FastConcurrentDirectRingBuffer extends FastDirectRingBuffer {
         return readPosition;
     }
 
+    @Override
+    public long tryTake(long size) {
+        long readPosition = AtomicLong.getOpaque(this, READ_POSITION);
+        while (true) {
+            long index = readPosition & capacityMinusOne;
+            if (DirectAtomicBooleanArray.getAcquire(positionNotModified, index)) {
+                return -1L;
+            }
+            long witness = AtomicLong.compareAndExchangeVolatile(this, READ_POSITION, readPosition, readPosition + size);
+            if (witness == readPosition) {
+                DirectAtomicBooleanArray.setOpaque(positionNotModified, index, true);
+                return index;
+            }
+            readPosition = witness;
+        }
+    }
+
     @Override
     public void writeByte(long offset, byte value) {
         putByte(buffer, offset & capacityMinusOne, value);
@@ -119,6 +138,36 @@ class FastConcurrentDirectRingBuffer extends FastDirectRingBuffer {
         putDouble(buffer, offset & capacityMinusOne, value);
     }
 
+    @Override
+    public void writeBytes(long offset, byte[] source, int sourceOffset, int length) {
+        putBytes(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeBytes(long offset, ByteBuffer source) {
+        putBytes(buffer, capacityMinusOne, offset, source);
+    }
+
+    @Override
+    public void writeBytes(long offset, long address, long length) {
+        putBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void writeInts(long offset, int[] source, int sourceOffset, int length) {
+        putInts(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeLongs(long offset, long[] source, int sourceOffset, int length) {
+        putLongs(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeDoubles(long offset, double[] source, int sourceOffset, int length) {
+        putDoubles(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
     @Override
     public byte readByte(long offset) {
         return getByte(buffer, offset & capacityMinusOne);
@@ -158,4 +207,49 @@ class FastConcurrentDirectRingBuffer extends FastDirectRingBuffer {
     public double readDouble(long offset) {
         return getDouble(buffer, offset & capacityMinusOne);
     }
+
+    @Override
+    public void readBytes(long offset, byte[] destination, int destinationOffset, int length) {
+        getBytes(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readBytes(long offset, ByteBuffer destination) {
+        getBytes(buffer, capacityMinusOne, offset, destination);
+    }
+
+    @Override
+    public void readBytes(long offset, long address, long length) {
+        getBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void readInts(long offset, int[] destination, int destinationOffset, int length) {
+        getInts(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readLongs(long offset, long[] destination, int destinationOffset, int length) {
+        getLongs(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readDoubles(long offset, double[] destination, int destinationOffset, int length) {
+        getDoubles(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public int viewBytes(long offset, long length, ByteBuffer[] views) {
+        return view(buffer, capacityMinusOne, offset, length, views, this);
+    }
+
+    @Override
+    public long size() {
+        return size(AtomicLong.getOpaque(this, READ_POSITION), AtomicLong.getOpaque(this, WRITE_POSITION), capacityMinusOne + 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return DirectAtomicBooleanArray.getAcquire(positionNotModified, AtomicLong.getOpaque(this, READ_POSITION) & capacityMinusOne);
+    }
 }
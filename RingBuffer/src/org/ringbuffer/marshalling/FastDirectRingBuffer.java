@@ -14,6 +14,8 @@
 
 package org.ringbuffer.marshalling;
 
+import java.util.concurrent.TimeUnit;
+
 abstract class FastDirectRingBuffer implements DirectRingBuffer {
     @Override
     public Object getReadMonitor() {
@@ -21,17 +23,31 @@ abstract class FastDirectRingBuffer implements DirectRingBuffer {
     }
 
     @Override
-    public void advance(long offset) {
-        throw new UnsupportedOperationException();
+    public long tryNext(long size) {
+        return next(size);
     }
 
+    /**
+     * Never fails, and the offset returned by {@link #next(long)} may be {@code -1L}, so it is returned as is.
+     */
     @Override
-    public long size() {
-        throw new UnsupportedOperationException();
+    public long offer(long size, long timeout, TimeUnit unit) {
+        return next(size);
     }
 
     @Override
-    public boolean isEmpty() {
+    public void advance(long offset) {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * The positions are read independently of each other, so the result is clamped between 0 and {@code capacity}.
+     */
+    static long size(long readPosition, long writePosition, long capacity) {
+        long size = writePosition - readPosition;
+        if (size <= 0L) {
+            return 0L;
+        }
+        return Math.min(size, capacity);
+    }
 }
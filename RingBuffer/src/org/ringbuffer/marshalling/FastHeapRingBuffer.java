@@ -14,6 +14,8 @@
 
 package org.ringbuffer.marshalling;
 
+import java.util.concurrent.TimeUnit;
+
 abstract class FastHeapRingBuffer implements HeapRingBuffer {
     @Override
     public Object getReadMonitor() {
@@ -21,17 +23,31 @@ abstract class FastHeapRingBuffer implements HeapRingBuffer {
     }
 
     @Override
-    public void advance(int offset) {
-        throw new UnsupportedOperationException();
+    public int tryNext(int size) {
+        return next(size);
     }
 
+    /**
+     * Never fails, and the offset returned by {@link #next(int)} may be {@code -1}, so it is returned as is.
+     */
     @Override
-    public int size() {
-        throw new UnsupportedOperationException();
+    public int offer(int size, long timeout, TimeUnit unit) {
+        return next(size);
     }
 
     @Override
-    public boolean isEmpty() {
+    public void advance(int offset) {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * The positions are read independently of each other, so the result is clamped between 0 and {@code capacity}.
+     */
+    static int size(int readPosition, int writePosition, int capacity) {
+        int size = writePosition - readPosition;
+        if (size <= 0) {
+            return 0;
+        }
+        return Math.min(size, capacity);
+    }
 }
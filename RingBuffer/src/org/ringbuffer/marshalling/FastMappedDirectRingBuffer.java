@@ -0,0 +1,248 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.AtomicLong;
+import org.ringbuffer.concurrent.DirectAtomicBooleanArray;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+import java.nio.ByteBuffer;
+
+import static org.ringbuffer.marshalling.DirectBuffer.*;
+
+@Contended
+class FastMappedDirectRingBuffer extends FastDirectRingBuffer {
+    // Keeps the mapping alive
+    private final SharedMemoryFile file;
+    private final long capacityMinusOne;
+    private final long buffer;
+    private final long positionNotModified;
+    private final long readPosition;
+    private final long writePosition;
+
+    FastMappedDirectRingBuffer(DirectRingBufferBuilder builder) {
+        file = builder.getSharedMemoryFile(SharedMemoryFile.FAST);
+        capacityMinusOne = builder.getCapacityMinusOne();
+        buffer = file.getBuffer();
+        positionNotModified = file.getPositionNotModified();
+        readPosition = file.getReadPosition();
+        writePosition = file.getWritePosition();
+    }
+
+    @Override
+    public long getCapacity() {
+        return capacityMinusOne + 1L;
+    }
+
+    @Override
+    public long next(long size) {
+        long writePosition = AtomicLong.getPlain(null, this.writePosition);
+        AtomicLong.setOpaque(null, this.writePosition, writePosition + size);
+        return writePosition;
+    }
+
+    @Override
+    public void put(long offset) {
+        DirectAtomicBooleanArray.setRelease(positionNotModified, offset & capacityMinusOne, false);
+    }
+
+    @Override
+    public long take(long size) {
+        return take(size, HintBusyWaitStrategy.DEFAULT_INSTANCE);
+    }
+
+    @Override
+    public long take(long size, BusyWaitStrategy busyWaitStrategy) {
+        long position = AtomicLong.getPlain(null, this.readPosition);
+        long readPosition = position & capacityMinusOne;
+        AtomicLong.setOpaque(null, this.readPosition, position + size);
+        busyWaitStrategy.reset();
+        while (DirectAtomicBooleanArray.getAcquire(positionNotModified, readPosition)) {
+            busyWaitStrategy.tick();
+        }
+        DirectAtomicBooleanArray.setPlain(positionNotModified, readPosition, true);
+        return readPosition;
+    }
+
+    @Override
+    public long tryTake(long size) {
+        long position = AtomicLong.getPlain(null, this.readPosition);
+        long readPosition = position & capacityMinusOne;
+        if (DirectAtomicBooleanArray.getAcquire(positionNotModified, readPosition)) {
+            return -1L;
+        }
+        AtomicLong.setOpaque(null, this.readPosition, position + size);
+        DirectAtomicBooleanArray.setPlain(positionNotModified, readPosition, true);
+        return readPosition;
+    }
+
+    @Override
+    public void writeByte(long offset, byte value) {
+        putByte(buffer, offset & capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeChar(long offset, char value) {
+        putChar(buffer, offset & capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeShort(long offset, short value) {
+        putShort(buffer, offset & capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeInt(long offset, int value) {
+        putInt(buffer, offset & capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeLong(long offset, long value) {
+        putLong(buffer, offset & capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeBoolean(long offset, boolean value) {
+        putBoolean(buffer, offset & capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeFloat(long offset, float value) {
+        putFloat(buffer, offset & capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeDouble(long offset, double value) {
+        putDouble(buffer, offset & capacityMinusOne, value);
+    }
+
+    @Override
+    public void writeBytes(long offset, byte[] source, int sourceOffset, int length) {
+        putBytes(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeBytes(long offset, ByteBuffer source) {
+        putBytes(buffer, capacityMinusOne, offset, source);
+    }
+
+    @Override
+    public void writeBytes(long offset, long address, long length) {
+        putBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void writeInts(long offset, int[] source, int sourceOffset, int length) {
+        putInts(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeLongs(long offset, long[] source, int sourceOffset, int length) {
+        putLongs(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeDoubles(long offset, double[] source, int sourceOffset, int length) {
+        putDoubles(buffer, capacityMinusOne, offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public byte readByte(long offset) {
+        return getByte(buffer, offset & capacityMinusOne);
+    }
+
+    @Override
+    public char readChar(long offset) {
+        return getChar(buffer, offset & capacityMinusOne);
+    }
+
+    @Override
+    public short readShort(long offset) {
+        return getShort(buffer, offset & capacityMinusOne);
+    }
+
+    @Override
+    public int readInt(long offset) {
+        return getInt(buffer, offset & capacityMinusOne);
+    }
+
+    @Override
+    public long readLong(long offset) {
+        return getLong(buffer, offset & capacityMinusOne);
+    }
+
+    @Override
+    public boolean readBoolean(long offset) {
+        return getBoolean(buffer, offset & capacityMinusOne);
+    }
+
+    @Override
+    public float readFloat(long offset) {
+        return getFloat(buffer, offset & capacityMinusOne);
+    }
+
+    @Override
+    public double readDouble(long offset) {
+        return getDouble(buffer, offset & capacityMinusOne);
+    }
+
+    @Override
+    public void readBytes(long offset, byte[] destination, int destinationOffset, int length) {
+        getBytes(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readBytes(long offset, ByteBuffer destination) {
+        getBytes(buffer, capacityMinusOne, offset, destination);
+    }
+
+    @Override
+    public void readBytes(long offset, long address, long length) {
+        getBytes(buffer, capacityMinusOne, offset, address, length);
+    }
+
+    @Override
+    public void readInts(long offset, int[] destination, int destinationOffset, int length) {
+        getInts(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readLongs(long offset, long[] destination, int destinationOffset, int length) {
+        getLongs(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readDoubles(long offset, double[] destination, int destinationOffset, int length) {
+        getDoubles(buffer, capacityMinusOne, offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public int viewBytes(long offset, long length, ByteBuffer[] views) {
+        return view(buffer, capacityMinusOne, offset, length, views, this);
+    }
+
+    @Override
+    public long size() {
+        return size(AtomicLong.getOpaque(null, readPosition), AtomicLong.getOpaque(null, writePosition), capacityMinusOne + 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return DirectAtomicBooleanArray.getAcquire(positionNotModified, AtomicLong.getOpaque(null, readPosition) & capacityMinusOne);
+    }
+}
@@ -15,6 +15,10 @@
 package org.ringbuffer.marshalling;
 
 import org.ringbuffer.lang.Assume;
+import org.ringbuffer.system.Unsafe;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 import static org.ringbuffer.InternalUnsafe.UNSAFE;
 import static org.ringbuffer.concurrent.AtomicByteArray.elementOffset;
@@ -88,4 +92,156 @@ public class HeapBuffer {
     public static double getDouble(byte[] array, int index) {
         return UNSAFE.getDouble(array, elementOffset(index));
     }
+
+    /**
+     * Copies {@code length} bytes of {@code source} into {@code array}, starting at {@code index & mask}.
+     * If the end of the ring buffer is reached, then the remaining bytes are copied at the beginning of
+     * {@code array}, so {@link #getBytes(byte[], int, int, byte[], int, int)} with the same {@code index} reads them
+     * back even if they wrap around.
+     * At most {@code mask + 1} bytes can be copied, and the range of {@code source} is bounds checked.
+     */
+    public static void putBytes(byte[] array, int mask, int index, byte[] source, int sourceOffset, int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        copyIn(array, mask, index, source, Unsafe.ARRAY_BYTE_BASE_OFFSET + sourceOffset, length);
+    }
+
+    /**
+     * Copies the remaining bytes of {@code source}, and sets its position to its limit.
+     *
+     * @see #putBytes(byte[], int, int, byte[], int, int)
+     */
+    public static void putBytes(byte[] array, int mask, int index, ByteBuffer source) {
+        int length = source.remaining();
+        if (source.hasArray()) {
+            putBytes(array, mask, index, source.array(), source.arrayOffset() + source.position(), length);
+        } else if (source.isDirect()) {
+            copyIn(array, mask, index, null, DirectBuffer.getAddress(source) + source.position(), length);
+        } else {
+            Assume.notGreater(length, mask + 1);
+            for (int i = 0; i < length; i++) {
+                putByte(array, (index + i) & mask, source.get(source.position() + i));
+            }
+        }
+        source.position(source.limit());
+    }
+
+    /**
+     * @see #putBytes(byte[], int, int, byte[], int, int)
+     */
+    public static void putBytes(byte[] array, int mask, int index, long address, int length) {
+        copyIn(array, mask, index, null, address, length);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #putBytes(byte[], int, int, byte[], int, int)
+     */
+    public static void putInts(byte[] array, int mask, int index, int[] source, int sourceOffset, int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        copyIn(array, mask, index, source, Unsafe.ARRAY_INT_BASE_OFFSET + Unsafe.ARRAY_INT_INDEX_SCALE * sourceOffset, (long) length * Offsets.INT);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #putBytes(byte[], int, int, byte[], int, int)
+     */
+    public static void putLongs(byte[] array, int mask, int index, long[] source, int sourceOffset, int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        copyIn(array, mask, index, source, Unsafe.ARRAY_LONG_BASE_OFFSET + Unsafe.ARRAY_LONG_INDEX_SCALE * sourceOffset, (long) length * Offsets.LONG);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #putBytes(byte[], int, int, byte[], int, int)
+     */
+    public static void putDoubles(byte[] array, int mask, int index, double[] source, int sourceOffset, int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        copyIn(array, mask, index, source, Unsafe.ARRAY_DOUBLE_BASE_OFFSET + Unsafe.ARRAY_DOUBLE_INDEX_SCALE * sourceOffset, (long) length * Offsets.DOUBLE);
+    }
+
+    /**
+     * Copies {@code length} bytes of {@code array}, starting at {@code index & mask}, into {@code destination}.
+     * If the end of the ring buffer is reached, then the remaining bytes are copied from the beginning of
+     * {@code array}.
+     *
+     * @see #putBytes(byte[], int, int, byte[], int, int)
+     */
+    public static void getBytes(byte[] array, int mask, int index, byte[] destination, int destinationOffset, int length) {
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        copyOut(array, mask, index, destination, Unsafe.ARRAY_BYTE_BASE_OFFSET + destinationOffset, length);
+    }
+
+    /**
+     * Fills the remaining bytes of {@code destination}, and sets its position to its limit.
+     *
+     * @see #getBytes(byte[], int, int, byte[], int, int)
+     */
+    public static void getBytes(byte[] array, int mask, int index, ByteBuffer destination) {
+        int length = destination.remaining();
+        if (destination.hasArray()) {
+            getBytes(array, mask, index, destination.array(), destination.arrayOffset() + destination.position(), length);
+        } else if (destination.isDirect() && !destination.isReadOnly()) {
+            copyOut(array, mask, index, null, DirectBuffer.getAddress(destination) + destination.position(), length);
+        } else {
+            Assume.notGreater(length, mask + 1);
+            for (int i = 0; i < length; i++) {
+                destination.put(destination.position() + i, getByte(array, (index + i) & mask));
+            }
+        }
+        destination.position(destination.limit());
+    }
+
+    /**
+     * @see #getBytes(byte[], int, int, byte[], int, int)
+     */
+    public static void getBytes(byte[] array, int mask, int index, long address, int length) {
+        copyOut(array, mask, index, null, address, length);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #getBytes(byte[], int, int, byte[], int, int)
+     */
+    public static void getInts(byte[] array, int mask, int index, int[] destination, int destinationOffset, int length) {
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        copyOut(array, mask, index, destination, Unsafe.ARRAY_INT_BASE_OFFSET + Unsafe.ARRAY_INT_INDEX_SCALE * destinationOffset, (long) length * Offsets.INT);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #getBytes(byte[], int, int, byte[], int, int)
+     */
+    public static void getLongs(byte[] array, int mask, int index, long[] destination, int destinationOffset, int length) {
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        copyOut(array, mask, index, destination, Unsafe.ARRAY_LONG_BASE_OFFSET + Unsafe.ARRAY_LONG_INDEX_SCALE * destinationOffset, (long) length * Offsets.LONG);
+    }
+
+    /**
+     * @param length the number of elements
+     * @see #getBytes(byte[], int, int, byte[], int, int)
+     */
+    public static void getDoubles(byte[] array, int mask, int index, double[] destination, int destinationOffset, int length) {
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        copyOut(array, mask, index, destination, Unsafe.ARRAY_DOUBLE_BASE_OFFSET + Unsafe.ARRAY_DOUBLE_INDEX_SCALE * destinationOffset, (long) length * Offsets.DOUBLE);
+    }
+
+    private static void copyIn(byte[] array, int mask, int index, Object sourceBase, long sourceOffset, long length) {
+        Assume.notGreater(length, mask + 1L);
+        index &= mask;
+        long firstLength = Math.min(length, mask + 1L - index);
+        UNSAFE.copyMemory(sourceBase, sourceOffset, array, elementOffset(index), firstLength);
+        if (firstLength != length) {
+            UNSAFE.copyMemory(sourceBase, sourceOffset + firstLength, array, elementOffset(0), length - firstLength);
+        }
+    }
+
+    private static void copyOut(byte[] array, int mask, int index, Object destinationBase, long destinationOffset, long length) {
+        Assume.notGreater(length, mask + 1L);
+        index &= mask;
+        long firstLength = Math.min(length, mask + 1L - index);
+        UNSAFE.copyMemory(array, elementOffset(index), destinationBase, destinationOffset, firstLength);
+        if (firstLength != length) {
+            UNSAFE.copyMemory(array, elementOffset(0), destinationBase, destinationOffset + firstLength, length - firstLength);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+@FunctionalInterface
+public interface HeapMessageHandler {
+    /**
+     * @param offset the offset of the first byte of the message, to be passed to the {@code read*()} methods
+     *               of {@code ringBuffer}
+     * @param length the length of the message in bytes
+     */
+    void onMessage(int msgType, HeapRingBuffer ringBuffer, int offset, int length);
+}
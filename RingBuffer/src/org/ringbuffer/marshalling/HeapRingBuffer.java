@@ -14,6 +14,14 @@
 
 package org.ringbuffer.marshalling;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock-free ring buffers, built with {@link HeapClearingRingBufferBuilder#withoutLocks() withoutLocks()}, release the space read by
+ * {@link #take(int)} as soon as it returns, and their writers never wait for readers, so a writer lapping a reader
+ * overwrites data that has not been read yet. Therefore, they do not support {@link #advance(int)} and
+ * {@link #getReadMonitor()}, which throw {@link UnsupportedOperationException}.
+ */
 public interface HeapRingBuffer extends AbstractHeapRingBuffer {
     /**
      * If the ring buffer supports multiple writers and is not lock-free, then external synchronization must be performed:
@@ -29,10 +37,40 @@ public interface HeapRingBuffer extends AbstractHeapRingBuffer {
     int next(int size);
 
     /**
-     * If the ring buffer is lock-free, then this method must not be called.
+     * Like {@link #next(int)}, but does not wait.
+     * If the ring buffer is lock-free, then it never fails, and returns the same offset as {@code next()},
+     * which may be any value.
+     *
+     * @return the offset, which is lesser than the capacity if the ring buffer is not lock-free, or {@code -1}
+     * if there is not enough free space for {@code size} bytes
+     */
+    int tryNext(int size);
+
+    /**
+     * Like {@link #tryNext(int)}, but waits up to {@code timeout} for enough free space to become available.
+     * The timeout is measured with {@link System#nanoTime()}, and {@link Thread#onSpinWait()} is called in between
+     * attempts.
+     */
+    default int offer(int size, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int offset;
+        while ((offset = tryNext(size)) == -1 && System.nanoTime() - deadline < 0L) {
+            Thread.onSpinWait();
+        }
+        return offset;
+    }
+
+    /**
+     * @throws UnsupportedOperationException if the ring buffer is lock-free
      */
     void advance(int offset);
 
+    /**
+     * @throws UnsupportedOperationException if the ring buffer is lock-free
+     */
+    @Override
+    Object getReadMonitor();
+
     static HeapClearingRingBufferBuilder withCapacity(int capacity) {
         return new HeapClearingRingBufferBuilder(capacity);
     }
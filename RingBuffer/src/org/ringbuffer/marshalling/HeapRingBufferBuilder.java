@@ -22,6 +22,10 @@ public class HeapRingBufferBuilder extends AbstractHeapRingBufferBuilder<HeapRin
         super(builder);
     }
 
+    private HeapRingBufferBuilder(HeapRingBufferBuilder builder, int capacity) {
+        super(builder, capacity);
+    }
+
     @Override
     public HeapRingBufferBuilder oneWriter() {
         super.oneWriter0();
@@ -73,6 +77,10 @@ public class HeapRingBufferBuilder extends AbstractHeapRingBufferBuilder<HeapRin
         return this;
     }
 
+    HeapRingBufferBuilder copyWithCapacity(int capacity) {
+        return new HeapRingBufferBuilder(this, capacity);
+    }
+
     @Override
     protected HeapRingBuffer create(RingBufferConcurrency concurrency, RingBufferType type) {
         switch (concurrency) {
@@ -0,0 +1,251 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.concurrent.AtomicLong;
+import org.ringbuffer.lang.Assume;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Reference;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.*;
+import static org.ringbuffer.marshalling.Offsets.*;
+
+/**
+ * Append-only journal of the bytes read from a marshalling ring buffer, stored in memory-mapped segment files
+ * of {@code segmentLength} bytes, so that appending a batch costs a copy and no system call.
+ * Batches are appended by a {@link HeapJournaller} or a {@link DirectJournaller}.
+ * Segment files are named after their zero-padded index, and other files in the directory are ignored.
+ * <p>
+ * Each batch is preceded by a header containing its timestamp, taken with {@link System#currentTimeMillis()},
+ * and its length, which is published last, so that {@link #replay(long, long, HeapRingBuffer) replay()} can be
+ * called from another thread or process while batches are being appended.
+ * Segments are not forced to the storage device unless {@link #force()} is called.
+ */
+public class Journal {
+    public static final int HEADER_LENGTH = LONG + 2 * INT;
+    public static final int ALIGNMENT = LONG;
+
+    private static final long TIMESTAMP = 0L;
+    private static final long LENGTH = LONG;
+    private static final int NEXT_SEGMENT = -1;
+    private static final String SUFFIX = ".journal";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("\\d{19}" + Pattern.quote(SUFFIX));
+
+    private final Path directory;
+    private final int segmentLength;
+    private final int maxBatchLength;
+
+    private long segmentIndex;
+    private MappedByteBuffer segment;
+    private long segmentAddress;
+    private int position;
+    private int claimedLength;
+
+    /**
+     * Opens the journal stored in {@code directory}, which is created if it does not exist, and resumes appending
+     * after the last batch.
+     *
+     * @param segmentLength must be a multiple of {@value #ALIGNMENT}
+     */
+    public Journal(Path directory, int segmentLength) {
+        Assume.notLesser(segmentLength, 2 * HEADER_LENGTH);
+        if (segmentLength % ALIGNMENT != 0) {
+            throw new IllegalArgumentException("The segment length must be a multiple of " + ALIGNMENT + ": " + segmentLength);
+        }
+        this.directory = directory;
+        this.segmentLength = segmentLength;
+        maxBatchLength = segmentLength - HEADER_LENGTH;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long[] indexes = segmentIndexes();
+        if (indexes.length == 0) {
+            openSegment(0L);
+        } else {
+            openSegment(indexes[indexes.length - 1]);
+            position = endOfBatches(segmentAddress, segmentLength);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int getSegmentLength() {
+        return segmentLength;
+    }
+
+    public int getMaxBatchLength() {
+        return maxBatchLength;
+    }
+
+    private long[] segmentIndexes() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> SEGMENT_NAME.matcher(name).matches())
+                    .mapToLong(name -> Long.parseLong(name.substring(0, name.length() - SUFFIX.length())))
+                    .sorted()
+                    .toArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentFile(long index) {
+        return directory.resolve(String.format("%019d", index) + SUFFIX);
+    }
+
+    private MappedByteBuffer map(long index, FileChannel.MapMode mode) {
+        if (mode == FileChannel.MapMode.READ_WRITE) {
+            try (FileChannel channel = FileChannel.open(segmentFile(index), CREATE, READ, WRITE)) {
+                return channel.map(mode, 0L, segmentLength);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(segmentFile(index), READ)) {
+            return channel.map(mode, 0L, Math.min(channel.size(), segmentLength));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void openSegment(long index) {
+        segmentIndex = index;
+        segment = map(index, FileChannel.MapMode.READ_WRITE);
+        segmentAddress = DirectBuffer.getAddress(segment);
+        position = 0;
+    }
+
+    private static int recordLength(int length) {
+        return (HEADER_LENGTH + length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * @return the position after the last published batch
+     */
+    private static int endOfBatches(long address, int segmentLength) {
+        int position = 0;
+        while (segmentLength - position >= HEADER_LENGTH) {
+            int length = AtomicInt.getAcquire(null, address + position + LENGTH);
+            if (length <= 0) {
+                break;
+            }
+            position += recordLength(length);
+        }
+        return position;
+    }
+
+    /**
+     * Reserves space for a batch of {@code length} bytes, rolling to a new segment if needed.
+     *
+     * @return the address at which the batch must be copied before calling {@link #commit()}
+     */
+    long claim(int length) {
+        Assume.notGreater(length, maxBatchLength);
+        if (segmentLength - position < recordLength(length)) {
+            if (segmentLength - position >= HEADER_LENGTH) {
+                AtomicInt.setRelease(null, segmentAddress + position + LENGTH, NEXT_SEGMENT);
+            }
+            openSegment(segmentIndex + 1L);
+        }
+        claimedLength = length;
+        return segmentAddress + position + HEADER_LENGTH;
+    }
+
+    void commit() {
+        long header = segmentAddress + position;
+        AtomicLong.setPlain(null, header + TIMESTAMP, System.currentTimeMillis());
+        AtomicInt.setRelease(null, header + LENGTH, claimedLength);
+        position += recordLength(claimedLength);
+    }
+
+    /**
+     * Forces the current segment to the storage device.
+     */
+    public void force() {
+        segment.force();
+    }
+
+    /**
+     * Writes into {@code target}, in order, the bytes of the batches whose timestamp is not lesser than
+     * {@code fromMillis} and lesser than {@code toMillis}, waiting for space to become available.
+     * Each batch is published at once, so that the reader of {@code target} never sees part of a record.
+     * <p>
+     * {@code target} must be blocking, and not lock-free, and it must not be written concurrently.
+     * Its capacity must be greater than the length of every replayed batch, which always holds if it has at least
+     * the capacity of the journalled ring buffer.
+     * Offsets recorded inside the bytes, such as the padding records of a {@link HeapMessageRingBuffer}, are only
+     * preserved if {@code target} has the same capacity as the journalled ring buffer and is replayed from
+     * the first batch.
+     */
+    public void replay(long fromMillis, long toMillis, HeapRingBuffer target) {
+        replay(fromMillis, toMillis, (address, length) -> {
+            Assume.lesser(length, target.getCapacity());
+            int offset = target.next((int) length);
+            target.writeBytes(offset, address, (int) length);
+            target.put(offset + (int) length);
+        });
+    }
+
+    /**
+     * Like {@link #replay(long, long, HeapRingBuffer)}.
+     */
+    public void replay(long fromMillis, long toMillis, DirectRingBuffer target) {
+        replay(fromMillis, toMillis, (address, length) -> {
+            Assume.lesser(length, target.getCapacity());
+            long offset = target.next(length);
+            target.writeBytes(offset, address, length);
+            target.put(offset + length);
+        });
+    }
+
+    private void replay(long fromMillis, long toMillis, BatchConsumer consumer) {
+        for (long index : segmentIndexes()) {
+            MappedByteBuffer segment = map(index, FileChannel.MapMode.READ_ONLY);
+            long address = DirectBuffer.getAddress(segment);
+            int segmentLength = segment.capacity();
+            int position = 0;
+            while (segmentLength - position >= HEADER_LENGTH) {
+                int length = AtomicInt.getAcquire(null, address + position + LENGTH);
+                if (length <= 0) {
+                    break;
+                }
+                long timestamp = AtomicLong.getPlain(null, address + position + TIMESTAMP);
+                if (timestamp >= fromMillis && timestamp < toMillis) {
+                    consumer.accept(address + position + HEADER_LENGTH, length);
+                }
+                position += recordLength(length);
+            }
+            Reference.reachabilityFence(segment);
+        }
+    }
+
+    private interface BatchConsumer {
+        void accept(long address, long length);
+    }
+}
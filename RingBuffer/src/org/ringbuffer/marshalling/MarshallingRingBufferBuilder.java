@@ -16,6 +16,7 @@ package org.ringbuffer.marshalling;
 
 import org.ringbuffer.AbstractRingBufferBuilder;
 import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.ParkingBusyWaitStrategy;
 
 abstract class MarshallingRingBufferBuilder<T> extends AbstractRingBufferBuilder<T> {
     MarshallingRingBufferBuilder() {
@@ -34,4 +35,9 @@ abstract class MarshallingRingBufferBuilder<T> extends AbstractRingBufferBuilder
     protected BusyWaitStrategy getReadBusyWaitStrategy() {
         return super.getReadBusyWaitStrategy();
     }
+
+    @Override
+    protected ParkingBusyWaitStrategy getParkingBusyWaitStrategy() {
+        return super.getParkingBusyWaitStrategy();
+    }
 }
@@ -0,0 +1,385 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.Atomic;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Allows to change the capacity while writers and readers are running.
+ * <p>
+ * Each capacity is a generation, which is a ring buffer built with the same settings.
+ * {@link #resize(long)} builds a new generation and makes it pending: the next call to {@link #next(long)} moves writers
+ * into it, and {@link #put(long)} and the write methods keep using the generation of the last {@code next()}, so a resize
+ * can happen from any thread while a writer is between {@code next()} and {@code put()}. Readers keep reading from
+ * the old generation until it is empty, and then move to the new one.
+ * <p>
+ * Generations are published with a release store and loaded with an acquire load, so a single writer and a single
+ * reader take no lock, and until a resize happens, each call costs one more field load than using the ring buffer
+ * directly, and {@code next()} an acquire load as well. Offsets are only valid in the generation they were obtained
+ * from, so if the ring buffer supports multiple writers or multiple readers, then external synchronization must be
+ * performed, even if it is lock-free:
+ *
+ * <pre>{@code
+ * synchronized (ringBuffer) {
+ *     long offset = ringBuffer.next(...);
+ *     // Write data
+ *     ringBuffer.put(...);
+ * }
+ *
+ * synchronized (ringBuffer.getReadMonitor()) {
+ *     long offset = ringBuffer.take(...);
+ *     // Read data
+ *     ringBuffer.advance(...); // If needed
+ * }
+ * }</pre>
+ */
+@Contended
+public class ResizableDirectRingBuffer implements DirectRingBuffer {
+    private static final long LAST_GENERATION, READ_GENERATION;
+
+    static {
+        final Class<?> clazz = ResizableDirectRingBuffer.class;
+        LAST_GENERATION = Lang.objectFieldOffset(clazz, "lastGeneration");
+        READ_GENERATION = Lang.objectFieldOffset(clazz, "readGeneration");
+    }
+
+    private final DirectRingBufferBuilder builder;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+    private final Object readMonitor = new Object();
+    private final Object resizeMonitor = new Object();
+
+    @Contended
+    private Generation lastGeneration;
+    @Contended
+    private Generation writeGeneration;
+    @Contended
+    private Generation readGeneration;
+
+    public ResizableDirectRingBuffer(DirectRingBufferBuilder builder) {
+        this.builder = builder;
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        writeGeneration = new Generation(builder.build());
+        readGeneration = writeGeneration;
+        lastGeneration = writeGeneration;
+    }
+
+    /**
+     * @return the capacity given to the last {@link #resize(long)}, or the initial one
+     */
+    @Override
+    public long getCapacity() {
+        return Atomic.<Generation>getAcquire(this, LAST_GENERATION).ringBuffer.getCapacity();
+    }
+
+    /**
+     * Can be called from any thread, even while writers and readers are running. It does not synchronize on the
+     * ring buffer, so it does not wait for writers that do.
+     */
+    public void resize(long capacity) {
+        Generation generation = new Generation(builder.copyWithCapacity(capacity).build());
+        synchronized (resizeMonitor) {
+            lastGeneration.setPending(generation);
+            Atomic.setRelease(this, LAST_GENERATION, generation);
+        }
+    }
+
+    /**
+     * Moves writers into the pending generation, if any. Everything put into the current generation has been
+     * published, so it is linked to the pending one for readers.
+     */
+    private DirectRingBuffer nextWriteGeneration() {
+        Generation generation = writeGeneration;
+        Generation pending = generation.getPending();
+        if (pending == null) {
+            return generation.ringBuffer;
+        }
+        do {
+            generation.setNext(pending);
+            generation = pending;
+        } while ((pending = generation.getPending()) != null);
+        writeGeneration = generation;
+        return generation.ringBuffer;
+    }
+
+    private Generation getReadGeneration() {
+        return Atomic.getAcquire(this, READ_GENERATION);
+    }
+
+    @Override
+    public long next(long size) {
+        return nextWriteGeneration().next(size);
+    }
+
+    @Override
+    public long tryNext(long size) {
+        return nextWriteGeneration().tryNext(size);
+    }
+
+    @Override
+    public void put(long offset) {
+        writeGeneration.ringBuffer.put(offset);
+    }
+
+    @Override
+    public long take(long size) {
+        return take(size, readBusyWaitStrategy);
+    }
+
+    @Override
+    public long take(long size, BusyWaitStrategy busyWaitStrategy) {
+        long offset;
+        busyWaitStrategy.reset();
+        while ((offset = tryTake(size)) == -1L) {
+            busyWaitStrategy.tick();
+        }
+        return offset;
+    }
+
+    @Override
+    public long tryTake(long size) {
+        Generation generation = getReadGeneration();
+        while (true) {
+            long offset = generation.ringBuffer.tryTake(size);
+            if (offset != -1L) {
+                return offset;
+            }
+            Generation next = generation.getNext();
+            if (next == null) {
+                return -1L;
+            }
+            // The next generation is published after the last data written into this one
+            offset = generation.ringBuffer.tryTake(size);
+            if (offset != -1L || !generation.ringBuffer.isEmpty()) {
+                return offset;
+            }
+            Atomic.setRelease(this, READ_GENERATION, next);
+            generation = next;
+        }
+    }
+
+    @Override
+    public void advance(long offset) {
+        getReadGeneration().ringBuffer.advance(offset);
+    }
+
+    @Override
+    public long size() {
+        long size = 0;
+        for (Generation generation = getReadGeneration(); generation != null; generation = generation.getNext()) {
+            size += generation.ringBuffer.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Generation generation = getReadGeneration(); generation != null; generation = generation.getNext()) {
+            if (!generation.ringBuffer.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return readMonitor;
+    }
+
+    @Override
+    public void writeByte(long offset, byte value) {
+        writeGeneration.ringBuffer.writeByte(offset, value);
+    }
+
+    @Override
+    public void writeChar(long offset, char value) {
+        writeGeneration.ringBuffer.writeChar(offset, value);
+    }
+
+    @Override
+    public void writeShort(long offset, short value) {
+        writeGeneration.ringBuffer.writeShort(offset, value);
+    }
+
+    @Override
+    public void writeInt(long offset, int value) {
+        writeGeneration.ringBuffer.writeInt(offset, value);
+    }
+
+    @Override
+    public void writeLong(long offset, long value) {
+        writeGeneration.ringBuffer.writeLong(offset, value);
+    }
+
+    @Override
+    public void writeBoolean(long offset, boolean value) {
+        writeGeneration.ringBuffer.writeBoolean(offset, value);
+    }
+
+    @Override
+    public void writeFloat(long offset, float value) {
+        writeGeneration.ringBuffer.writeFloat(offset, value);
+    }
+
+    @Override
+    public void writeDouble(long offset, double value) {
+        writeGeneration.ringBuffer.writeDouble(offset, value);
+    }
+
+    @Override
+    public void writeBytes(long offset, byte[] source, int sourceOffset, int length) {
+        writeGeneration.ringBuffer.writeBytes(offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeBytes(long offset, ByteBuffer source) {
+        writeGeneration.ringBuffer.writeBytes(offset, source);
+    }
+
+    @Override
+    public void writeBytes(long offset, long address, long length) {
+        writeGeneration.ringBuffer.writeBytes(offset, address, length);
+    }
+
+    @Override
+    public void writeInts(long offset, int[] source, int sourceOffset, int length) {
+        writeGeneration.ringBuffer.writeInts(offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeLongs(long offset, long[] source, int sourceOffset, int length) {
+        writeGeneration.ringBuffer.writeLongs(offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeDoubles(long offset, double[] source, int sourceOffset, int length) {
+        writeGeneration.ringBuffer.writeDoubles(offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public byte readByte(long offset) {
+        return getReadGeneration().ringBuffer.readByte(offset);
+    }
+
+    @Override
+    public char readChar(long offset) {
+        return getReadGeneration().ringBuffer.readChar(offset);
+    }
+
+    @Override
+    public short readShort(long offset) {
+        return getReadGeneration().ringBuffer.readShort(offset);
+    }
+
+    @Override
+    public int readInt(long offset) {
+        return getReadGeneration().ringBuffer.readInt(offset);
+    }
+
+    @Override
+    public long readLong(long offset) {
+        return getReadGeneration().ringBuffer.readLong(offset);
+    }
+
+    @Override
+    public boolean readBoolean(long offset) {
+        return getReadGeneration().ringBuffer.readBoolean(offset);
+    }
+
+    @Override
+    public float readFloat(long offset) {
+        return getReadGeneration().ringBuffer.readFloat(offset);
+    }
+
+    @Override
+    public double readDouble(long offset) {
+        return getReadGeneration().ringBuffer.readDouble(offset);
+    }
+
+    @Override
+    public void readBytes(long offset, byte[] destination, int destinationOffset, int length) {
+        getReadGeneration().ringBuffer.readBytes(offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readBytes(long offset, ByteBuffer destination) {
+        getReadGeneration().ringBuffer.readBytes(offset, destination);
+    }
+
+    @Override
+    public void readBytes(long offset, long address, long length) {
+        getReadGeneration().ringBuffer.readBytes(offset, address, length);
+    }
+
+    @Override
+    public void readInts(long offset, int[] destination, int destinationOffset, int length) {
+        getReadGeneration().ringBuffer.readInts(offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readLongs(long offset, long[] destination, int destinationOffset, int length) {
+        getReadGeneration().ringBuffer.readLongs(offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readDoubles(long offset, double[] destination, int destinationOffset, int length) {
+        getReadGeneration().ringBuffer.readDoubles(offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public int viewBytes(long offset, long length, ByteBuffer[] views) {
+        return getReadGeneration().ringBuffer.viewBytes(offset, length, views);
+    }
+
+    private static class Generation {
+        private static final long PENDING, NEXT;
+
+        static {
+            final Class<?> clazz = Generation.class;
+            PENDING = Lang.objectFieldOffset(clazz, "pending");
+            NEXT = Lang.objectFieldOffset(clazz, "next");
+        }
+
+        final DirectRingBuffer ringBuffer;
+        private Generation pending;
+        private Generation next;
+
+        Generation(DirectRingBuffer ringBuffer) {
+            this.ringBuffer = ringBuffer;
+        }
+
+        Generation getPending() {
+            return Atomic.getAcquire(this, PENDING);
+        }
+
+        void setPending(Generation pending) {
+            Atomic.setRelease(this, PENDING, pending);
+        }
+
+        Generation getNext() {
+            return Atomic.getAcquire(this, NEXT);
+        }
+
+        void setNext(Generation next) {
+            Atomic.setRelease(this, NEXT, next);
+        }
+    }
+}
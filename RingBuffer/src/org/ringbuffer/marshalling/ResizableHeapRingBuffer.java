@@ -0,0 +1,380 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.Atomic;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Allows to change the capacity while writers and readers are running.
+ * <p>
+ * Each capacity is a generation, which is a ring buffer built with the same settings.
+ * {@link #resize(int)} builds a new generation and makes it pending: the next call to {@link #next(int)} moves writers
+ * into it, and {@link #put(int)} and the write methods keep using the generation of the last {@code next()}, so a resize
+ * can happen from any thread while a writer is between {@code next()} and {@code put()}. Readers keep reading from
+ * the old generation until it is empty, and then move to the new one.
+ * <p>
+ * Generations are published with a release store and loaded with an acquire load, so a single writer and a single
+ * reader take no lock, and until a resize happens, each call costs one more field load than using the ring buffer
+ * directly, and {@code next()} an acquire load as well. Offsets are only valid in the generation they were obtained
+ * from, so if the ring buffer supports multiple writers or multiple readers, then external synchronization must be
+ * performed, even if it is lock-free:
+ *
+ * <pre>{@code
+ * synchronized (ringBuffer) {
+ *     int offset = ringBuffer.next(...);
+ *     // Write data
+ *     ringBuffer.put(...);
+ * }
+ *
+ * synchronized (ringBuffer.getReadMonitor()) {
+ *     int offset = ringBuffer.take(...);
+ *     // Read data
+ *     ringBuffer.advance(...); // If needed
+ * }
+ * }</pre>
+ */
+@Contended
+public class ResizableHeapRingBuffer implements HeapRingBuffer {
+    private static final long LAST_GENERATION, READ_GENERATION;
+
+    static {
+        final Class<?> clazz = ResizableHeapRingBuffer.class;
+        LAST_GENERATION = Lang.objectFieldOffset(clazz, "lastGeneration");
+        READ_GENERATION = Lang.objectFieldOffset(clazz, "readGeneration");
+    }
+
+    private final HeapRingBufferBuilder builder;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+    private final Object readMonitor = new Object();
+    private final Object resizeMonitor = new Object();
+
+    @Contended
+    private Generation lastGeneration;
+    @Contended
+    private Generation writeGeneration;
+    @Contended
+    private Generation readGeneration;
+
+    public ResizableHeapRingBuffer(HeapRingBufferBuilder builder) {
+        this.builder = builder;
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        writeGeneration = new Generation(builder.build());
+        readGeneration = writeGeneration;
+        lastGeneration = writeGeneration;
+    }
+
+    /**
+     * @return the capacity given to the last {@link #resize(int)}, or the initial one
+     */
+    @Override
+    public int getCapacity() {
+        return Atomic.<Generation>getAcquire(this, LAST_GENERATION).ringBuffer.getCapacity();
+    }
+
+    /**
+     * Can be called from any thread, even while writers and readers are running. It does not synchronize on the
+     * ring buffer, so it does not wait for writers that do.
+     */
+    public void resize(int capacity) {
+        Generation generation = new Generation(builder.copyWithCapacity(capacity).build());
+        synchronized (resizeMonitor) {
+            lastGeneration.setPending(generation);
+            Atomic.setRelease(this, LAST_GENERATION, generation);
+        }
+    }
+
+    /**
+     * Moves writers into the pending generation, if any. Everything put into the current generation has been
+     * published, so it is linked to the pending one for readers.
+     */
+    private HeapRingBuffer nextWriteGeneration() {
+        Generation generation = writeGeneration;
+        Generation pending = generation.getPending();
+        if (pending == null) {
+            return generation.ringBuffer;
+        }
+        do {
+            generation.setNext(pending);
+            generation = pending;
+        } while ((pending = generation.getPending()) != null);
+        writeGeneration = generation;
+        return generation.ringBuffer;
+    }
+
+    private Generation getReadGeneration() {
+        return Atomic.getAcquire(this, READ_GENERATION);
+    }
+
+    @Override
+    public int next(int size) {
+        return nextWriteGeneration().next(size);
+    }
+
+    @Override
+    public int tryNext(int size) {
+        return nextWriteGeneration().tryNext(size);
+    }
+
+    @Override
+    public void put(int offset) {
+        writeGeneration.ringBuffer.put(offset);
+    }
+
+    @Override
+    public int take(int size) {
+        return take(size, readBusyWaitStrategy);
+    }
+
+    @Override
+    public int take(int size, BusyWaitStrategy busyWaitStrategy) {
+        int offset;
+        busyWaitStrategy.reset();
+        while ((offset = tryTake(size)) == -1) {
+            busyWaitStrategy.tick();
+        }
+        return offset;
+    }
+
+    @Override
+    public int tryTake(int size) {
+        Generation generation = getReadGeneration();
+        while (true) {
+            int offset = generation.ringBuffer.tryTake(size);
+            if (offset != -1) {
+                return offset;
+            }
+            Generation next = generation.getNext();
+            if (next == null) {
+                return -1;
+            }
+            // The next generation is published after the last data written into this one
+            offset = generation.ringBuffer.tryTake(size);
+            if (offset != -1 || !generation.ringBuffer.isEmpty()) {
+                return offset;
+            }
+            Atomic.setRelease(this, READ_GENERATION, next);
+            generation = next;
+        }
+    }
+
+    @Override
+    public void advance(int offset) {
+        getReadGeneration().ringBuffer.advance(offset);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Generation generation = getReadGeneration(); generation != null; generation = generation.getNext()) {
+            size += generation.ringBuffer.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Generation generation = getReadGeneration(); generation != null; generation = generation.getNext()) {
+            if (!generation.ringBuffer.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return readMonitor;
+    }
+
+    @Override
+    public void writeByte(int offset, byte value) {
+        writeGeneration.ringBuffer.writeByte(offset, value);
+    }
+
+    @Override
+    public void writeChar(int offset, char value) {
+        writeGeneration.ringBuffer.writeChar(offset, value);
+    }
+
+    @Override
+    public void writeShort(int offset, short value) {
+        writeGeneration.ringBuffer.writeShort(offset, value);
+    }
+
+    @Override
+    public void writeInt(int offset, int value) {
+        writeGeneration.ringBuffer.writeInt(offset, value);
+    }
+
+    @Override
+    public void writeLong(int offset, long value) {
+        writeGeneration.ringBuffer.writeLong(offset, value);
+    }
+
+    @Override
+    public void writeBoolean(int offset, boolean value) {
+        writeGeneration.ringBuffer.writeBoolean(offset, value);
+    }
+
+    @Override
+    public void writeFloat(int offset, float value) {
+        writeGeneration.ringBuffer.writeFloat(offset, value);
+    }
+
+    @Override
+    public void writeDouble(int offset, double value) {
+        writeGeneration.ringBuffer.writeDouble(offset, value);
+    }
+
+    @Override
+    public void writeBytes(int offset, byte[] source, int sourceOffset, int length) {
+        writeGeneration.ringBuffer.writeBytes(offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeBytes(int offset, ByteBuffer source) {
+        writeGeneration.ringBuffer.writeBytes(offset, source);
+    }
+
+    @Override
+    public void writeBytes(int offset, long address, int length) {
+        writeGeneration.ringBuffer.writeBytes(offset, address, length);
+    }
+
+    @Override
+    public void writeInts(int offset, int[] source, int sourceOffset, int length) {
+        writeGeneration.ringBuffer.writeInts(offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeLongs(int offset, long[] source, int sourceOffset, int length) {
+        writeGeneration.ringBuffer.writeLongs(offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public void writeDoubles(int offset, double[] source, int sourceOffset, int length) {
+        writeGeneration.ringBuffer.writeDoubles(offset, source, sourceOffset, length);
+    }
+
+    @Override
+    public byte readByte(int offset) {
+        return getReadGeneration().ringBuffer.readByte(offset);
+    }
+
+    @Override
+    public char readChar(int offset) {
+        return getReadGeneration().ringBuffer.readChar(offset);
+    }
+
+    @Override
+    public short readShort(int offset) {
+        return getReadGeneration().ringBuffer.readShort(offset);
+    }
+
+    @Override
+    public int readInt(int offset) {
+        return getReadGeneration().ringBuffer.readInt(offset);
+    }
+
+    @Override
+    public long readLong(int offset) {
+        return getReadGeneration().ringBuffer.readLong(offset);
+    }
+
+    @Override
+    public boolean readBoolean(int offset) {
+        return getReadGeneration().ringBuffer.readBoolean(offset);
+    }
+
+    @Override
+    public float readFloat(int offset) {
+        return getReadGeneration().ringBuffer.readFloat(offset);
+    }
+
+    @Override
+    public double readDouble(int offset) {
+        return getReadGeneration().ringBuffer.readDouble(offset);
+    }
+
+    @Override
+    public void readBytes(int offset, byte[] destination, int destinationOffset, int length) {
+        getReadGeneration().ringBuffer.readBytes(offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readBytes(int offset, ByteBuffer destination) {
+        getReadGeneration().ringBuffer.readBytes(offset, destination);
+    }
+
+    @Override
+    public void readBytes(int offset, long address, int length) {
+        getReadGeneration().ringBuffer.readBytes(offset, address, length);
+    }
+
+    @Override
+    public void readInts(int offset, int[] destination, int destinationOffset, int length) {
+        getReadGeneration().ringBuffer.readInts(offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readLongs(int offset, long[] destination, int destinationOffset, int length) {
+        getReadGeneration().ringBuffer.readLongs(offset, destination, destinationOffset, length);
+    }
+
+    @Override
+    public void readDoubles(int offset, double[] destination, int destinationOffset, int length) {
+        getReadGeneration().ringBuffer.readDoubles(offset, destination, destinationOffset, length);
+    }
+
+    private static class Generation {
+        private static final long PENDING, NEXT;
+
+        static {
+            final Class<?> clazz = Generation.class;
+            PENDING = Lang.objectFieldOffset(clazz, "pending");
+            NEXT = Lang.objectFieldOffset(clazz, "next");
+        }
+
+        final HeapRingBuffer ringBuffer;
+        private Generation pending;
+        private Generation next;
+
+        Generation(HeapRingBuffer ringBuffer) {
+            this.ringBuffer = ringBuffer;
+        }
+
+        Generation getPending() {
+            return Atomic.getAcquire(this, PENDING);
+        }
+
+        void setPending(Generation pending) {
+            Atomic.setRelease(this, PENDING, pending);
+        }
+
+        Generation getNext() {
+            return Atomic.getAcquire(this, NEXT);
+        }
+
+        void setNext(Generation next) {
+            Atomic.setRelease(this, NEXT, next);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.concurrent.AtomicLong;
+import org.ringbuffer.concurrent.DirectAtomicBooleanArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Layout of a mapped file: the capacity and the ring buffer type, then the read and write positions on separate
+ * cache lines, then the buffer with its 8 slack bytes, then the {@code positionNotModified} flags if any.
+ */
+class SharedMemoryFile {
+    static final int BLOCKING = 1;
+    static final int FAST = 2;
+
+    private static final long CAPACITY = 0L;
+    private static final long TYPE = 8L;
+    private static final long READ_POSITION = 128L;
+    private static final long WRITE_POSITION = 256L;
+    private static final long BUFFER = 384L;
+
+    // Keeps the mapping alive as long as the ring buffer is reachable
+    private final MappedByteBuffer mapping;
+    private final long address;
+    private final long capacity;
+
+    SharedMemoryFile(Path file, long capacity, int type) {
+        long length = BUFFER + capacity + 8L;
+        if (type == FAST) {
+            length += capacity;
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The capacity is too large to be mapped: " + capacity);
+        }
+        // The lock prevents two processes from initializing the file at the same time
+        try (FileChannel channel = FileChannel.open(file, CREATE, READ, WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0L, length);
+                address = DirectBuffer.getAddress(mapping);
+                this.capacity = capacity;
+                initialize(file, type);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void initialize(Path file, int type) {
+        long existingCapacity = AtomicLong.getAcquire(null, address + CAPACITY);
+        if (existingCapacity == 0L) {
+            if (type == FAST) {
+                long positionNotModified = getPositionNotModified();
+                for (long i = 0L; i < capacity; i++) {
+                    DirectAtomicBooleanArray.setOpaque(positionNotModified, i, true);
+                }
+            }
+            AtomicInt.setPlain(null, address + TYPE, type);
+            AtomicLong.setRelease(null, address + CAPACITY, capacity);
+        } else if (existingCapacity != capacity || AtomicInt.getPlain(null, address + TYPE) != type) {
+            throw new IllegalArgumentException("The ring buffer in " + file + " has a different capacity or type.");
+        }
+    }
+
+    long getReadPosition() {
+        return address + READ_POSITION;
+    }
+
+    long getWritePosition() {
+        return address + WRITE_POSITION;
+    }
+
+    long getBuffer() {
+        return address + BUFFER;
+    }
+
+    long getPositionNotModified() {
+        return address + BUFFER + capacity + 8L;
+    }
+}
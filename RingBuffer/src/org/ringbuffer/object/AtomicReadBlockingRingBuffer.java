@@ -17,8 +17,10 @@ package org.ringbuffer.object;
 import jdk.internal.vm.annotation.Contended;
 import org.ringbuffer.concurrent.AtomicArray;
 import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.lang.Assume;
 import org.ringbuffer.lang.Lang;
 import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.ParkingBusyWaitStrategy;
 
 import java.util.function.Consumer;
 
@@ -37,6 +39,7 @@ class AtomicReadBlockingRingBuffer<T> implements RingBuffer<T> {
     private final T[] buffer;
     private final BusyWaitStrategy readBusyWaitStrategy;
     private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final ParkingBusyWaitStrategy parkingBusyWaitStrategy;
 
     @Contended("read")
     private int readPosition;
@@ -53,6 +56,7 @@ class AtomicReadBlockingRingBuffer<T> implements RingBuffer<T> {
         buffer = builder.getBuffer();
         readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
         writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        parkingBusyWaitStrategy = builder.getParkingBusyWaitStrategy();
     }
 
     @Override
@@ -75,6 +79,66 @@ class AtomicReadBlockingRingBuffer<T> implements RingBuffer<T> {
         }
         AtomicArray.setPlain(buffer, writePosition, element);
         AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
+        if (parkingBusyWaitStrategy != null) {
+            parkingBusyWaitStrategy.wakeup();
+        }
+    }
+
+    @Override
+    public boolean tryPut(T element) {
+        int writePosition = this.writePosition;
+        int newWritePosition;
+        if (writePosition == 0) {
+            newWritePosition = capacityMinusOne;
+        } else {
+            newWritePosition = writePosition - 1;
+        }
+        if (isFullCached(newWritePosition)) {
+            return false;
+        }
+        AtomicArray.setPlain(buffer, writePosition, element);
+        AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
+        if (parkingBusyWaitStrategy != null) {
+            parkingBusyWaitStrategy.wakeup();
+        }
+        return true;
+    }
+
+    @Override
+    public void putAll(T[] elements, int offset, int length) {
+        Assume.lesser(length, capacity);
+        int writePosition = this.writePosition;
+        writeBusyWaitStrategy.reset();
+        while (isFullCached(writePosition, length)) {
+            writeBusyWaitStrategy.tick();
+        }
+        for (int end = offset + length; offset < end; offset++) {
+            AtomicArray.setPlain(buffer, writePosition, elements[offset]);
+            if (writePosition == 0) {
+                writePosition = capacityMinusOne;
+            } else {
+                writePosition--;
+            }
+        }
+        AtomicInt.setRelease(this, WRITE_POSITION, writePosition);
+        if (parkingBusyWaitStrategy != null) {
+            parkingBusyWaitStrategy.wakeup();
+        }
+    }
+
+    private boolean isFullCached(int writePosition, int length) {
+        if (freeSpace(writePosition, cachedReadPosition) < length) {
+            cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
+            return freeSpace(writePosition, cachedReadPosition) < length;
+        }
+        return false;
+    }
+
+    private int freeSpace(int writePosition, int readPosition) {
+        if (writePosition > readPosition) {
+            return writePosition - readPosition - 1;
+        }
+        return capacityMinusOne - (readPosition - writePosition);
     }
 
     private boolean isFullCached(int writePosition) {
@@ -100,6 +164,70 @@ class AtomicReadBlockingRingBuffer<T> implements RingBuffer<T> {
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public synchronized T tryTake() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
+    @Override
+    public synchronized T peek() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
+    @Override
+    public synchronized boolean remove(T element) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int position = readPosition;
+        while (position != writePosition) {
+            if (AtomicArray.getPlain(buffer, position).equals(element)) {
+                removeAt(position, readPosition);
+                return true;
+            }
+            if (position == 0) {
+                position = capacityMinusOne;
+            } else {
+                position--;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Called while holding the read monitor: the elements from {@code readPosition} to {@code position} are moved
+     * one slot towards the write position, which for writers is the same as taking one element.
+     */
+    private void removeAt(int position, int readPosition) {
+        while (position != readPosition) {
+            int olderPosition;
+            if (position == capacityMinusOne) {
+                olderPosition = 0;
+            } else {
+                olderPosition = position + 1;
+            }
+            AtomicArray.setPlain(buffer, position, AtomicArray.getPlain(buffer, olderPosition));
+            position = olderPosition;
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -108,6 +236,15 @@ class AtomicReadBlockingRingBuffer<T> implements RingBuffer<T> {
         return false;
     }
 
+    /**
+     * The read monitor is not held, so the cached write position is not updated.
+     */
+    @Override
+    public boolean isEmptyCached() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        return cachedWritePosition == readPosition && AtomicInt.getAcquire(this, WRITE_POSITION) == readPosition;
+    }
+
     @Override
     public Object getReadMonitor() {
         return this;
@@ -133,6 +270,40 @@ class AtomicReadBlockingRingBuffer<T> implements RingBuffer<T> {
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public synchronized int drainTo(T[] destination, int maxElements) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < maxElements; count++) {
+            destination[count] = AtomicArray.getPlain(buffer, readPosition);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
+    @Override
+    public synchronized int drain(Consumer<T> action, int limit) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < limit; count++) {
+            action.accept(AtomicArray.getPlain(buffer, readPosition));
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
     @Override
     public synchronized T takeLast() {
         int position;
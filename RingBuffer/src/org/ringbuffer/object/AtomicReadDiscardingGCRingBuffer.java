@@ -73,6 +73,56 @@ class AtomicReadDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         }
     }
 
+    @Override
+    public boolean tryPut(T element) {
+        int writePosition = this.writePosition;
+        int newWritePosition;
+        if (writePosition == 0) {
+            newWritePosition = capacityMinusOne;
+        } else {
+            newWritePosition = writePosition - 1;
+        }
+        if (isNotFullCached(newWritePosition)) {
+            AtomicArray.setPlain(buffer, writePosition, element);
+            AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void putAll(T[] elements, int offset, int length) {
+        int writePosition = this.writePosition;
+        length = Math.min(length, freeSpaceCached(writePosition, length));
+        if (length > 0) {
+            for (int end = offset + length; offset < end; offset++) {
+                AtomicArray.setPlain(buffer, writePosition, elements[offset]);
+                if (writePosition == 0) {
+                    writePosition = capacityMinusOne;
+                } else {
+                    writePosition--;
+                }
+            }
+            AtomicInt.setRelease(this, WRITE_POSITION, writePosition);
+        }
+    }
+
+    private int freeSpaceCached(int writePosition, int length) {
+        int freeSpace = freeSpace(writePosition, cachedReadPosition);
+        if (freeSpace < length) {
+            cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
+            return freeSpace(writePosition, cachedReadPosition);
+        }
+        return freeSpace;
+    }
+
+    private int freeSpace(int writePosition, int readPosition) {
+        if (writePosition > readPosition) {
+            return writePosition - readPosition - 1;
+        }
+        return capacityMinusOne - (readPosition - writePosition);
+    }
+
     private boolean isNotFullCached(int writePosition) {
         if (cachedReadPosition == writePosition) {
             cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
@@ -98,6 +148,73 @@ class AtomicReadDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public synchronized T tryTake() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        T element = AtomicArray.getPlain(buffer, readPosition);
+        AtomicArray.setPlain(buffer, readPosition, null);
+        return element;
+    }
+
+    @Override
+    public synchronized T peek() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
+    @Override
+    public synchronized boolean remove(T element) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int position = readPosition;
+        while (position != writePosition) {
+            if (AtomicArray.getPlain(buffer, position).equals(element)) {
+                removeAt(position, readPosition);
+                return true;
+            }
+            if (position == 0) {
+                position = capacityMinusOne;
+            } else {
+                position--;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Called while holding the read monitor: the elements from {@code readPosition} to {@code position} are moved
+     * one slot towards the write position, which for writers is the same as taking one element.
+     */
+    private void removeAt(int position, int readPosition) {
+        while (position != readPosition) {
+            int olderPosition;
+            if (position == capacityMinusOne) {
+                olderPosition = 0;
+            } else {
+                olderPosition = position + 1;
+            }
+            AtomicArray.setPlain(buffer, position, AtomicArray.getPlain(buffer, olderPosition));
+            position = olderPosition;
+        }
+        AtomicArray.setPlain(buffer, readPosition, null);
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -106,6 +223,15 @@ class AtomicReadDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         return false;
     }
 
+    /**
+     * The read monitor is not held, so the cached write position is not updated.
+     */
+    @Override
+    public boolean isEmptyCached() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        return cachedWritePosition == readPosition && AtomicInt.getAcquire(this, WRITE_POSITION) == readPosition;
+    }
+
     @Override
     public Object getReadMonitor() {
         return this;
@@ -133,6 +259,42 @@ class AtomicReadDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public synchronized int drainTo(T[] destination, int maxElements) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < maxElements; count++) {
+            destination[count] = AtomicArray.getPlain(buffer, readPosition);
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
+    @Override
+    public synchronized int drain(Consumer<T> action, int limit) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < limit; count++) {
+            action.accept(AtomicArray.getPlain(buffer, readPosition));
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
     @Override
     public synchronized T takeLast() {
         int position;
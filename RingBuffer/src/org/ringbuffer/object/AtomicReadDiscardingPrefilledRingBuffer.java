@@ -94,6 +94,48 @@ class AtomicReadDiscardingPrefilledRingBuffer<T> implements PrefilledRingBuffer2
         AtomicInt.setRelease(this, WRITE_POSITION, putKey);
     }
 
+    @Override
+    public int nextKeys(int n) {
+        int writePosition = this.writePosition;
+        if (isNotFullCached(writePosition, n)) {
+            return writePosition;
+        }
+        return -1;
+    }
+
+    private boolean isNotFullCached(int writePosition, int n) {
+        if (freeSpace(cachedReadPosition, writePosition) < n) {
+            cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
+            return freeSpace(cachedReadPosition, writePosition) >= n;
+        }
+        return true;
+    }
+
+    private int freeSpace(int readPosition, int writePosition) {
+        if (readPosition >= writePosition) {
+            return capacityMinusOne - (readPosition - writePosition);
+        }
+        return writePosition - readPosition - 1;
+    }
+
+    @Override
+    public T nextInRange(int firstKey, int index) {
+        int key = firstKey - index;
+        if (key < 0) {
+            key += capacity;
+        }
+        return AtomicArray.getPlain(buffer, key);
+    }
+
+    @Override
+    public void putRange(int firstKey, int n) {
+        int putKey = firstKey - n;
+        if (putKey < 0) {
+            putKey += capacity;
+        }
+        AtomicInt.setRelease(this, WRITE_POSITION, putKey);
+    }
+
     @Override
     public synchronized T take() {
         int readPosition = this.readPosition;
@@ -109,6 +151,20 @@ class AtomicReadDiscardingPrefilledRingBuffer<T> implements PrefilledRingBuffer2
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public synchronized T tryTake() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -142,6 +198,40 @@ class AtomicReadDiscardingPrefilledRingBuffer<T> implements PrefilledRingBuffer2
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public synchronized int drainTo(T[] destination, int maxElements) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < maxElements; count++) {
+            destination[count] = AtomicArray.getPlain(buffer, readPosition);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
+    @Override
+    public synchronized int drain(Consumer<T> action, int limit) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < limit; count++) {
+            action.accept(AtomicArray.getPlain(buffer, readPosition));
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
     @Override
     public synchronized T takeLast() {
         int position;
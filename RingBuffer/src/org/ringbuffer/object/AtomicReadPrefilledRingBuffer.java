@@ -69,6 +69,29 @@ class AtomicReadPrefilledRingBuffer<T> implements PrefilledRingBuffer<T> {
         }
     }
 
+    @Override
+    public int nextKeys(int n) {
+        return writePosition;
+    }
+
+    @Override
+    public T nextInRange(int firstKey, int index) {
+        int key = firstKey - index;
+        if (key < 0) {
+            key += capacity;
+        }
+        return AtomicArray.getPlain(buffer, key);
+    }
+
+    @Override
+    public void putRange(int firstKey, int n) {
+        int putKey = firstKey - n;
+        if (putKey < 0) {
+            putKey += capacity;
+        }
+        AtomicInt.setRelease(this, WRITE_POSITION, putKey);
+    }
+
     @Override
     public T take() {
         int readPosition;
@@ -87,6 +110,23 @@ class AtomicReadPrefilledRingBuffer<T> implements PrefilledRingBuffer<T> {
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public T tryTake() {
+        int readPosition;
+        synchronized (this) {
+            readPosition = this.readPosition;
+            if (isEmptyCached(readPosition)) {
+                return null;
+            }
+            if (readPosition == 0) {
+                this.readPosition = capacityMinusOne;
+            } else {
+                this.readPosition--;
+            }
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -120,6 +160,44 @@ class AtomicReadPrefilledRingBuffer<T> implements PrefilledRingBuffer<T> {
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        synchronized (this) {
+            int readPosition = this.readPosition;
+            int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+            int count = 0;
+            for (; readPosition != writePosition && count < maxElements; count++) {
+                destination[count] = AtomicArray.getPlain(buffer, readPosition);
+                if (readPosition == 0) {
+                    readPosition = capacityMinusOne;
+                } else {
+                    readPosition--;
+                }
+            }
+            this.readPosition = readPosition;
+            return count;
+        }
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        synchronized (this) {
+            int readPosition = this.readPosition;
+            int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+            int count = 0;
+            for (; readPosition != writePosition && count < limit; count++) {
+                action.accept(AtomicArray.getPlain(buffer, readPosition));
+                if (readPosition == 0) {
+                    readPosition = capacityMinusOne;
+                } else {
+                    readPosition--;
+                }
+            }
+            this.readPosition = readPosition;
+            return count;
+        }
+    }
+
     @Override
     public T takeLast() {
         int position;
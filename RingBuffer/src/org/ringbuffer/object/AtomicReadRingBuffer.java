@@ -24,7 +24,13 @@ import java.util.function.Consumer;
 
 @Contended
 class AtomicReadRingBuffer<T> implements RingBuffer<T> {
-    private static final long WRITE_POSITION = Lang.objectFieldOffset(AtomicReadRingBuffer.class, "writePosition");
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = AtomicReadRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
 
     private final int capacity;
     private final int capacityMinusOne;
@@ -61,6 +67,26 @@ class AtomicReadRingBuffer<T> implements RingBuffer<T> {
         }
     }
 
+    @Override
+    public boolean tryPut(T element) {
+        put(element);
+        return true;
+    }
+
+    @Override
+    public void putAll(T[] elements, int offset, int length) {
+        int writePosition = this.writePosition;
+        for (int end = offset + length; offset < end; offset++) {
+            AtomicArray.setPlain(buffer, writePosition, elements[offset]);
+            if (writePosition == 0) {
+                writePosition = capacityMinusOne;
+            } else {
+                writePosition--;
+            }
+        }
+        AtomicInt.setRelease(this, WRITE_POSITION, writePosition);
+    }
+
     @Override
     public T take() {
         int readPosition;
@@ -79,6 +105,73 @@ class AtomicReadRingBuffer<T> implements RingBuffer<T> {
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public T tryTake() {
+        int readPosition;
+        synchronized (this) {
+            readPosition = this.readPosition;
+            if (isEmptyCached(readPosition)) {
+                return null;
+            }
+            if (readPosition == 0) {
+                this.readPosition = capacityMinusOne;
+            } else {
+                this.readPosition--;
+            }
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
+    @Override
+    public synchronized T peek() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
+    @Override
+    public synchronized boolean remove(T element) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int position = readPosition;
+        while (position != writePosition) {
+            if (AtomicArray.getPlain(buffer, position).equals(element)) {
+                removeAt(position, readPosition);
+                return true;
+            }
+            if (position == 0) {
+                position = capacityMinusOne;
+            } else {
+                position--;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Called while holding the read monitor: the elements from {@code readPosition} to {@code position} are moved
+     * one slot towards the write position, which for writers is the same as taking one element.
+     */
+    private void removeAt(int position, int readPosition) {
+        while (position != readPosition) {
+            int olderPosition;
+            if (position == capacityMinusOne) {
+                olderPosition = 0;
+            } else {
+                olderPosition = position + 1;
+            }
+            AtomicArray.setPlain(buffer, position, AtomicArray.getPlain(buffer, olderPosition));
+            position = olderPosition;
+        }
+        if (readPosition == 0) {
+            this.readPosition = capacityMinusOne;
+        } else {
+            this.readPosition--;
+        }
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -87,6 +180,15 @@ class AtomicReadRingBuffer<T> implements RingBuffer<T> {
         return false;
     }
 
+    /**
+     * The read monitor is not held, so the cached write position is not updated.
+     */
+    @Override
+    public boolean isEmptyCached() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        return cachedWritePosition == readPosition && AtomicInt.getAcquire(this, WRITE_POSITION) == readPosition;
+    }
+
     @Override
     public Object getReadMonitor() {
         return this;
@@ -112,6 +214,44 @@ class AtomicReadRingBuffer<T> implements RingBuffer<T> {
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        synchronized (this) {
+            int readPosition = this.readPosition;
+            int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+            int count = 0;
+            for (; readPosition != writePosition && count < maxElements; count++) {
+                destination[count] = AtomicArray.getPlain(buffer, readPosition);
+                if (readPosition == 0) {
+                    readPosition = capacityMinusOne;
+                } else {
+                    readPosition--;
+                }
+            }
+            this.readPosition = readPosition;
+            return count;
+        }
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        synchronized (this) {
+            int readPosition = this.readPosition;
+            int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+            int count = 0;
+            for (; readPosition != writePosition && count < limit; count++) {
+                action.accept(AtomicArray.getPlain(buffer, readPosition));
+                if (readPosition == 0) {
+                    readPosition = capacityMinusOne;
+                } else {
+                    readPosition--;
+                }
+            }
+            this.readPosition = readPosition;
+            return count;
+        }
+    }
+
     @Override
     public T takeLast() {
         int position;
@@ -17,8 +17,10 @@ package org.ringbuffer.object;
 import jdk.internal.vm.annotation.Contended;
 import org.ringbuffer.concurrent.AtomicArray;
 import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.lang.Assume;
 import org.ringbuffer.lang.Lang;
 import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.ParkingBusyWaitStrategy;
 
 import java.util.function.Consumer;
 
@@ -37,6 +39,7 @@ class AtomicWriteBlockingGCRingBuffer<T> implements RingBuffer<T> {
     private final T[] buffer;
     private final BusyWaitStrategy readBusyWaitStrategy;
     private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final ParkingBusyWaitStrategy parkingBusyWaitStrategy;
 
     @Contended("read")
     private int readPosition;
@@ -53,6 +56,7 @@ class AtomicWriteBlockingGCRingBuffer<T> implements RingBuffer<T> {
         buffer = builder.getBuffer();
         readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
         writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        parkingBusyWaitStrategy = builder.getParkingBusyWaitStrategy();
     }
 
     @Override
@@ -75,6 +79,66 @@ class AtomicWriteBlockingGCRingBuffer<T> implements RingBuffer<T> {
         }
         AtomicArray.setPlain(buffer, writePosition, element);
         AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
+        if (parkingBusyWaitStrategy != null) {
+            parkingBusyWaitStrategy.wakeup();
+        }
+    }
+
+    @Override
+    public synchronized boolean tryPut(T element) {
+        int writePosition = this.writePosition;
+        int newWritePosition;
+        if (writePosition == 0) {
+            newWritePosition = capacityMinusOne;
+        } else {
+            newWritePosition = writePosition - 1;
+        }
+        if (isFullCached(newWritePosition)) {
+            return false;
+        }
+        AtomicArray.setPlain(buffer, writePosition, element);
+        AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
+        if (parkingBusyWaitStrategy != null) {
+            parkingBusyWaitStrategy.wakeup();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void putAll(T[] elements, int offset, int length) {
+        Assume.lesser(length, capacity);
+        int writePosition = this.writePosition;
+        writeBusyWaitStrategy.reset();
+        while (isFullCached(writePosition, length)) {
+            writeBusyWaitStrategy.tick();
+        }
+        for (int end = offset + length; offset < end; offset++) {
+            AtomicArray.setPlain(buffer, writePosition, elements[offset]);
+            if (writePosition == 0) {
+                writePosition = capacityMinusOne;
+            } else {
+                writePosition--;
+            }
+        }
+        AtomicInt.setRelease(this, WRITE_POSITION, writePosition);
+        if (parkingBusyWaitStrategy != null) {
+            parkingBusyWaitStrategy.wakeup();
+        }
+    }
+
+    private boolean isFullCached(int writePosition, int length) {
+        if (freeSpace(writePosition, cachedReadPosition) < length) {
+            cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
+            return freeSpace(writePosition, cachedReadPosition) < length;
+        }
+        return false;
+    }
+
+    private int freeSpace(int writePosition, int readPosition) {
+        if (writePosition > readPosition) {
+            return writePosition - readPosition - 1;
+        }
+        return capacityMinusOne - (readPosition - writePosition);
     }
 
     private boolean isFullCached(int writePosition) {
@@ -102,6 +166,31 @@ class AtomicWriteBlockingGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public T tryTake() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        T element = AtomicArray.getPlain(buffer, readPosition);
+        AtomicArray.setPlain(buffer, readPosition, null);
+        return element;
+    }
+
+    @Override
+    public T peek() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -110,6 +199,11 @@ class AtomicWriteBlockingGCRingBuffer<T> implements RingBuffer<T> {
         return false;
     }
 
+    @Override
+    public boolean isEmptyCached() {
+        return isEmptyCached(readPosition);
+    }
+
     @Override
     public void takeBatch(int size) {
         int readPosition = this.readPosition;
@@ -132,6 +226,42 @@ class AtomicWriteBlockingGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < maxElements; count++) {
+            destination[count] = AtomicArray.getPlain(buffer, readPosition);
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < limit; count++) {
+            action.accept(AtomicArray.getPlain(buffer, readPosition));
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
     @Override
     public T takeLast() {
         int position;
@@ -19,6 +19,7 @@ import org.ringbuffer.concurrent.AtomicArray;
 import org.ringbuffer.concurrent.AtomicInt;
 import org.ringbuffer.lang.Lang;
 import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.ParkingBusyWaitStrategy;
 
 import java.util.function.Consumer;
 
@@ -37,6 +38,7 @@ class AtomicWriteBlockingPrefilledRingBuffer<T> implements PrefilledRingBuffer2<
     private final T[] buffer;
     private final BusyWaitStrategy readBusyWaitStrategy;
     private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final ParkingBusyWaitStrategy parkingBusyWaitStrategy;
 
     @Contended("read")
     private int readPosition;
@@ -53,6 +55,7 @@ class AtomicWriteBlockingPrefilledRingBuffer<T> implements PrefilledRingBuffer2<
         buffer = builder.getBuffer();
         readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
         writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        parkingBusyWaitStrategy = builder.getParkingBusyWaitStrategy();
     }
 
     @Override
@@ -93,6 +96,55 @@ class AtomicWriteBlockingPrefilledRingBuffer<T> implements PrefilledRingBuffer2<
     @Override
     public void put(int putKey) {
         AtomicInt.setRelease(this, WRITE_POSITION, putKey);
+        if (parkingBusyWaitStrategy != null) {
+            parkingBusyWaitStrategy.wakeup();
+        }
+    }
+
+    @Override
+    public int nextKeys(int n) {
+        int writePosition = this.writePosition;
+        writeBusyWaitStrategy.reset();
+        while (isFullCached(writePosition, n)) {
+            writeBusyWaitStrategy.tick();
+        }
+        return writePosition;
+    }
+
+    private boolean isFullCached(int writePosition, int n) {
+        if (freeSpace(cachedReadPosition, writePosition) < n) {
+            cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
+            return freeSpace(cachedReadPosition, writePosition) < n;
+        }
+        return false;
+    }
+
+    private int freeSpace(int readPosition, int writePosition) {
+        if (readPosition >= writePosition) {
+            return capacityMinusOne - (readPosition - writePosition);
+        }
+        return writePosition - readPosition - 1;
+    }
+
+    @Override
+    public T nextInRange(int firstKey, int index) {
+        int key = firstKey - index;
+        if (key < 0) {
+            key += capacity;
+        }
+        return AtomicArray.getPlain(buffer, key);
+    }
+
+    @Override
+    public void putRange(int firstKey, int n) {
+        int putKey = firstKey - n;
+        if (putKey < 0) {
+            putKey += capacity;
+        }
+        AtomicInt.setRelease(this, WRITE_POSITION, putKey);
+        if (parkingBusyWaitStrategy != null) {
+            parkingBusyWaitStrategy.wakeup();
+        }
     }
 
     @Override
@@ -110,6 +162,20 @@ class AtomicWriteBlockingPrefilledRingBuffer<T> implements PrefilledRingBuffer2<
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public T tryTake() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -138,6 +204,40 @@ class AtomicWriteBlockingPrefilledRingBuffer<T> implements PrefilledRingBuffer2<
         return AtomicArray.getPlain(buffer, readPosition);
     }
 
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < maxElements; count++) {
+            destination[count] = AtomicArray.getPlain(buffer, readPosition);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < limit; count++) {
+            action.accept(AtomicArray.getPlain(buffer, readPosition));
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
     @Override
     public T takeLast() {
         int position;
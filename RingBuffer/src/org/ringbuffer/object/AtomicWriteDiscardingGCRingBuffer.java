@@ -73,6 +73,56 @@ class AtomicWriteDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         }
     }
 
+    @Override
+    public synchronized boolean tryPut(T element) {
+        int writePosition = this.writePosition;
+        int newWritePosition;
+        if (writePosition == 0) {
+            newWritePosition = capacityMinusOne;
+        } else {
+            newWritePosition = writePosition - 1;
+        }
+        if (isNotFullCached(newWritePosition)) {
+            AtomicArray.setPlain(buffer, writePosition, element);
+            AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized void putAll(T[] elements, int offset, int length) {
+        int writePosition = this.writePosition;
+        length = Math.min(length, freeSpaceCached(writePosition, length));
+        if (length > 0) {
+            for (int end = offset + length; offset < end; offset++) {
+                AtomicArray.setPlain(buffer, writePosition, elements[offset]);
+                if (writePosition == 0) {
+                    writePosition = capacityMinusOne;
+                } else {
+                    writePosition--;
+                }
+            }
+            AtomicInt.setRelease(this, WRITE_POSITION, writePosition);
+        }
+    }
+
+    private int freeSpaceCached(int writePosition, int length) {
+        int freeSpace = freeSpace(writePosition, cachedReadPosition);
+        if (freeSpace < length) {
+            cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
+            return freeSpace(writePosition, cachedReadPosition);
+        }
+        return freeSpace;
+    }
+
+    private int freeSpace(int writePosition, int readPosition) {
+        if (writePosition > readPosition) {
+            return writePosition - readPosition - 1;
+        }
+        return capacityMinusOne - (readPosition - writePosition);
+    }
+
     private boolean isNotFullCached(int writePosition) {
         if (cachedReadPosition == writePosition) {
             cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
@@ -98,6 +148,31 @@ class AtomicWriteDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public T tryTake() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        T element = AtomicArray.getPlain(buffer, readPosition);
+        AtomicArray.setPlain(buffer, readPosition, null);
+        return element;
+    }
+
+    @Override
+    public T peek() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -106,6 +181,11 @@ class AtomicWriteDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         return false;
     }
 
+    @Override
+    public boolean isEmptyCached() {
+        return isEmptyCached(readPosition);
+    }
+
     @Override
     public void takeBatch(int size) {
         int readPosition = this.readPosition;
@@ -128,6 +208,42 @@ class AtomicWriteDiscardingGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < maxElements; count++) {
+            destination[count] = AtomicArray.getPlain(buffer, readPosition);
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < limit; count++) {
+            action.accept(AtomicArray.getPlain(buffer, readPosition));
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
     @Override
     public T takeLast() {
         int position;
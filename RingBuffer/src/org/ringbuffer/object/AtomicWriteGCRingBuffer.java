@@ -61,6 +61,26 @@ class AtomicWriteGCRingBuffer<T> implements RingBuffer<T> {
         }
     }
 
+    @Override
+    public boolean tryPut(T element) {
+        put(element);
+        return true;
+    }
+
+    @Override
+    public synchronized void putAll(T[] elements, int offset, int length) {
+        int writePosition = this.writePosition;
+        for (int end = offset + length; offset < end; offset++) {
+            AtomicArray.setPlain(buffer, writePosition, elements[offset]);
+            if (writePosition == 0) {
+                writePosition = capacityMinusOne;
+            } else {
+                writePosition--;
+            }
+        }
+        AtomicInt.setRelease(this, WRITE_POSITION, writePosition);
+    }
+
     @Override
     public T take() {
         int readPosition = this.readPosition;
@@ -78,6 +98,31 @@ class AtomicWriteGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public T tryTake() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        if (readPosition == 0) {
+            this.readPosition = capacityMinusOne;
+        } else {
+            this.readPosition--;
+        }
+        T element = AtomicArray.getPlain(buffer, readPosition);
+        AtomicArray.setPlain(buffer, readPosition, null);
+        return element;
+    }
+
+    @Override
+    public T peek() {
+        int readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
     private boolean isEmptyCached(int readPosition) {
         if (cachedWritePosition == readPosition) {
             cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
@@ -86,6 +131,11 @@ class AtomicWriteGCRingBuffer<T> implements RingBuffer<T> {
         return false;
     }
 
+    @Override
+    public boolean isEmptyCached() {
+        return isEmptyCached(readPosition);
+    }
+
     @Override
     public void takeBatch(int size) {
         int readPosition = this.readPosition;
@@ -107,6 +157,42 @@ class AtomicWriteGCRingBuffer<T> implements RingBuffer<T> {
         return element;
     }
 
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < maxElements; count++) {
+            destination[count] = AtomicArray.getPlain(buffer, readPosition);
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        this.readPosition = readPosition;
+        return count;
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < limit; count++) {
+            action.accept(AtomicArray.getPlain(buffer, readPosition));
+            AtomicArray.setPlain(buffer, readPosition, null);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        this.readPosition = readPosition;
+        return count;
+    }
+
     @Override
     public T takeLast() {
         int position;
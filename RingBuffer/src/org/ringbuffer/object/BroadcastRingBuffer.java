@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import org.ringbuffer.concurrent.ThreadLocal;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+/**
+ * A blocking ring buffer with one writer and a fixed number of readers, each of which takes every element
+ * through its own {@link Reader}. The writer waits for the slowest reader when the ring buffer is full.
+ * <p>
+ * Elements are never cleared, because other readers may still have to take them.
+ *
+ * <pre>{@code
+ * BroadcastRingBuffer<Event> ringBuffer = BroadcastRingBuffer.<Event>withCapacity(capacity)
+ *         .withReaders(numReaders)
+ *         .build();
+ * BroadcastRingBuffer.Reader<Event> reader = ringBuffer.getReader(index);
+ * }</pre>
+ */
+public interface BroadcastRingBuffer<T> {
+    int getCapacity();
+
+    int getNumReaders();
+
+    Reader<T> getReader(int index);
+
+    void put(T element);
+
+    static <T> BroadcastRingBufferBuilder<T> withCapacity(int capacity) {
+        return new BroadcastRingBufferBuilder<>(capacity);
+    }
+
+    /**
+     * Each reader must be used by a single thread.
+     */
+    interface Reader<T> {
+        T take();
+
+        T take(@ThreadLocal BusyWaitStrategy busyWaitStrategy);
+
+        /**
+         * @return {@code null} if no element is available
+         */
+        T tryTake();
+
+        /**
+         * Takes up to {@code maxElements} of the elements currently available, without waiting,
+         * and publishes the read position once for the whole batch.
+         *
+         * @return the number of elements taken
+         */
+        int drainTo(T[] destination, int maxElements);
+
+        int size();
+
+        boolean isEmpty();
+    }
+}
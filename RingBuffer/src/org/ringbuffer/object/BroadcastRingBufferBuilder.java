@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import org.ringbuffer.lang.Assume;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+public class BroadcastRingBufferBuilder<T> {
+    private final int capacity;
+    private int numReaders;
+    private BusyWaitStrategy writeBusyWaitStrategy;
+
+    BroadcastRingBufferBuilder(int capacity) {
+        Assume.notLesser(capacity, 2);
+        this.capacity = capacity;
+    }
+
+    public BroadcastRingBufferBuilder<T> withReaders(int numReaders) {
+        Assume.notLesser(numReaders, 1);
+        this.numReaders = numReaders;
+        return this;
+    }
+
+    /**
+     * The ring buffer is always blocking: {@code busyWaitStrategy} is used by the writer to wait for the slowest
+     * reader when it is full.
+     */
+    public BroadcastRingBufferBuilder<T> blocking(BusyWaitStrategy busyWaitStrategy) {
+        Assume.notNull(busyWaitStrategy);
+        writeBusyWaitStrategy = busyWaitStrategy;
+        return this;
+    }
+
+    public BroadcastRingBuffer<T> build() {
+        if (numReaders == 0) {
+            throw new IllegalStateException("You must call withReaders().");
+        }
+        return new VolatileBroadcastRingBuffer<>(this);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getNumReaders() {
+        return numReaders;
+    }
+
+    BusyWaitStrategy getWriteBusyWaitStrategy() {
+        if (writeBusyWaitStrategy == null) {
+            return HintBusyWaitStrategy.getDefault();
+        }
+        return writeBusyWaitStrategy;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.ringbuffer.lang.Assume;
+
+/**
+ * Recycles the chunks of unbounded ring buffers, see {@link RingBufferBuilder#unbounded(ChunkPool)}.
+ * <p>
+ * It can be shared among all the ring buffers whose capacity is equal to its chunk size, so that a chunk
+ * that was allocated during a burst of one ring buffer can later be reused by another.
+ * At most {@code maxIdleChunks} idle chunks are kept, the others are left to the garbage collector.
+ */
+public class ChunkPool {
+    private final int chunkSize;
+    private final ConcurrentStack<Object[]> idleChunks;
+
+    public ChunkPool(int chunkSize, int maxIdleChunks) {
+        Assume.notLesser(chunkSize, 2);
+        Assume.notLesser(maxIdleChunks, 0);
+        this.chunkSize = chunkSize;
+        idleChunks = new ConcurrentStack<>(maxIdleChunks);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getMaxIdleChunks() {
+        return idleChunks.getCapacity();
+    }
+
+    /**
+     * The last slot of each chunk links to the next chunk.
+     */
+    Object[] acquire() {
+        Object[] chunk = idleChunks.tryTake();
+        if (chunk == null) {
+            return new Object[chunkSize + 1];
+        }
+        return chunk;
+    }
+
+    /**
+     * All the elements of {@code chunk} must have been cleared.
+     */
+    void release(Object[] chunk) {
+        chunk[chunkSize] = null;
+        idleChunks.tryPut(chunk);
+    }
+}
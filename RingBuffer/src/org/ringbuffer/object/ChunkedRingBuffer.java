@@ -0,0 +1,285 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.AtomicArray;
+import org.ringbuffer.concurrent.AtomicLong;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.function.Consumer;
+
+/**
+ * Stores the elements in a chain of chunks taken from a {@link ChunkPool}, so it never becomes full.
+ * When the writer fills a chunk it links a new one, and when the reader leaves a chunk it gives it back to the pool.
+ * Within a chunk, elements are accessed by index as in the other ring buffers.
+ */
+@Contended
+class ChunkedRingBuffer<T> implements RingBuffer<T> {
+    private static final long WRITE_POSITION = Lang.objectFieldOffset(ChunkedRingBuffer.class, "writePosition");
+
+    private final int chunkSize;
+    private final ChunkPool chunkPool;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+
+    @Contended("read")
+    private Object[] readChunk;
+    @Contended("read")
+    private int readIndex;
+    @Contended("read")
+    private long readPosition;
+    @Contended("read")
+    private long cachedWritePosition;
+    @Contended("write")
+    private Object[] writeChunk;
+    @Contended("write")
+    private int writeIndex;
+    @Contended
+    private long writePosition;
+
+    ChunkedRingBuffer(RingBufferBuilder<T> builder) {
+        chunkSize = builder.getCapacity();
+        chunkPool = builder.getChunkPool();
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        writeChunk = chunkPool.acquire();
+        readChunk = writeChunk;
+    }
+
+    /**
+     * @return the size of each chunk
+     */
+    @Override
+    public int getCapacity() {
+        return chunkSize;
+    }
+
+    @Override
+    public void put(T element) {
+        write(element);
+        AtomicLong.setRelease(this, WRITE_POSITION, writePosition + 1L);
+    }
+
+    @Override
+    public boolean tryPut(T element) {
+        put(element);
+        return true;
+    }
+
+    @Override
+    public void putAll(T[] elements, int offset, int length) {
+        for (int end = offset + length; offset < end; offset++) {
+            write(elements[offset]);
+        }
+        AtomicLong.setRelease(this, WRITE_POSITION, writePosition + length);
+    }
+
+    private void write(T element) {
+        Object[] writeChunk = this.writeChunk;
+        int writeIndex = this.writeIndex;
+        if (writeIndex == chunkSize) {
+            Object[] chunk = chunkPool.acquire();
+            AtomicArray.setPlain(writeChunk, chunkSize, chunk);
+            this.writeChunk = writeChunk = chunk;
+            writeIndex = 0;
+        }
+        AtomicArray.setPlain(writeChunk, writeIndex, element);
+        this.writeIndex = writeIndex + 1;
+    }
+
+    @Override
+    public T take() {
+        return take(readBusyWaitStrategy);
+    }
+
+    @Override
+    public T take(BusyWaitStrategy busyWaitStrategy) {
+        long readPosition = this.readPosition;
+        busyWaitStrategy.reset();
+        while (isEmptyCached(readPosition)) {
+            busyWaitStrategy.tick();
+        }
+        this.readPosition = readPosition + 1L;
+        return read();
+    }
+
+    @Override
+    public T tryTake() {
+        long readPosition = this.readPosition;
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        this.readPosition = readPosition + 1L;
+        return read();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T peek() {
+        if (isEmptyCached(readPosition)) {
+            return null;
+        }
+        Object[] readChunk = this.readChunk;
+        int readIndex = this.readIndex;
+        if (readIndex == chunkSize) {
+            readChunk = (Object[]) AtomicArray.getPlain(readChunk, chunkSize);
+            readIndex = 0;
+        }
+        return (T) AtomicArray.getPlain(readChunk, readIndex);
+    }
+
+    private boolean isEmptyCached(long readPosition) {
+        if (cachedWritePosition == readPosition) {
+            cachedWritePosition = AtomicLong.getAcquire(this, WRITE_POSITION);
+            return cachedWritePosition == readPosition;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmptyCached() {
+        return isEmptyCached(readPosition);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T read() {
+        Object[] readChunk = this.readChunk;
+        int readIndex = this.readIndex;
+        if (readIndex == chunkSize) {
+            Object[] chunk = (Object[]) AtomicArray.getPlain(readChunk, chunkSize);
+            chunkPool.release(readChunk);
+            this.readChunk = readChunk = chunk;
+            readIndex = 0;
+        }
+        Object element = AtomicArray.getPlain(readChunk, readIndex);
+        AtomicArray.setPlain(readChunk, readIndex, null);
+        this.readIndex = readIndex + 1;
+        return (T) element;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        long readPosition = this.readPosition;
+        readBusyWaitStrategy.reset();
+        while (AtomicLong.getAcquire(this, WRITE_POSITION) - readPosition < size) {
+            readBusyWaitStrategy.tick();
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        readPosition++;
+        return read();
+    }
+
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        int count = (int) Math.min(AtomicLong.getAcquire(this, WRITE_POSITION) - readPosition, maxElements);
+        for (int i = 0; i < count; i++) {
+            destination[i] = read();
+        }
+        readPosition += count;
+        return count;
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        int count = (int) Math.min(AtomicLong.getAcquire(this, WRITE_POSITION) - readPosition, limit);
+        for (int i = 0; i < count; i++) {
+            action.accept(read());
+        }
+        readPosition += count;
+        return count;
+    }
+
+    /**
+     * Skips the elements before the last one chunk by chunk, so it takes time proportional to their number.
+     */
+    @Override
+    public T takeLast() {
+        long writePosition;
+        readBusyWaitStrategy.reset();
+        while ((writePosition = AtomicLong.getAcquire(this, WRITE_POSITION)) == readPosition) {
+            readBusyWaitStrategy.tick();
+        }
+        for (long i = writePosition - readPosition; i > 1L; i--) {
+            read();
+        }
+        readPosition = writePosition;
+        return read();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<T> action) {
+        Object[] chunk = readChunk;
+        int index = readIndex;
+        for (long i = AtomicLong.getAcquire(this, WRITE_POSITION) - readPosition; i > 0L; i--) {
+            if (index == chunkSize) {
+                chunk = (Object[]) AtomicArray.getPlain(chunk, chunkSize);
+                index = 0;
+            }
+            action.accept((T) AtomicArray.getPlain(chunk, index++));
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Object[] chunk = readChunk;
+        int index = readIndex;
+        for (long i = AtomicLong.getAcquire(this, WRITE_POSITION) - readPosition; i > 0L; i--) {
+            if (index == chunkSize) {
+                chunk = (Object[]) AtomicArray.getPlain(chunk, chunkSize);
+                index = 0;
+            }
+            if (AtomicArray.getPlain(chunk, index++).equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(AtomicLong.getAcquire(this, WRITE_POSITION) - readPosition, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicLong.getAcquire(this, WRITE_POSITION) == readPosition;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        forEach(element -> {
+            builder.append(element.toString());
+            builder.append(", ");
+        });
+        builder.setLength(builder.length() - 2);
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        throw new UnsupportedOperationException();
+    }
+}
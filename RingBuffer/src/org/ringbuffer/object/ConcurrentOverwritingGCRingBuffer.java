@@ -20,6 +20,10 @@ import org.ringbuffer.wait.HintBusyWaitStrategy;
 
 import java.util.function.Consumer;
 
+/**
+ * @deprecated Use {@link RingBufferBuilder#overwritingWithoutLocks()}, which does not lock on every operation.
+ */
+@Deprecated
 @Contended
 public class ConcurrentOverwritingGCRingBuffer<T> implements RingBuffer<T> {
     private final int capacity;
@@ -65,6 +69,19 @@ public class ConcurrentOverwritingGCRingBuffer<T> implements RingBuffer<T> {
         buffer[writePosition] = element;
     }
 
+    @Override
+    public boolean tryPut(T element) {
+        put(element);
+        return true;
+    }
+
+    @Override
+    public synchronized void putAll(T[] elements, int offset, int length) {
+        for (int end = offset + length; offset < end; offset++) {
+            put(elements[offset]);
+        }
+    }
+
     @Override
     public T take() {
         return take(HintBusyWaitStrategy.DEFAULT_INSTANCE);
@@ -92,6 +109,31 @@ public class ConcurrentOverwritingGCRingBuffer<T> implements RingBuffer<T> {
         }
     }
 
+    @Override
+    public synchronized T tryTake() {
+        int readPosition = this.readPosition;
+        if (writePosition != readPosition || isFull) {
+            isFull = false;
+            if (readPosition == 0) {
+                this.readPosition = capacityMinusOne;
+            } else {
+                this.readPosition--;
+            }
+            T element = buffer[readPosition];
+            buffer[readPosition] = null;
+            return element;
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized T peek() {
+        if (writePosition != readPosition || isFull) {
+            return buffer[readPosition];
+        }
+        return null;
+    }
+
     @Override
     public synchronized int size() {
         int writePosition = this.writePosition;
@@ -123,6 +165,16 @@ public class ConcurrentOverwritingGCRingBuffer<T> implements RingBuffer<T> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public T takeLast() {
         throw new UnsupportedOperationException();
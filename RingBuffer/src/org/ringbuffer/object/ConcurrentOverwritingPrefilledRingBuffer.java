@@ -21,6 +21,12 @@ import org.ringbuffer.wait.HintBusyWaitStrategy;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+/**
+ * @deprecated Use {@link RingBufferBuilder#overwritingWithoutLocks()}, which does not lock on every operation.
+ * There is no lock-free pre-filled variant: slots are populated in place, so a lapped reader could see an element
+ * while a writer is populating it.
+ */
+@Deprecated
 @Contended
 public class ConcurrentOverwritingPrefilledRingBuffer<T> implements PrefilledOverwritingRingBuffer<T> {
     private final int capacity;
@@ -94,6 +100,21 @@ public class ConcurrentOverwritingPrefilledRingBuffer<T> implements PrefilledOve
         }
     }
 
+    @Override
+    public synchronized T tryTake() {
+        int readPosition = this.readPosition;
+        if (writePosition != readPosition || isFull) {
+            isFull = false;
+            if (readPosition == 0) {
+                this.readPosition = capacityMinusOne;
+            } else {
+                this.readPosition--;
+            }
+            return buffer[readPosition];
+        }
+        return null;
+    }
+
     @Override
     public synchronized int size() {
         int writePosition = this.writePosition;
@@ -125,6 +146,16 @@ public class ConcurrentOverwritingPrefilledRingBuffer<T> implements PrefilledOve
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public T takeLast() {
         throw new UnsupportedOperationException();
@@ -48,8 +48,12 @@ public class ConcurrentStack<T> extends Stack<T> {
         return elements[--index];
     }
 
-    public T peek() {
-        return elements[index];
+    @Override
+    public synchronized T peek() {
+        if (index == 0) {
+            return null;
+        }
+        return elements[index - 1];
     }
 
     public synchronized boolean isFull() {
@@ -66,11 +70,28 @@ public class ConcurrentStack<T> extends Stack<T> {
         elements[index++] = element;
     }
 
+    @Override
+    public synchronized boolean tryPut(T element) {
+        if (index == elements.length) {
+            return false;
+        }
+        elements[index++] = element;
+        return true;
+    }
+
     @Override
     public synchronized T take() {
         return elements[--index];
     }
 
+    @Override
+    public synchronized T tryTake() {
+        if (index == 0) {
+            return null;
+        }
+        return elements[--index];
+    }
+
     public synchronized T get() {
         return elements[index];
     }
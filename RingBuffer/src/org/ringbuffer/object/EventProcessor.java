@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import org.ringbuffer.concurrent.AtomicBoolean;
+import org.ringbuffer.lang.Assume;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.lang.Optional;
+import org.ringbuffer.system.ThreadSpreader;
+import org.ringbuffer.system.Threads;
+import org.ringbuffer.wait.BusyWaitInterruptedException;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+import org.ringbuffer.wait.InterruptibleBusyWaitStrategy;
+
+import java.util.function.Consumer;
+
+/**
+ * Runs a thread that takes all the available elements of a ring buffer at once, using
+ * {@link ObjectRingBuffer#drain(Consumer, int) drain(Consumer, int)}, and passes them to an {@link EventHandler}.
+ * Each element is handled before the read position is published, so pre-filled ring buffers are supported.
+ * <p>
+ * The number of available elements is read with {@link ObjectRingBuffer#size()} before each batch, and the last
+ * of them is the end of the batch unless there are more than the maximum batch size.
+ * <p>
+ * If the ring buffer supports multiple readers, then it can be shared among many processors, as long as
+ * {@code drain()} does not require external synchronization. Then other processors may take some of the elements
+ * counted, and the end of a batch may not be reported.
+ */
+public class EventProcessor<T> {
+    private static final long HALTED = Lang.objectFieldOffset(EventProcessor.class, "halted");
+
+    private final ObjectRingBuffer<T> ringBuffer;
+    private final EventHandler<T> handler;
+    private final int maxBatchSize;
+    private final Consumer<T> dispatcher = this::dispatch;
+    private final InterruptibleBusyWaitStrategy busyWaitStrategy;
+    private final @Optional ThreadSpreader threadSpreader;
+    private final boolean realtimePriority;
+    private final Thread thread;
+
+    private boolean halted;
+    private long sequence;
+    private long endOfBatchSequence;
+
+    EventProcessor(Builder<T> builder) {
+        ringBuffer = builder.ringBuffer;
+        handler = builder.handler;
+        maxBatchSize = builder.maxBatchSize;
+        busyWaitStrategy = new InterruptibleBusyWaitStrategy(true, builder.busyWaitStrategy);
+        threadSpreader = builder.threadSpreader;
+        realtimePriority = builder.realtimePriority;
+        thread = new Thread(this::run, builder.threadName);
+    }
+
+    public static <T> Builder<T> processing(ObjectRingBuffer<T> ringBuffer) {
+        return new Builder<>(ringBuffer);
+    }
+
+    public Thread getThread() {
+        return thread;
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops processing after the current batch, or while waiting for elements,
+     * and waits for the thread to terminate, unless called from the {@link EventHandler}.
+     */
+    public void halt() {
+        AtomicBoolean.setOpaque(this, HALTED, true);
+        busyWaitStrategy.interrupt();
+        if (Thread.currentThread() != thread) {
+            Threads.join(thread);
+        }
+    }
+
+    private void run() {
+        if (threadSpreader != null) {
+            threadSpreader.bindCurrentThreadToNextCPU();
+        }
+        if (realtimePriority) {
+            Threads.setCurrentThreadPriorityToRealtime();
+        }
+        try {
+            process();
+        } catch (BusyWaitInterruptedException ignored) {
+        }
+    }
+
+    private void process() {
+        ObjectRingBuffer<T> ringBuffer = this.ringBuffer;
+        int maxBatchSize = this.maxBatchSize;
+        busyWaitStrategy.reset();
+        while (true) {
+            int available = ringBuffer.size();
+            if (available == 0) {
+                busyWaitStrategy.tick();
+                continue;
+            }
+            if (available > maxBatchSize) {
+                available = maxBatchSize;
+                endOfBatchSequence = -1L;
+            } else {
+                endOfBatchSequence = sequence + available - 1L;
+            }
+            ringBuffer.drain(dispatcher, available);
+            if (AtomicBoolean.getOpaque(this, HALTED)) {
+                return;
+            }
+            busyWaitStrategy.reset();
+        }
+    }
+
+    private void dispatch(T element) {
+        long sequence = this.sequence++;
+        handler.onEvent(element, sequence, sequence == endOfBatchSequence);
+    }
+
+    public static class Builder<T> {
+        private final ObjectRingBuffer<T> ringBuffer;
+        private EventHandler<T> handler;
+        private int maxBatchSize = 64;
+        private BusyWaitStrategy busyWaitStrategy = HintBusyWaitStrategy.getDefault();
+        private @Optional ThreadSpreader threadSpreader;
+        private boolean realtimePriority;
+        private String threadName = "EventProcessor";
+
+        Builder(ObjectRingBuffer<T> ringBuffer) {
+            Assume.notNull(ringBuffer);
+            this.ringBuffer = ringBuffer;
+        }
+
+        public Builder<T> handledBy(EventHandler<T> handler) {
+            Assume.notNull(handler);
+            this.handler = handler;
+            return this;
+        }
+
+        public Builder<T> maxBatchSize(int maxBatchSize) {
+            Assume.notLesser(maxBatchSize, 1);
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
+            Assume.notNull(busyWaitStrategy);
+            this.busyWaitStrategy = busyWaitStrategy;
+            return this;
+        }
+
+        /**
+         * The native library must be loaded: {@link Threads#loadNativeLibrary()}
+         */
+        public Builder<T> boundWith(ThreadSpreader threadSpreader) {
+            Assume.notNull(threadSpreader);
+            this.threadSpreader = threadSpreader;
+            return this;
+        }
+
+        /**
+         * The native library must be loaded: {@link Threads#loadNativeLibrary()}
+         *
+         * @see Threads#setCurrentThreadPriorityToRealtime()
+         */
+        public Builder<T> withRealtimePriority() {
+            realtimePriority = true;
+            return this;
+        }
+
+        public Builder<T> named(String threadName) {
+            Assume.notNull(threadName);
+            this.threadName = threadName;
+            return this;
+        }
+
+        public EventProcessor<T> build() {
+            if (handler == null) {
+                throw new IllegalStateException("You must call handledBy().");
+            }
+            return new EventProcessor<>(this);
+        }
+    }
+}
@@ -24,14 +24,22 @@ import org.ringbuffer.wait.HintBusyWaitStrategy;
 
 @Contended
 class FastAtomicReadPrefilledRingBuffer<T> extends FastPrefilledRingBuffer<T> {
-    private static final long READ_POSITION = Lang.objectFieldOffset(FastAtomicReadPrefilledRingBuffer.class, "readPosition");
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = FastAtomicReadPrefilledRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
 
     private final int capacityMinusOne;
     private final T[] buffer;
     private final boolean[] positionNotModified;
 
-    @Contended
+    @Contended("read")
     private int readPosition;
+    @Contended("read")
+    private int batchPosition;
     @Contended
     private int writePosition;
 
@@ -61,6 +69,25 @@ class FastAtomicReadPrefilledRingBuffer<T> extends FastPrefilledRingBuffer<T> {
         AtomicBooleanArray.setRelease(positionNotModified, key, false);
     }
 
+    @Override
+    public int nextKeys(int n) {
+        int writePosition = this.writePosition;
+        this.writePosition = writePosition + n;
+        return writePosition & capacityMinusOne;
+    }
+
+    @Override
+    public T nextInRange(int firstKey, int index) {
+        return AtomicArray.getPlain(buffer, (firstKey + index) & capacityMinusOne);
+    }
+
+    @Override
+    public void putRange(int firstKey, int n) {
+        for (int i = 0; i < n; i++) {
+            AtomicBooleanArray.setRelease(positionNotModified, (firstKey + i) & capacityMinusOne, false);
+        }
+    }
+
     @Override
     public T take() {
         return take(HintBusyWaitStrategy.DEFAULT_INSTANCE);
@@ -76,4 +103,56 @@ class FastAtomicReadPrefilledRingBuffer<T> extends FastPrefilledRingBuffer<T> {
         AtomicBooleanArray.setOpaque(positionNotModified, readPosition, true);
         return AtomicArray.getPlain(buffer, readPosition);
     }
+
+    @Override
+    public T tryTake() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            if (AtomicBooleanArray.getAcquire(positionNotModified, index)) {
+                return null;
+            }
+            int witness = AtomicInt.compareAndExchangeVolatile(this, READ_POSITION, readPosition, readPosition + 1);
+            if (witness == readPosition) {
+                AtomicBooleanArray.setOpaque(positionNotModified, index, true);
+                return AtomicArray.getPlain(buffer, index);
+            }
+            readPosition = witness;
+        }
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return this;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = AtomicInt.getAndAddVolatile(this, READ_POSITION, size);
+        batchPosition = readPosition;
+        BusyWaitStrategy busyWaitStrategy = HintBusyWaitStrategy.DEFAULT_INSTANCE;
+        busyWaitStrategy.reset();
+        for (int end = readPosition + size; readPosition != end; readPosition++) {
+            while (AtomicBooleanArray.getAcquire(positionNotModified, readPosition & capacityMinusOne)) {
+                busyWaitStrategy.tick();
+            }
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        int index = batchPosition++ & capacityMinusOne;
+        AtomicBooleanArray.setOpaque(positionNotModified, index, true);
+        return AtomicArray.getPlain(buffer, index);
+    }
+
+    @Override
+    public int size() {
+        return FastRingBuffer.size(AtomicInt.getOpaque(this, READ_POSITION), AtomicInt.getOpaque(this, WRITE_POSITION), buffer.length);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicBooleanArray.getAcquire(positionNotModified, AtomicInt.getOpaque(this, READ_POSITION) & capacityMinusOne);
+    }
 }
@@ -23,13 +23,21 @@ import org.ringbuffer.wait.HintBusyWaitStrategy;
 
 @Contended
 class FastAtomicReadRingBuffer<T> extends FastRingBuffer<T> {
-    private static final long READ_POSITION = Lang.objectFieldOffset(FastAtomicReadRingBuffer.class, "readPosition");
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = FastAtomicReadRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
 
     private final int capacityMinusOne;
     private final T[] buffer;
 
-    @Contended
+    @Contended("read")
     private int readPosition;
+    @Contended("read")
+    private int batchPosition;
     @Contended
     private int writePosition;
 
@@ -48,6 +56,12 @@ class FastAtomicReadRingBuffer<T> extends FastRingBuffer<T> {
         AtomicArray.setRelease(buffer, writePosition++ & capacityMinusOne, element);
     }
 
+    @Override
+    public boolean tryPut(T element) {
+        put(element);
+        return true;
+    }
+
     @Override
     public T take() {
         return take(HintBusyWaitStrategy.DEFAULT_INSTANCE);
@@ -63,4 +77,58 @@ class FastAtomicReadRingBuffer<T> extends FastRingBuffer<T> {
         }
         return element;
     }
+
+    @Override
+    public T tryTake() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            if (AtomicArray.getAcquire(buffer, index) == null) {
+                return null;
+            }
+            int witness = AtomicInt.compareAndExchangeVolatile(this, READ_POSITION, readPosition, readPosition + 1);
+            if (witness == readPosition) {
+                return AtomicArray.getAndSetVolatile(buffer, index, null);
+            }
+            readPosition = witness;
+        }
+    }
+
+    @Override
+    public T peek() {
+        return AtomicArray.getAcquire(buffer, AtomicInt.getOpaque(this, READ_POSITION) & capacityMinusOne);
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return this;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = AtomicInt.getAndAddVolatile(this, READ_POSITION, size);
+        batchPosition = readPosition;
+        BusyWaitStrategy busyWaitStrategy = HintBusyWaitStrategy.DEFAULT_INSTANCE;
+        busyWaitStrategy.reset();
+        for (int end = readPosition + size; readPosition != end; readPosition++) {
+            while (AtomicArray.getAcquire(buffer, readPosition & capacityMinusOne) == null) {
+                busyWaitStrategy.tick();
+            }
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        return AtomicArray.getAndSetVolatile(buffer, batchPosition++ & capacityMinusOne, null);
+    }
+
+    @Override
+    public int size() {
+        return size(AtomicInt.getOpaque(this, READ_POSITION), AtomicInt.getOpaque(this, WRITE_POSITION), buffer.length);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicArray.getAcquire(buffer, AtomicInt.getOpaque(this, READ_POSITION) & capacityMinusOne) == null;
+    }
 }
@@ -23,15 +23,23 @@ import org.ringbuffer.wait.BusyWaitStrategy;
 
 @Contended
 class FastAtomicWritePrefilledRingBuffer<T> extends FastPrefilledRingBuffer<T> {
-    private static final long WRITE_POSITION = Lang.objectFieldOffset(FastAtomicWritePrefilledRingBuffer.class, "writePosition");
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = FastAtomicWritePrefilledRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
 
     private final int capacityMinusOne;
     private final T[] buffer;
     private final boolean[] positionNotModified;
     private final BusyWaitStrategy readBusyWaitStrategy;
 
-    @Contended
+    @Contended("read")
     private int readPosition;
+    @Contended("read")
+    private int batchPosition;
     @Contended
     private int writePosition;
 
@@ -62,6 +70,23 @@ class FastAtomicWritePrefilledRingBuffer<T> extends FastPrefilledRingBuffer<T> {
         AtomicBooleanArray.setRelease(positionNotModified, key, false);
     }
 
+    @Override
+    public int nextKeys(int n) {
+        return AtomicInt.getAndAddVolatile(this, WRITE_POSITION, n) & capacityMinusOne;
+    }
+
+    @Override
+    public T nextInRange(int firstKey, int index) {
+        return AtomicArray.getPlain(buffer, (firstKey + index) & capacityMinusOne);
+    }
+
+    @Override
+    public void putRange(int firstKey, int n) {
+        for (int i = 0; i < n; i++) {
+            AtomicBooleanArray.setRelease(positionNotModified, (firstKey + i) & capacityMinusOne, false);
+        }
+    }
+
     @Override
     public T take() {
         return take(readBusyWaitStrategy);
@@ -77,4 +102,45 @@ class FastAtomicWritePrefilledRingBuffer<T> extends FastPrefilledRingBuffer<T> {
         AtomicBooleanArray.setPlain(positionNotModified, readPosition, true);
         return AtomicArray.getPlain(buffer, readPosition);
     }
+
+    @Override
+    public T tryTake() {
+        int readPosition = this.readPosition & capacityMinusOne;
+        if (AtomicBooleanArray.getAcquire(positionNotModified, readPosition)) {
+            return null;
+        }
+        this.readPosition++;
+        AtomicBooleanArray.setPlain(positionNotModified, readPosition, true);
+        return AtomicArray.getPlain(buffer, readPosition);
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = this.readPosition;
+        this.readPosition = readPosition + size;
+        batchPosition = readPosition;
+        readBusyWaitStrategy.reset();
+        for (int end = readPosition + size; readPosition != end; readPosition++) {
+            while (AtomicBooleanArray.getAcquire(positionNotModified, readPosition & capacityMinusOne)) {
+                readBusyWaitStrategy.tick();
+            }
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        int index = batchPosition++ & capacityMinusOne;
+        AtomicBooleanArray.setPlain(positionNotModified, index, true);
+        return AtomicArray.getPlain(buffer, index);
+    }
+
+    @Override
+    public int size() {
+        return FastRingBuffer.size(AtomicInt.getOpaque(this, READ_POSITION), AtomicInt.getOpaque(this, WRITE_POSITION), buffer.length);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicBooleanArray.getAcquire(positionNotModified, AtomicInt.getOpaque(this, READ_POSITION) & capacityMinusOne);
+    }
 }
@@ -22,14 +22,22 @@ import org.ringbuffer.wait.BusyWaitStrategy;
 
 @Contended
 class FastAtomicWriteRingBuffer<T> extends FastRingBuffer<T> {
-    private static final long WRITE_POSITION = Lang.objectFieldOffset(FastAtomicWriteRingBuffer.class, "writePosition");
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = FastAtomicWriteRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
 
     private final int capacityMinusOne;
     private final T[] buffer;
     private final BusyWaitStrategy readBusyWaitStrategy;
 
-    @Contended
+    @Contended("read")
     private int readPosition;
+    @Contended("read")
+    private int batchPosition;
     @Contended
     private int writePosition;
 
@@ -49,6 +57,12 @@ class FastAtomicWriteRingBuffer<T> extends FastRingBuffer<T> {
         AtomicArray.setRelease(buffer, AtomicInt.getAndIncrementVolatile(this, WRITE_POSITION) & capacityMinusOne, element);
     }
 
+    @Override
+    public boolean tryPut(T element) {
+        put(element);
+        return true;
+    }
+
     @Override
     public T take() {
         return take(readBusyWaitStrategy);
@@ -64,4 +78,47 @@ class FastAtomicWriteRingBuffer<T> extends FastRingBuffer<T> {
         }
         return element;
     }
+
+    @Override
+    public T tryTake() {
+        int readPosition = this.readPosition & capacityMinusOne;
+        T element = AtomicArray.getAndSetVolatile(buffer, readPosition, null);
+        if (element != null) {
+            this.readPosition++;
+        }
+        return element;
+    }
+
+    @Override
+    public T peek() {
+        return AtomicArray.getAcquire(buffer, readPosition & capacityMinusOne);
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = this.readPosition;
+        this.readPosition = readPosition + size;
+        batchPosition = readPosition;
+        readBusyWaitStrategy.reset();
+        for (int end = readPosition + size; readPosition != end; readPosition++) {
+            while (AtomicArray.getAcquire(buffer, readPosition & capacityMinusOne) == null) {
+                readBusyWaitStrategy.tick();
+            }
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        return AtomicArray.getAndSetVolatile(buffer, batchPosition++ & capacityMinusOne, null);
+    }
+
+    @Override
+    public int size() {
+        return size(AtomicInt.getOpaque(this, READ_POSITION), AtomicInt.getOpaque(this, WRITE_POSITION), buffer.length);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicArray.getAcquire(buffer, AtomicInt.getOpaque(this, READ_POSITION) & capacityMinusOne) == null;
+    }
 }
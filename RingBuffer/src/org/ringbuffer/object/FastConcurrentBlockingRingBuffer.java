@@ -0,0 +1,221 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.AtomicArray;
+import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.concurrent.AtomicIntArray;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.system.Unsafe;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+@Contended
+class FastConcurrentBlockingRingBuffer<T> extends FastRingBuffer<T> {
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = FastConcurrentBlockingRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final int[] sequences;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+
+    @Contended("read")
+    private int readPosition;
+    @Contended("read")
+    private int batchPosition;
+    @Contended
+    private int writePosition;
+
+    FastConcurrentBlockingRingBuffer(RingBufferBuilder<T> builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = builder.getCapacityMinusOne();
+        buffer = builder.getBuffer();
+        sequences = builder.getSequences();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(T element) {
+        int writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        writeBusyWaitStrategy.reset();
+        while (true) {
+            int index = writePosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - writePosition;
+            if (difference == 0) {
+                int witness = AtomicInt.compareAndExchangeVolatile(this, WRITE_POSITION, writePosition, writePosition + 1);
+                if (witness == writePosition) {
+                    AtomicArray.setPlain(buffer, index, element);
+                    AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+                    return;
+                }
+                writePosition = witness;
+            } else {
+                if (difference < 0) {
+                    writeBusyWaitStrategy.tick();
+                }
+                writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+            }
+        }
+    }
+
+    @Override
+    public boolean tryPut(T element) {
+        int writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        while (true) {
+            int index = writePosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - writePosition;
+            if (difference == 0) {
+                int witness = AtomicInt.compareAndExchangeVolatile(this, WRITE_POSITION, writePosition, writePosition + 1);
+                if (witness == writePosition) {
+                    AtomicArray.setPlain(buffer, index, element);
+                    AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+                    return true;
+                }
+                writePosition = witness;
+            } else {
+                if (difference < 0) {
+                    return false;
+                }
+                writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+            }
+        }
+    }
+
+    @Override
+    public T take() {
+        return take(HintBusyWaitStrategy.DEFAULT_INSTANCE);
+    }
+
+    @Override
+    public T take(BusyWaitStrategy busyWaitStrategy) {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        busyWaitStrategy.reset();
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - (readPosition + 1);
+            if (difference == 0) {
+                int witness = AtomicInt.compareAndExchangeVolatile(this, READ_POSITION, readPosition, readPosition + 1);
+                if (witness == readPosition) {
+                    T element = AtomicArray.getPlain(buffer, index);
+                    AtomicArray.setPlain(buffer, index, null);
+                    AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+                    return element;
+                }
+                readPosition = witness;
+            } else {
+                if (difference < 0) {
+                    busyWaitStrategy.tick();
+                }
+                readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+            }
+        }
+    }
+
+    @Override
+    public T tryTake() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - (readPosition + 1);
+            if (difference == 0) {
+                int witness = AtomicInt.compareAndExchangeVolatile(this, READ_POSITION, readPosition, readPosition + 1);
+                if (witness == readPosition) {
+                    T element = AtomicArray.getPlain(buffer, index);
+                    AtomicArray.setPlain(buffer, index, null);
+                    AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+                    return element;
+                }
+                readPosition = witness;
+            } else {
+                if (difference < 0) {
+                    return null;
+                }
+                readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+            }
+        }
+    }
+
+    @Override
+    public T peek() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - (readPosition + 1);
+            if (difference == 0) {
+                T element = AtomicArray.getPlain(buffer, index);
+                Unsafe.loadLoadFence();
+                // Another reader may have taken the element in the meantime
+                if (element != null && AtomicIntArray.getOpaque(sequences, index) == readPosition + 1) {
+                    return element;
+                }
+            } else if (difference < 0) {
+                return null;
+            }
+            readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        }
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return this;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = AtomicInt.getAndAddVolatile(this, READ_POSITION, size);
+        batchPosition = readPosition;
+        BusyWaitStrategy busyWaitStrategy = HintBusyWaitStrategy.DEFAULT_INSTANCE;
+        busyWaitStrategy.reset();
+        for (int end = readPosition + size; readPosition != end; readPosition++) {
+            while (AtomicIntArray.getAcquire(sequences, readPosition & capacityMinusOne) != readPosition + 1) {
+                busyWaitStrategy.tick();
+            }
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        int readPosition = batchPosition++;
+        int index = readPosition & capacityMinusOne;
+        T element = AtomicArray.getPlain(buffer, index);
+        AtomicArray.setPlain(buffer, index, null);
+        AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+        return element;
+    }
+
+    @Override
+    public int size() {
+        return size(AtomicInt.getOpaque(this, READ_POSITION), AtomicInt.getOpaque(this, WRITE_POSITION), capacity);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        return AtomicIntArray.getAcquire(sequences, readPosition & capacityMinusOne) != readPosition + 1;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.AtomicArray;
+import org.ringbuffer.concurrent.AtomicLong;
+import org.ringbuffer.concurrent.AtomicLongArray;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.system.Unsafe;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+@Contended
+class FastConcurrentOverwritingRingBuffer<T> extends FastRingBuffer<T> {
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = FastConcurrentOverwritingRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
+
+    private static final long WRITING = -1L;
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final long[] stamps;
+
+    @Contended
+    private long readPosition;
+    @Contended
+    private long writePosition;
+
+    FastConcurrentOverwritingRingBuffer(RingBufferBuilder<T> builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = builder.getCapacityMinusOne();
+        buffer = builder.getBuffer();
+        stamps = new long[capacity];
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(T element) {
+        long writePosition = AtomicLong.getAndIncrementVolatile(this, WRITE_POSITION);
+        int index = (int) writePosition & capacityMinusOne;
+        long stamp = writePosition + 1L;
+        while (true) {
+            long currentStamp = AtomicLongArray.getAcquire(stamps, index);
+            if (currentStamp >= stamp) {
+                return;
+            }
+            if (currentStamp != WRITING && AtomicLongArray.compareAndSetVolatile(stamps, index, currentStamp, WRITING)) {
+                break;
+            }
+            Thread.onSpinWait();
+        }
+        AtomicArray.setPlain(buffer, index, element);
+        AtomicLongArray.setRelease(stamps, index, stamp);
+    }
+
+    @Override
+    public boolean tryPut(T element) {
+        put(element);
+        return true;
+    }
+
+    @Override
+    public T take() {
+        return take(HintBusyWaitStrategy.DEFAULT_INSTANCE);
+    }
+
+    @Override
+    public T take(BusyWaitStrategy busyWaitStrategy) {
+        long readPosition = AtomicLong.getOpaque(this, READ_POSITION);
+        busyWaitStrategy.reset();
+        while (true) {
+            int index = (int) readPosition & capacityMinusOne;
+            long stamp = AtomicLongArray.getAcquire(stamps, index);
+            long expectedStamp = readPosition + 1L;
+            if (stamp == expectedStamp) {
+                T element = AtomicArray.getPlain(buffer, index);
+                Unsafe.loadLoadFence();
+                if (AtomicLongArray.getOpaque(stamps, index) == stamp) {
+                    long witness = AtomicLong.compareAndExchangeVolatile(this, READ_POSITION, readPosition, expectedStamp);
+                    if (witness == readPosition) {
+                        return element;
+                    }
+                    readPosition = witness;
+                }
+            } else if (stamp > expectedStamp) {
+                long oldestPosition = AtomicLong.getAcquire(this, WRITE_POSITION) - capacity;
+                long witness = AtomicLong.compareAndExchangeVolatile(this, READ_POSITION, readPosition, oldestPosition);
+                readPosition = witness == readPosition ? oldestPosition : witness;
+            } else {
+                busyWaitStrategy.tick();
+                readPosition = AtomicLong.getOpaque(this, READ_POSITION);
+            }
+        }
+    }
+
+    @Override
+    public T tryTake() {
+        long readPosition = AtomicLong.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = (int) readPosition & capacityMinusOne;
+            long stamp = AtomicLongArray.getAcquire(stamps, index);
+            long expectedStamp = readPosition + 1L;
+            if (stamp == expectedStamp) {
+                T element = AtomicArray.getPlain(buffer, index);
+                Unsafe.loadLoadFence();
+                if (AtomicLongArray.getOpaque(stamps, index) == stamp) {
+                    long witness = AtomicLong.compareAndExchangeVolatile(this, READ_POSITION, readPosition, expectedStamp);
+                    if (witness == readPosition) {
+                        return element;
+                    }
+                    readPosition = witness;
+                }
+            } else if (stamp > expectedStamp) {
+                long oldestPosition = AtomicLong.getAcquire(this, WRITE_POSITION) - capacity;
+                long witness = AtomicLong.compareAndExchangeVolatile(this, READ_POSITION, readPosition, oldestPosition);
+                readPosition = witness == readPosition ? oldestPosition : witness;
+            } else {
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public T peek() {
+        long readPosition = AtomicLong.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = (int) readPosition & capacityMinusOne;
+            long stamp = AtomicLongArray.getAcquire(stamps, index);
+            long expectedStamp = readPosition + 1L;
+            if (stamp == expectedStamp) {
+                T element = AtomicArray.getPlain(buffer, index);
+                Unsafe.loadLoadFence();
+                if (AtomicLongArray.getOpaque(stamps, index) == stamp) {
+                    return element;
+                }
+            } else if (stamp > expectedStamp) {
+                readPosition = AtomicLong.getAcquire(this, WRITE_POSITION) - capacity;
+            } else {
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        long writePosition = AtomicLong.getAcquire(this, WRITE_POSITION);
+        return size(AtomicLong.getOpaque(this, READ_POSITION), writePosition, capacity);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicLong.getAcquire(this, WRITE_POSITION) == AtomicLong.getOpaque(this, READ_POSITION);
+    }
+}
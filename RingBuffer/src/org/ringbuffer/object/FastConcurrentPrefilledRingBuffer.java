@@ -36,8 +36,10 @@ class FastConcurrentPrefilledRingBuffer<T> extends FastPrefilledRingBuffer<T> {
     private final T[] buffer;
     private final boolean[] positionNotModified;
 
-    @Contended
+    @Contended("read")
     private int readPosition;
+    @Contended("read")
+    private int batchPosition;
     @Contended
     private int writePosition;
 
@@ -67,6 +69,23 @@ class FastConcurrentPrefilledRingBuffer<T> extends FastPrefilledRingBuffer<T> {
         AtomicBooleanArray.setRelease(positionNotModified, key, false);
     }
 
+    @Override
+    public int nextKeys(int n) {
+        return AtomicInt.getAndAddVolatile(this, WRITE_POSITION, n) & capacityMinusOne;
+    }
+
+    @Override
+    public T nextInRange(int firstKey, int index) {
+        return AtomicArray.getPlain(buffer, (firstKey + index) & capacityMinusOne);
+    }
+
+    @Override
+    public void putRange(int firstKey, int n) {
+        for (int i = 0; i < n; i++) {
+            AtomicBooleanArray.setRelease(positionNotModified, (firstKey + i) & capacityMinusOne, false);
+        }
+    }
+
     @Override
     public T take() {
         return take(HintBusyWaitStrategy.DEFAULT_INSTANCE);
@@ -82,4 +101,56 @@ class FastConcurrentPrefilledRingBuffer<T> extends FastPrefilledRingBuffer<T> {
         AtomicBooleanArray.setOpaque(positionNotModified, readPosition, true);
         return AtomicArray.getPlain(buffer, readPosition);
     }
+
+    @Override
+    public T tryTake() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            if (AtomicBooleanArray.getAcquire(positionNotModified, index)) {
+                return null;
+            }
+            int witness = AtomicInt.compareAndExchangeVolatile(this, READ_POSITION, readPosition, readPosition + 1);
+            if (witness == readPosition) {
+                AtomicBooleanArray.setOpaque(positionNotModified, index, true);
+                return AtomicArray.getPlain(buffer, index);
+            }
+            readPosition = witness;
+        }
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return this;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = AtomicInt.getAndAddVolatile(this, READ_POSITION, size);
+        batchPosition = readPosition;
+        BusyWaitStrategy busyWaitStrategy = HintBusyWaitStrategy.DEFAULT_INSTANCE;
+        busyWaitStrategy.reset();
+        for (int end = readPosition + size; readPosition != end; readPosition++) {
+            while (AtomicBooleanArray.getAcquire(positionNotModified, readPosition & capacityMinusOne)) {
+                busyWaitStrategy.tick();
+            }
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        int index = batchPosition++ & capacityMinusOne;
+        AtomicBooleanArray.setOpaque(positionNotModified, index, true);
+        return AtomicArray.getPlain(buffer, index);
+    }
+
+    @Override
+    public int size() {
+        return FastRingBuffer.size(AtomicInt.getOpaque(this, READ_POSITION), AtomicInt.getOpaque(this, WRITE_POSITION), buffer.length);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicBooleanArray.getAcquire(positionNotModified, AtomicInt.getOpaque(this, READ_POSITION) & capacityMinusOne);
+    }
 }
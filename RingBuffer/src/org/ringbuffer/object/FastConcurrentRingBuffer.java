@@ -34,8 +34,10 @@ class FastConcurrentRingBuffer<T> extends FastRingBuffer<T> {
     private final int capacityMinusOne;
     private final T[] buffer;
 
-    @Contended
+    @Contended("read")
     private int readPosition;
+    @Contended("read")
+    private int batchPosition;
     @Contended
     private int writePosition;
 
@@ -54,6 +56,12 @@ class FastConcurrentRingBuffer<T> extends FastRingBuffer<T> {
         AtomicArray.setRelease(buffer, AtomicInt.getAndIncrementVolatile(this, WRITE_POSITION) & capacityMinusOne, element);
     }
 
+    @Override
+    public boolean tryPut(T element) {
+        put(element);
+        return true;
+    }
+
     @Override
     public T take() {
         return take(HintBusyWaitStrategy.DEFAULT_INSTANCE);
@@ -70,4 +78,63 @@ class FastConcurrentRingBuffer<T> extends FastRingBuffer<T> {
         AtomicArray.setOpaque(buffer, readPosition, null);
         return element;
     }
+
+    @Override
+    public T tryTake() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            if (AtomicArray.getAcquire(buffer, index) == null) {
+                return null;
+            }
+            int witness = AtomicInt.compareAndExchangeVolatile(this, READ_POSITION, readPosition, readPosition + 1);
+            if (witness == readPosition) {
+                T element = AtomicArray.getAcquire(buffer, index);
+                AtomicArray.setOpaque(buffer, index, null);
+                return element;
+            }
+            readPosition = witness;
+        }
+    }
+
+    @Override
+    public T peek() {
+        return AtomicArray.getAcquire(buffer, AtomicInt.getOpaque(this, READ_POSITION) & capacityMinusOne);
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return this;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = AtomicInt.getAndAddVolatile(this, READ_POSITION, size);
+        batchPosition = readPosition;
+        BusyWaitStrategy busyWaitStrategy = HintBusyWaitStrategy.DEFAULT_INSTANCE;
+        busyWaitStrategy.reset();
+        for (int end = readPosition + size; readPosition != end; readPosition++) {
+            while (AtomicArray.getAcquire(buffer, readPosition & capacityMinusOne) == null) {
+                busyWaitStrategy.tick();
+            }
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        int index = batchPosition++ & capacityMinusOne;
+        T element = AtomicArray.getPlain(buffer, index);
+        AtomicArray.setOpaque(buffer, index, null);
+        return element;
+    }
+
+    @Override
+    public int size() {
+        return size(AtomicInt.getOpaque(this, READ_POSITION), AtomicInt.getOpaque(this, WRITE_POSITION), buffer.length);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicArray.getAcquire(buffer, AtomicInt.getOpaque(this, READ_POSITION) & capacityMinusOne) == null;
+    }
 }
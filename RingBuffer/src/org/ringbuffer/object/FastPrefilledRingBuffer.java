@@ -22,14 +22,32 @@ abstract class FastPrefilledRingBuffer<T> implements PrefilledRingBuffer<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Takes the elements one at a time with {@link #tryTake()}, so that the per-slot protocol stays lock-free
+     * and no monitor is needed even if there are many readers.
+     */
     @Override
-    public void takeBatch(int size) {
-        throw new UnsupportedOperationException();
+    public int drainTo(T[] destination, int maxElements) {
+        int count = 0;
+        T element;
+        while (count < maxElements && (element = tryTake()) != null) {
+            destination[count++] = element;
+        }
+        return count;
     }
 
+    /**
+     * Like {@link #drainTo(Object[], int) drainTo(T[], int)}.
+     */
     @Override
-    public T takePlain() {
-        throw new UnsupportedOperationException();
+    public int drain(Consumer<T> action, int limit) {
+        int count = 0;
+        T element;
+        while (count < limit && (element = tryTake()) != null) {
+            action.accept(element);
+            count++;
+        }
+        return count;
     }
 
     @Override
@@ -47,16 +65,6 @@ abstract class FastPrefilledRingBuffer<T> implements PrefilledRingBuffer<T> {
         throw new UnsupportedOperationException();
     }
 
-    @Override
-    public int size() {
-        throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public boolean isEmpty() {
-        throw new UnsupportedOperationException();
-    }
-
     @Override
     public String toString() {
         throw new UnsupportedOperationException();
@@ -17,6 +17,17 @@ package org.ringbuffer.object;
 import java.util.function.Consumer;
 
 abstract class FastRingBuffer<T> implements RingBuffer<T> {
+    /**
+     * Puts the elements one at a time with {@link #put(Object) put(T)}, so each of them is published as soon as
+     * it is written, and the ring buffer waits or overwrites for each of them as {@code put()} does.
+     */
+    @Override
+    public void putAll(T[] elements, int offset, int length) {
+        for (int end = offset + length; offset < end; offset++) {
+            put(elements[offset]);
+        }
+    }
+
     @Override
     public Object getReadMonitor() {
         throw new UnsupportedOperationException();
@@ -32,28 +43,46 @@ abstract class FastRingBuffer<T> implements RingBuffer<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Takes the elements one at a time with {@link #tryTake()}, so that the per-slot protocol stays lock-free
+     * and no monitor is needed even if there are many readers.
+     */
     @Override
-    public T takeLast() {
-        throw new UnsupportedOperationException();
+    public int drainTo(T[] destination, int maxElements) {
+        int count = 0;
+        T element;
+        while (count < maxElements && (element = tryTake()) != null) {
+            destination[count++] = element;
+        }
+        return count;
     }
 
+    /**
+     * Like {@link #drainTo(Object[], int) drainTo(T[], int)}.
+     */
     @Override
-    public void forEach(Consumer<T> action) {
-        throw new UnsupportedOperationException();
+    public int drain(Consumer<T> action, int limit) {
+        int count = 0;
+        T element;
+        while (count < limit && (element = tryTake()) != null) {
+            action.accept(element);
+            count++;
+        }
+        return count;
     }
 
     @Override
-    public boolean contains(T element) {
+    public T takeLast() {
         throw new UnsupportedOperationException();
     }
 
     @Override
-    public int size() {
+    public void forEach(Consumer<T> action) {
         throw new UnsupportedOperationException();
     }
 
     @Override
-    public boolean isEmpty() {
+    public boolean contains(T element) {
         throw new UnsupportedOperationException();
     }
 
@@ -61,4 +90,23 @@ abstract class FastRingBuffer<T> implements RingBuffer<T> {
     public String toString() {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * The positions are read independently of each other, so the result is clamped between 0 and {@code capacity}.
+     */
+    static int size(int readPosition, int writePosition, int capacity) {
+        int size = writePosition - readPosition;
+        if (size <= 0) {
+            return 0;
+        }
+        return Math.min(size, capacity);
+    }
+
+    static int size(long readPosition, long writePosition, int capacity) {
+        long size = writePosition - readPosition;
+        if (size <= 0L) {
+            return 0;
+        }
+        return (int) Math.min(size, capacity);
+    }
 }
@@ -16,16 +16,28 @@ package org.ringbuffer.object;
 
 import jdk.internal.vm.annotation.Contended;
 import org.ringbuffer.concurrent.AtomicArray;
+import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.lang.Lang;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
 @Contended
 class FastVolatileRingBuffer<T> extends FastRingBuffer<T> {
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = FastVolatileRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
+
     private final int capacityMinusOne;
     private final T[] buffer;
     private final BusyWaitStrategy readBusyWaitStrategy;
 
-    @Contended
+    @Contended("read")
     private int readPosition;
+    @Contended("read")
+    private int batchPosition;
     @Contended
     private int writePosition;
 
@@ -45,6 +57,12 @@ class FastVolatileRingBuffer<T> extends FastRingBuffer<T> {
         AtomicArray.setRelease(buffer, writePosition++ & capacityMinusOne, element);
     }
 
+    @Override
+    public boolean tryPut(T element) {
+        put(element);
+        return true;
+    }
+
     @Override
     public T take() {
         return take(readBusyWaitStrategy);
@@ -61,4 +79,51 @@ class FastVolatileRingBuffer<T> extends FastRingBuffer<T> {
         AtomicArray.setPlain(buffer, readPosition, null);
         return element;
     }
+
+    @Override
+    public T tryTake() {
+        int readPosition = this.readPosition & capacityMinusOne;
+        T element = AtomicArray.getAcquire(buffer, readPosition);
+        if (element != null) {
+            AtomicArray.setPlain(buffer, readPosition, null);
+            this.readPosition++;
+        }
+        return element;
+    }
+
+    @Override
+    public T peek() {
+        return AtomicArray.getAcquire(buffer, readPosition & capacityMinusOne);
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = this.readPosition;
+        this.readPosition = readPosition + size;
+        batchPosition = readPosition;
+        readBusyWaitStrategy.reset();
+        for (int end = readPosition + size; readPosition != end; readPosition++) {
+            while (AtomicArray.getAcquire(buffer, readPosition & capacityMinusOne) == null) {
+                readBusyWaitStrategy.tick();
+            }
+        }
+    }
+
+    @Override
+    public T takePlain() {
+        int index = batchPosition++ & capacityMinusOne;
+        T element = AtomicArray.getPlain(buffer, index);
+        AtomicArray.setPlain(buffer, index, null);
+        return element;
+    }
+
+    @Override
+    public int size() {
+        return size(AtomicInt.getOpaque(this, READ_POSITION), AtomicInt.getOpaque(this, WRITE_POSITION), buffer.length);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return AtomicArray.getAcquire(buffer, AtomicInt.getOpaque(this, READ_POSITION) & capacityMinusOne) == null;
+    }
 }
@@ -0,0 +1,267 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.Atomic;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Gives each writer thread its own single-writer ring buffer, registered the first time that thread writes.
+ * The reader takes from the lanes in round-robin order, so elements written by the same thread are taken
+ * in FIFO order, but there is no order among different writers.
+ */
+@Contended
+class LanedRingBuffer<T> implements RingBuffer<T> {
+    private static final long LANES = Lang.objectFieldOffset(LanedRingBuffer.class, "lanes");
+
+    private final int capacity;
+    private final RingBufferBuilder<T> laneBuilder;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+    private final ThreadLocal<RingBuffer<T>> laneOfThread = new ThreadLocal<>();
+
+    @Contended("read")
+    private int nextLane;
+    @Contended("read")
+    private final DrainToAction<T> drainToAction = new DrainToAction<>();
+    private RingBuffer<T>[] lanes;
+
+    @SuppressWarnings("unchecked")
+    LanedRingBuffer(RingBufferBuilder<T> builder) {
+        capacity = builder.getCapacity();
+        laneBuilder = builder.toLaneBuilder();
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        lanes = (RingBuffer<T>[]) new RingBuffer<?>[0];
+    }
+
+    /**
+     * @return the capacity of each lane
+     */
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private RingBuffer<T> getLane() {
+        RingBuffer<T> lane = laneOfThread.get();
+        if (lane == null) {
+            lane = addLane();
+        }
+        return lane;
+    }
+
+    private synchronized RingBuffer<T> addLane() {
+        RingBuffer<T> lane = laneBuilder.build();
+        RingBuffer<T>[] lanes = Arrays.copyOf(this.lanes, this.lanes.length + 1);
+        lanes[lanes.length - 1] = lane;
+        Atomic.setRelease(this, LANES, lanes);
+        laneOfThread.set(lane);
+        return lane;
+    }
+
+    private RingBuffer<T>[] getLanes() {
+        return Atomic.getAcquire(this, LANES);
+    }
+
+    @Override
+    public void put(T element) {
+        getLane().put(element);
+    }
+
+    @Override
+    public boolean tryPut(T element) {
+        return getLane().tryPut(element);
+    }
+
+    @Override
+    public void putAll(T[] elements, int offset, int length) {
+        getLane().putAll(elements, offset, length);
+    }
+
+    @Override
+    public T take() {
+        return take(readBusyWaitStrategy);
+    }
+
+    @Override
+    public T take(BusyWaitStrategy busyWaitStrategy) {
+        T element;
+        busyWaitStrategy.reset();
+        while ((element = tryTake()) == null) {
+            busyWaitStrategy.tick();
+        }
+        return element;
+    }
+
+    @Override
+    public T tryTake() {
+        RingBuffer<T>[] lanes = getLanes();
+        int nextLane = this.nextLane;
+        for (int i = lanes.length; i > 0; i--) {
+            if (nextLane >= lanes.length) {
+                nextLane = 0;
+            }
+            T element = lanes[nextLane++].tryTake();
+            if (element != null) {
+                this.nextLane = nextLane;
+                return element;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public T peek() {
+        RingBuffer<T>[] lanes = getLanes();
+        int nextLane = this.nextLane;
+        for (int i = lanes.length; i > 0; i--) {
+            if (nextLane >= lanes.length) {
+                nextLane = 0;
+            }
+            T element = lanes[nextLane++].peek();
+            if (element != null) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public T takePlain() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        RingBuffer<T>[] lanes = getLanes();
+        int nextLane = this.nextLane;
+        int count = 0;
+        for (int i = lanes.length; i > 0 && count < maxElements; i--) {
+            if (nextLane >= lanes.length) {
+                nextLane = 0;
+            }
+            RingBuffer<T> lane = lanes[nextLane++];
+            if (count == 0) {
+                count = lane.drainTo(destination, maxElements);
+            } else {
+                drainToAction.destination = destination;
+                drainToAction.index = count;
+                count += lane.drain(drainToAction, maxElements - count);
+            }
+        }
+        drainToAction.destination = null;
+        this.nextLane = nextLane;
+        return count;
+    }
+
+    /**
+     * Writes the elements of the lanes after the first one directly into the destination, after those already
+     * taken.
+     */
+    private static class DrainToAction<T> implements Consumer<T> {
+        T[] destination;
+        int index;
+
+        @Override
+        public void accept(T element) {
+            destination[index++] = element;
+        }
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        RingBuffer<T>[] lanes = getLanes();
+        int nextLane = this.nextLane;
+        int count = 0;
+        for (int i = lanes.length; i > 0 && count < limit; i--) {
+            if (nextLane >= lanes.length) {
+                nextLane = 0;
+            }
+            count += lanes[nextLane++].drain(action, limit - count);
+        }
+        this.nextLane = nextLane;
+        return count;
+    }
+
+    @Override
+    public T takeLast() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void forEach(Consumer<T> action) {
+        for (RingBuffer<T> lane : getLanes()) {
+            lane.forEach(action);
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (RingBuffer<T> lane : getLanes()) {
+            if (lane.contains(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (RingBuffer<T> lane : getLanes()) {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (RingBuffer<T> lane : getLanes()) {
+            if (!lane.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isEmptyCached() {
+        for (RingBuffer<T> lane : getLanes()) {
+            if (!lane.isEmptyCached()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(getLanes());
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -18,6 +18,7 @@ import org.ringbuffer.AbstractRingBuffer;
 import org.ringbuffer.concurrent.ThreadLocal;
 import org.ringbuffer.wait.BusyWaitStrategy;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public interface ObjectRingBuffer<T> extends AbstractRingBuffer {
@@ -38,6 +39,29 @@ public interface ObjectRingBuffer<T> extends AbstractRingBuffer {
      */
     T take();
 
+    /**
+     * Takes an element if one is available, without waiting.
+     * <p>
+     * The same synchronization requirements as {@link #take()} apply.
+     *
+     * @return the element, or {@code null} if the ring buffer is empty, so the {@code null} element must not be used
+     */
+    T tryTake();
+
+    /**
+     * Like {@link #tryTake()}, but waits up to {@code timeout} for an element to become available.
+     * The timeout is measured with {@link System#nanoTime()}, and {@link Thread#onSpinWait()} is called in between
+     * attempts.
+     */
+    default T poll(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        T element;
+        while ((element = tryTake()) == null && System.nanoTime() - deadline < 0L) {
+            Thread.onSpinWait();
+        }
+        return element;
+    }
+
     /**
      * If the ring buffer supports at least one reader and writer, then this method allows to take
      * elements in batches. When it returns, at least {@code size} elements are available,
@@ -63,6 +87,25 @@ public interface ObjectRingBuffer<T> extends AbstractRingBuffer {
      */
     T takePlain();
 
+    /**
+     * Takes up to {@code maxElements} of the elements currently available, without waiting, and stores them
+     * into {@code destination} starting at index 0. The read position is published once for the whole batch.
+     * <p>
+     * If the ring buffer supports multiple readers, then the same synchronization requirements as {@link #take()}
+     * apply, unless it is lock-free: then the elements are taken one at a time with {@link #tryTake()}.
+     *
+     * @return the number of elements taken
+     */
+    int drainTo(T[] destination, int maxElements);
+
+    /**
+     * Like {@link #drainTo(Object[], int) drainTo(T[], int)}, but passes the elements to {@code action}.
+     * <p>
+     * If the ring buffer supports multiple readers, then {@code action} is invoked while the read monitor is held,
+     * unless it is lock-free: then the elements are taken one at a time with {@link #tryTake()}, and no monitor is held.
+     */
+    int drain(Consumer<T> action, int limit);
+
     T takeLast();
 
     /**
@@ -16,6 +16,7 @@ package org.ringbuffer.object;
 
 import org.ringbuffer.AbstractRingBufferBuilder;
 import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.ParkingBusyWaitStrategy;
 
 import java.util.Arrays;
 
@@ -33,6 +34,15 @@ abstract class ObjectRingBufferBuilder<T> extends AbstractRingBufferBuilder<Obje
         capacity = builder.capacity;
     }
 
+    ObjectRingBufferBuilder(ObjectRingBufferBuilder<?> builder, int capacity) {
+        super(builder);
+        validateCapacity(capacity);
+        if (type == RingBufferType.FAST || type == RingBufferType.FAST_BLOCKING || type == RingBufferType.FAST_OVERWRITING) {
+            validateCapacityPowerOfTwo(capacity);
+        }
+        this.capacity = capacity;
+    }
+
     abstract ObjectRingBufferBuilder<?> discarding();
 
     void discarding0() {
@@ -45,6 +55,22 @@ abstract class ObjectRingBufferBuilder<T> extends AbstractRingBufferBuilder<Obje
         validateCapacityPowerOfTwo(capacity);
     }
 
+    void blockingWithoutLocks0(BusyWaitStrategy busyWaitStrategy) {
+        super.blocking0(busyWaitStrategy);
+        type = RingBufferType.FAST_BLOCKING;
+        validateCapacityPowerOfTwo(capacity);
+    }
+
+    void overwritingWithoutLocks0() {
+        type = RingBufferType.FAST_OVERWRITING;
+        validateCapacityPowerOfTwo(capacity);
+    }
+
+    @Override
+    protected boolean isOneWriter() {
+        return super.isOneWriter();
+    }
+
     @Override
     protected BusyWaitStrategy getWriteBusyWaitStrategy() {
         return super.getWriteBusyWaitStrategy();
@@ -55,6 +81,11 @@ abstract class ObjectRingBufferBuilder<T> extends AbstractRingBufferBuilder<Obje
         return super.getReadBusyWaitStrategy();
     }
 
+    @Override
+    protected ParkingBusyWaitStrategy getParkingBusyWaitStrategy() {
+        return super.getParkingBusyWaitStrategy();
+    }
+
     int getCapacity() {
         return capacity;
     }
@@ -68,6 +99,14 @@ abstract class ObjectRingBufferBuilder<T> extends AbstractRingBufferBuilder<Obje
         return (T[]) new Object[capacity];
     }
 
+    int[] getSequences() {
+        int[] sequences = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences[i] = i;
+        }
+        return sequences;
+    }
+
     boolean[] getPositionNotModified() {
         boolean[] positionNotModified = new boolean[capacity];
         Arrays.fill(positionNotModified, true);
@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import org.ringbuffer.concurrent.ThreadLocal;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A pre-filled ring buffer with one writer and a graph of {@link Stage stages} that process each element in place.
+ * A stage can only read up to the slowest of the stages it depends on, and the writer waits for the slowest stage
+ * when the ring buffer is full.
+ * <p>
+ * All stages must be created before the first element is put.
+ *
+ * <pre>{@code
+ * PipelineRingBuffer<Event> ringBuffer = PipelineRingBuffer.<Event>withCapacity(capacity)
+ *         .fillWith(Event::new)
+ *         .build();
+ * PipelineRingBuffer.Stage<Event> processor = ringBuffer.createStage();
+ * PipelineRingBuffer.Stage<Event> consumer = ringBuffer.createStage(processor);
+ *
+ * // Writer thread
+ * int key = ringBuffer.nextKey();
+ * Event event = ringBuffer.next(key);
+ * // Populate event
+ * ringBuffer.put(key);
+ *
+ * // Processor thread
+ * Event event = processor.next();
+ * // Modify event
+ * processor.release();
+ *
+ * // Consumer thread
+ * Event event = consumer.next();
+ * // Read event
+ * consumer.release();
+ * }</pre>
+ */
+public interface PipelineRingBuffer<T> {
+    int getCapacity();
+
+    /**
+     * Creates a stage that can only read elements that have been put.
+     */
+    default Stage<T> createStage() {
+        return createStage(List.of());
+    }
+
+    /**
+     * Creates a stage that can only read elements that have been released by {@code dependency}.
+     */
+    default Stage<T> createStage(Stage<T> dependency) {
+        return createStage(List.of(dependency));
+    }
+
+    /**
+     * Creates a stage that can only read elements that have been released by all of {@code dependencies},
+     * or that have been put if there are none.
+     */
+    Stage<T> createStage(List<? extends Stage<T>> dependencies);
+
+    int nextKey();
+
+    T next(int key);
+
+    void put(int key);
+
+    static <T> PipelineRingBufferBuilder<T> withCapacity(int capacity) {
+        return new PipelineRingBufferBuilder<>(capacity);
+    }
+
+    /**
+     * Each stage must be used by a single thread.
+     * <p>
+     * Elements returned by {@link #next()} are owned by the stage until {@link #release()} is called,
+     * so they can be modified in place before dependent stages see them.
+     * Calling {@link #next()} more than once before {@link #release()} releases all the elements at once.
+     */
+    interface Stage<T> {
+        T next();
+
+        T next(@ThreadLocal BusyWaitStrategy busyWaitStrategy);
+
+        void release();
+
+        /**
+         * Passes up to {@code limit} of the elements currently available to {@code action}, without waiting,
+         * and then releases them all at once.
+         *
+         * @return the number of elements processed
+         */
+        int drain(Consumer<T> action, int limit);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import org.ringbuffer.lang.Assume;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+import java.util.function.Supplier;
+
+public class PipelineRingBufferBuilder<T> {
+    private final int capacity;
+    private Supplier<? extends T> filler;
+    private BusyWaitStrategy writeBusyWaitStrategy;
+
+    PipelineRingBufferBuilder(int capacity) {
+        Assume.notLesser(capacity, 2);
+        this.capacity = capacity;
+    }
+
+    public PipelineRingBufferBuilder<T> fillWith(Supplier<? extends T> filler) {
+        Assume.notNull(filler);
+        this.filler = filler;
+        return this;
+    }
+
+    /**
+     * The ring buffer is always blocking: {@code busyWaitStrategy} is used by the writer to wait for the slowest
+     * stage when it is full.
+     */
+    public PipelineRingBufferBuilder<T> blocking(BusyWaitStrategy busyWaitStrategy) {
+        Assume.notNull(busyWaitStrategy);
+        writeBusyWaitStrategy = busyWaitStrategy;
+        return this;
+    }
+
+    public PipelineRingBuffer<T> build() {
+        if (filler == null) {
+            throw new IllegalStateException("You must call fillWith().");
+        }
+        return new VolatilePipelineRingBuffer<>(this);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    @SuppressWarnings("unchecked")
+    T[] getBuffer() {
+        T[] buffer = (T[]) new Object[capacity];
+        for (int i = 0; i < capacity; i++) {
+            buffer[i] = filler.get();
+        }
+        return buffer;
+    }
+
+    BusyWaitStrategy getWriteBusyWaitStrategy() {
+        if (writeBusyWaitStrategy == null) {
+            return HintBusyWaitStrategy.getDefault();
+        }
+        return writeBusyWaitStrategy;
+    }
+}
@@ -40,6 +40,27 @@ public interface PrefilledRingBuffer<T> extends ObjectRingBuffer<T> {
 
     void put(int key);
 
+    /**
+     * Claims {@code n} consecutive slots, where {@code n} must be lesser than the capacity, and returns the key
+     * of the first one:
+     *
+     * <pre>{@code
+     * int firstKey = ringBuffer.nextKeys(n);
+     * for (int i = 0; i < n; i++) {
+     *     T element = ringBuffer.nextInRange(firstKey, i);
+     *     // Populate element
+     * }
+     * ringBuffer.putRange(firstKey, n);
+     * }</pre>
+     * <p>
+     * The same synchronization requirements as {@link #nextKey()} apply, but only once for all the slots.
+     */
+    int nextKeys(int n);
+
+    T nextInRange(int firstKey, int index);
+
+    void putRange(int firstKey, int n);
+
     static <T> PrefilledRingBufferBuilder<T> withCapacity(int capacity) {
         return new PrefilledRingBufferBuilder<>(capacity);
     }
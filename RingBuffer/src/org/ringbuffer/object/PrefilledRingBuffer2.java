@@ -43,4 +43,29 @@ public interface PrefilledRingBuffer2<T> extends ObjectRingBuffer<T> {
     T next(int key, int putKey);
 
     void put(int putKey);
+
+    /**
+     * Claims {@code n} consecutive slots, where {@code n} must be lesser than the capacity, and returns the key
+     * of the first one:
+     *
+     * <pre>{@code
+     * int firstKey = ringBuffer.nextKeys(n);
+     * for (int i = 0; i < n; i++) {
+     *     T element = ringBuffer.nextInRange(firstKey, i);
+     *     // Populate element
+     * }
+     * ringBuffer.putRange(firstKey, n);
+     * }</pre>
+     * <p>
+     * If the ring buffer is blocking, then this method waits until there is space for all of them.
+     * If it is discarding and there is not enough space, then {@code -1} is returned and the elements must be
+     * discarded.
+     * <p>
+     * The same synchronization requirements as {@link #nextKey()} apply, but only once for all the slots.
+     */
+    int nextKeys(int n);
+
+    T nextInRange(int firstKey, int index);
+
+    void putRange(int firstKey, int n);
 }
@@ -0,0 +1,254 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.lang.Assume;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Takes from a number of lanes, each of which is a ring buffer, so that elements put into a lane with higher priority
+ * can overtake the ones that are waiting in the others. Lane {@code 0} has the highest priority.
+ * <p>
+ * By default, elements are taken from the first lane that is not empty. If weights are given, then lanes are served
+ * in weighted round-robin order: each lane in turn is taken from at most as many times in a row as its weight,
+ * and empty lanes are skipped, so no lane can be starved.
+ * <p>
+ * Each lane is probed with {@link RingBuffer#isEmptyCached()} before it is taken from, so an empty lane costs
+ * neither an acquire load, unless its cached write position has been reached, nor a lock if it supports multiple
+ * readers.
+ * Writers should put into the lanes directly, see {@link #getLane(int)}.
+ * <p>
+ * If there are multiple readers, then the lanes must support them, and the weighted round-robin order is only
+ * approximately respected.
+ */
+@Contended
+public class PriorityRingBuffer<T> implements ObjectRingBuffer<T> {
+    private final RingBuffer<T>[] lanes;
+    private final int[] weights;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+
+    @Contended("read")
+    private int currentLane;
+    @Contended("read")
+    private int remainingTakes;
+
+    @SafeVarargs
+    public PriorityRingBuffer(RingBuffer<T>... lanes) {
+        this(null, HintBusyWaitStrategy.getDefault(), lanes);
+    }
+
+    /**
+     * @param weights the maximum number of elements taken in a row from each lane,
+     *                or {@code null} to always take from the first lane that is not empty
+     */
+    @SafeVarargs
+    public PriorityRingBuffer(int[] weights, BusyWaitStrategy readBusyWaitStrategy, RingBuffer<T>... lanes) {
+        Assume.notLesser(lanes.length, 1);
+        if (weights != null) {
+            if (weights.length != lanes.length) {
+                throw new IllegalArgumentException("There must be a weight for each lane.");
+            }
+            for (int weight : weights) {
+                Assume.notLesser(weight, 1);
+            }
+            remainingTakes = weights[0];
+        }
+        this.lanes = newLanes(lanes.length);
+        for (int i = 0; i < lanes.length; i++) {
+            this.lanes[i] = lanes[i];
+        }
+        this.weights = weights;
+        this.readBusyWaitStrategy = readBusyWaitStrategy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> RingBuffer<T>[] newLanes(int length) {
+        return (RingBuffer<T>[]) new RingBuffer<?>[length];
+    }
+
+    public RingBuffer<T> getLane(int priority) {
+        return lanes[priority];
+    }
+
+    public int getLanes() {
+        return lanes.length;
+    }
+
+    public void put(int priority, T element) {
+        lanes[priority].put(element);
+    }
+
+    public boolean tryPut(int priority, T element) {
+        return lanes[priority].tryPut(element);
+    }
+
+    /**
+     * @return the sum of the capacities of the lanes
+     */
+    @Override
+    public int getCapacity() {
+        int capacity = 0;
+        for (RingBuffer<T> lane : lanes) {
+            capacity += lane.getCapacity();
+        }
+        return capacity;
+    }
+
+    @Override
+    public T take() {
+        return take(readBusyWaitStrategy);
+    }
+
+    @Override
+    public T take(BusyWaitStrategy busyWaitStrategy) {
+        T element;
+        busyWaitStrategy.reset();
+        while ((element = tryTake()) == null) {
+            busyWaitStrategy.tick();
+        }
+        return element;
+    }
+
+    @Override
+    public T tryTake() {
+        if (weights == null) {
+            for (int i = 0; i < lanes.length; i++) {
+                T element = tryTake(i);
+                if (element != null) {
+                    return element;
+                }
+            }
+            return null;
+        }
+        return tryTakeWeighted();
+    }
+
+    private T tryTake(int lane) {
+        RingBuffer<T> ringBuffer = lanes[lane];
+        if (ringBuffer.isEmptyCached()) {
+            return null;
+        }
+        return ringBuffer.tryTake();
+    }
+
+    private T tryTakeWeighted() {
+        int currentLane = this.currentLane;
+        int remainingTakes = this.remainingTakes;
+        // The current lane is visited twice, the second time with its full weight
+        for (int i = lanes.length; i >= 0; i--) {
+            if (remainingTakes != 0) {
+                T element = tryTake(currentLane);
+                if (element != null) {
+                    this.currentLane = currentLane;
+                    this.remainingTakes = remainingTakes - 1;
+                    return element;
+                }
+            }
+            if (++currentLane == lanes.length) {
+                currentLane = 0;
+            }
+            remainingTakes = weights[currentLane];
+        }
+        return null;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public T takePlain() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        int count = 0;
+        T element;
+        while (count < maxElements && (element = tryTake()) != null) {
+            destination[count++] = element;
+        }
+        return count;
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        int count = 0;
+        T element;
+        while (count < limit && (element = tryTake()) != null) {
+            action.accept(element);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public T takeLast() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void forEach(Consumer<T> action) {
+        for (RingBuffer<T> lane : lanes) {
+            lane.forEach(action);
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (RingBuffer<T> lane : lanes) {
+            if (lane.contains(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (RingBuffer<T> lane : lanes) {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (RingBuffer<T> lane : lanes) {
+            if (!lane.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(lanes);
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,423 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.Atomic;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.function.Consumer;
+
+/**
+ * Allows to change the capacity while writers and readers are running.
+ * <p>
+ * Each capacity is a generation, which is a ring buffer built with the same settings.
+ * {@link #resize(int)} builds a new generation and makes it pending: the next put moves writers into it and links it
+ * to the old one, while readers keep taking from the old one until it is empty, and then move to the new one.
+ * So elements are taken in the order in which they were put by each writer, and a resize can happen from any thread.
+ * <p>
+ * Until a resize happens, each put costs one more acquire load than using the ring buffer directly, and each take
+ * one more field load. If the ring buffer supports multiple writers, then they must synchronize on the ring buffer,
+ * which they do while holding its lock: lock-free writers and writer lanes are not supported, since nothing would
+ * tell when the puts into the old generation that are in progress have completed.
+ *
+ * @see RingBufferBuilder#resizable()
+ */
+@Contended
+public class ResizableRingBuffer<T> implements RingBuffer<T> {
+    private static final long LAST_GENERATION, WRITE_GENERATION, READ_GENERATION;
+
+    static {
+        final Class<?> clazz = ResizableRingBuffer.class;
+        LAST_GENERATION = Lang.objectFieldOffset(clazz, "lastGeneration");
+        WRITE_GENERATION = Lang.objectFieldOffset(clazz, "writeGeneration");
+        READ_GENERATION = Lang.objectFieldOffset(clazz, "readGeneration");
+    }
+
+    private final RingBufferBuilder<T> builder;
+    private final boolean oneWriter;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+    private final Object readMonitor = new Object();
+
+    @Contended
+    private Generation<T> lastGeneration;
+    @Contended
+    private Generation<T> writeGeneration;
+    @Contended
+    private Generation<T> readGeneration;
+
+    ResizableRingBuffer(RingBufferBuilder<T> builder) {
+        this.builder = builder;
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+        writeGeneration = new Generation<>(builder.build());
+        readGeneration = writeGeneration;
+        lastGeneration = writeGeneration;
+        oneWriter = builder.isOneWriter();
+        if (!oneWriter && !builder.hasLockedWriters()) {
+            throw new IllegalStateException("Resizable ring buffers with many writers cannot be lock-free nor have writer lanes.");
+        }
+    }
+
+    /**
+     * @return the capacity given to the last {@link #resize(int)}, or the initial one
+     */
+    @Override
+    public int getCapacity() {
+        return Atomic.<Generation<T>>getAcquire(this, LAST_GENERATION).ringBuffer.getCapacity();
+    }
+
+    /**
+     * Can be called from any thread, even while writers and readers are running.
+     * <p>
+     * The elements that are in the ring buffer are not copied, and readers take them before moving to the new
+     * generation, so while they do so the ring buffer can hold more elements than {@code capacity}.
+     */
+    public synchronized void resize(int capacity) {
+        Generation<T> generation = new Generation<>(builder.copyWithCapacity(capacity).build());
+        lastGeneration.setPending(generation);
+        Atomic.setRelease(this, LAST_GENERATION, generation);
+    }
+
+    /**
+     * Only used if there is one writer.
+     */
+    private RingBuffer<T> nextWriteGeneration() {
+        Generation<T> generation = writeGeneration;
+        Generation<T> pending = generation.getPending();
+        if (pending == null) {
+            return generation.ringBuffer;
+        }
+        return switchWriteGeneration(generation, pending).ringBuffer;
+    }
+
+    /**
+     * Everything put into {@code generation} has been published, so it is linked to the pending one for readers.
+     * If there are many writers, then this is called while holding the lock of {@code generation}.
+     */
+    private Generation<T> switchWriteGeneration(Generation<T> generation, Generation<T> pending) {
+        do {
+            generation.setNext(pending);
+            generation = pending;
+        } while ((pending = generation.getPending()) != null);
+        Atomic.setRelease(this, WRITE_GENERATION, generation);
+        return generation;
+    }
+
+    private Generation<T> getWriteGeneration() {
+        return Atomic.getAcquire(this, WRITE_GENERATION);
+    }
+
+    /**
+     * Only used if there are many writers, while holding the lock of {@code generation}: puts into a generation
+     * are made while holding its lock, so once a writer sees a pending generation, nobody puts into it anymore.
+     *
+     * @return whether {@code generation} can be put into, otherwise the caller must load the new one and retry
+     */
+    private boolean isWritable(Generation<T> generation) {
+        Generation<T> pending = generation.getPending();
+        if (pending == null) {
+            return true;
+        }
+        if (generation == getWriteGeneration()) {
+            switchWriteGeneration(generation, pending);
+        }
+        return false;
+    }
+
+    private Generation<T> getReadGeneration() {
+        return Atomic.getAcquire(this, READ_GENERATION);
+    }
+
+    private Generation<T> advance(Generation<T> generation, Generation<T> next) {
+        Atomic.compareAndSetVolatile(this, READ_GENERATION, generation, next);
+        return next;
+    }
+
+    @Override
+    public void put(T element) {
+        if (oneWriter) {
+            nextWriteGeneration().put(element);
+            return;
+        }
+        while (true) {
+            Generation<T> generation = getWriteGeneration();
+            synchronized (generation.ringBuffer) {
+                if (isWritable(generation)) {
+                    generation.ringBuffer.put(element);
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean tryPut(T element) {
+        if (oneWriter) {
+            return nextWriteGeneration().tryPut(element);
+        }
+        while (true) {
+            Generation<T> generation = getWriteGeneration();
+            synchronized (generation.ringBuffer) {
+                if (isWritable(generation)) {
+                    return generation.ringBuffer.tryPut(element);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void putAll(T[] elements, int offset, int length) {
+        if (oneWriter) {
+            nextWriteGeneration().putAll(elements, offset, length);
+            return;
+        }
+        while (true) {
+            Generation<T> generation = getWriteGeneration();
+            synchronized (generation.ringBuffer) {
+                if (isWritable(generation)) {
+                    generation.ringBuffer.putAll(elements, offset, length);
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public T take() {
+        return take(readBusyWaitStrategy);
+    }
+
+    @Override
+    public T take(BusyWaitStrategy busyWaitStrategy) {
+        T element;
+        busyWaitStrategy.reset();
+        while ((element = tryTake()) == null) {
+            busyWaitStrategy.tick();
+        }
+        return element;
+    }
+
+    @Override
+    public T tryTake() {
+        Generation<T> generation = getReadGeneration();
+        while (true) {
+            T element = generation.ringBuffer.tryTake();
+            if (element != null) {
+                return element;
+            }
+            Generation<T> next = generation.getNext();
+            if (next == null) {
+                return null;
+            }
+            // The next generation is published after the last element put into this one
+            element = generation.ringBuffer.tryTake();
+            if (element != null) {
+                return element;
+            }
+            generation = advance(generation, next);
+        }
+    }
+
+    @Override
+    public T peek() {
+        Generation<T> generation = getReadGeneration();
+        while (true) {
+            T element = generation.ringBuffer.peek();
+            if (element != null) {
+                return element;
+            }
+            Generation<T> next = generation.getNext();
+            if (next == null) {
+                return null;
+            }
+            element = generation.ringBuffer.peek();
+            if (element != null) {
+                return element;
+            }
+            generation = next;
+        }
+    }
+
+    /**
+     * Supported if the generations support it: each of them is searched in turn.
+     */
+    @Override
+    public boolean remove(T element) {
+        for (Generation<T> generation = getReadGeneration(); generation != null; generation = generation.getNext()) {
+            if (generation.ringBuffer.remove(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits until at least {@code size} elements are available in the generations readers can see,
+     * which may span more than one of them.
+     */
+    @Override
+    public void takeBatch(int size) {
+        readBusyWaitStrategy.reset();
+        while (size() < size) {
+            readBusyWaitStrategy.tick();
+        }
+    }
+
+    /**
+     * Has to move to the next generation when the current one is empty, so it costs as much as {@link #tryTake()}.
+     */
+    @Override
+    public T takePlain() {
+        return tryTake();
+    }
+
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        int count = getReadGeneration().ringBuffer.drainTo(destination, maxElements);
+        T element;
+        while (count < maxElements && (element = tryTake()) != null) {
+            destination[count++] = element;
+        }
+        return count;
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        Generation<T> generation = getReadGeneration();
+        int count = 0;
+        while (true) {
+            count += generation.ringBuffer.drain(action, limit - count);
+            if (count == limit) {
+                return count;
+            }
+            Generation<T> next = generation.getNext();
+            if (next == null) {
+                return count;
+            }
+            count += generation.ringBuffer.drain(action, limit - count);
+            if (count == limit) {
+                return count;
+            }
+            generation = advance(generation, next);
+        }
+    }
+
+    /**
+     * The last element may be in a newer generation than the first one, so elements are taken one at a time
+     * until none is left.
+     */
+    @Override
+    public T takeLast() {
+        T last = take();
+        T element;
+        while ((element = tryTake()) != null) {
+            last = element;
+        }
+        return last;
+    }
+
+    @Override
+    public void forEach(Consumer<T> action) {
+        for (Generation<T> generation = getReadGeneration(); generation != null; generation = generation.getNext()) {
+            generation.ringBuffer.forEach(action);
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (Generation<T> generation = getReadGeneration(); generation != null; generation = generation.getNext()) {
+            if (generation.ringBuffer.contains(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Generation<T> generation = getReadGeneration(); generation != null; generation = generation.getNext()) {
+            size += generation.ringBuffer.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Generation<T> generation = getReadGeneration(); generation != null; generation = generation.getNext()) {
+            if (!generation.ringBuffer.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        forEach(element -> {
+            builder.append(element.toString());
+            builder.append(", ");
+        });
+        builder.setLength(builder.length() - 2);
+        builder.append(']');
+        return builder.toString();
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return readMonitor;
+    }
+
+    private static class Generation<T> {
+        private static final long PENDING, NEXT;
+
+        static {
+            final Class<?> clazz = Generation.class;
+            PENDING = Lang.objectFieldOffset(clazz, "pending");
+            NEXT = Lang.objectFieldOffset(clazz, "next");
+        }
+
+        final RingBuffer<T> ringBuffer;
+        private Generation<T> pending;
+        private Generation<T> next;
+
+        Generation(RingBuffer<T> ringBuffer) {
+            this.ringBuffer = ringBuffer;
+        }
+
+        Generation<T> getPending() {
+            return Atomic.getAcquire(this, PENDING);
+        }
+
+        void setPending(Generation<T> pending) {
+            Atomic.setRelease(this, PENDING, pending);
+        }
+
+        Generation<T> getNext() {
+            return Atomic.getAcquire(this, NEXT);
+        }
+
+        void setNext(Generation<T> next) {
+            Atomic.setRelease(this, NEXT, next);
+        }
+    }
+}
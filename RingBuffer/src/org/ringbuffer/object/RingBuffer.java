@@ -14,6 +14,8 @@
 
 package org.ringbuffer.object;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * The {@code null} element may be used if the {@link #contains(Object) contains(T)} and {@link #toString()}
  * methods are never called.
@@ -21,6 +23,74 @@ package org.ringbuffer.object;
 public interface RingBuffer<T> extends ObjectRingBuffer<T> {
     void put(T element);
 
+    /**
+     * Puts {@code element} if there is space for it, without waiting.
+     *
+     * @return {@code false} if the ring buffer is blocking or discarding and full, {@code true} otherwise
+     */
+    boolean tryPut(T element);
+
+    /**
+     * Like {@link #tryPut(Object) tryPut(T)}, but waits up to {@code timeout} for space to become available.
+     * The timeout is measured with {@link System#nanoTime()}, and {@link Thread#onSpinWait()} is called in between
+     * attempts.
+     */
+    default boolean offer(T element, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!tryPut(element)) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    /**
+     * Puts {@code length} elements of {@code elements} starting at {@code offset}, publishing them all at once.
+     * <p>
+     * If the ring buffer is blocking, then this method waits until there is enough space for all of them,
+     * so {@code length} must be lesser than the capacity.
+     * If the ring buffer is discarding, then the elements that do not fit are discarded.
+     * If the ring buffer is lock-free, then the elements are put and published one at a time.
+     */
+    void putAll(T[] elements, int offset, int length);
+
+    /**
+     * Like {@link #isEmpty()}, but meant to be called by a reader before {@link #tryTake()}: the read position is
+     * compared with the write position cached by the readers, which is only reloaded if they match,
+     * and the read monitor is not taken.
+     * <p>
+     * If the ring buffer supports multiple readers, then the result may be outdated by the time it is returned.
+     */
+    default boolean isEmptyCached() {
+        return isEmpty();
+    }
+
+    /**
+     * Returns the element that {@link #tryTake()} would take, without taking it.
+     * <p>
+     * The same synchronization requirements as {@link #tryTake()} apply, except for lock-free ring buffers with
+     * multiple readers: then another reader may take the element before it is returned.
+     *
+     * @return the element, or {@code null} if the ring buffer is empty
+     */
+    T peek();
+
+    /**
+     * Removes the first occurrence of {@code element}, according to {@link Object#equals(Object)}, and shifts the
+     * elements that were put before it by one slot, so that the order in which they are taken does not change.
+     * <p>
+     * Supported only if readers synchronize on the {@link #getReadMonitor() read monitor}, that is if the ring buffer
+     * supports multiple readers and is not lock-free: the read monitor is held while searching and shifting, so
+     * this method can be called from any thread, and writers do not wait for it unless the ring buffer is full.
+     *
+     * @return whether {@code element} was found
+     */
+    default boolean remove(T element) {
+        throw new UnsupportedOperationException();
+    }
+
     static <T> RingBufferBuilder<T> withCapacity(int capacity) {
         return new RingBufferBuilder<>(capacity);
     }
@@ -0,0 +1,218 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allows a ring buffer to be used where a {@link BlockingQueue} is expected, for example by a
+ * {@link java.util.concurrent.ThreadPoolExecutor}.
+ * <p>
+ * {@link #offer(Object) offer(E)} and {@link #poll()} map onto {@link RingBuffer#tryPut(Object) tryPut(T)} and
+ * {@link RingBuffer#tryTake()}, while the other insertion and removal methods retry them, ticking the busy-wait
+ * strategies passed to the constructor and throwing {@link InterruptedException} if the thread is interrupted.
+ * The busy-wait strategies are shared among all the threads that wait, so they must not hold per-thread state,
+ * like the default instances of {@link HintBusyWaitStrategy} and {@link org.ringbuffer.wait.YieldBusyWaitStrategy
+ * YieldBusyWaitStrategy}. A {@link org.ringbuffer.wait.ParkingBusyWaitStrategy ParkingBusyWaitStrategy} supports
+ * only one waiting thread, so it can be passed as {@code readBusyWaitStrategy} only if a single thread takes from
+ * the queue, in which case it must be the instance given to {@code waitingWith()}, so that writers wake it up.
+ * <p>
+ * {@link #drainTo(Collection, int)} takes all the elements in one batch using
+ * {@link RingBuffer#drain(java.util.function.Consumer, int) drain()}, which is supported by lock-free ring buffers
+ * as well.
+ * <p>
+ * The ring buffer must support as many writers and readers as the threads that use the queue, and should be
+ * blocking. {@link #peek()} maps onto {@link RingBuffer#peek()}, and {@link #remove(Object)} onto
+ * {@link RingBuffer#remove(Object) remove(T)}, which is supported only if the ring buffer supports multiple readers
+ * and is not lock-free. {@link #iterator()} returns a snapshot, so the same restrictions as
+ * {@link RingBuffer#forEach(java.util.function.Consumer) forEach()} apply, and its {@code remove()} is not supported.
+ * <p>
+ * Therefore, to back a {@link java.util.concurrent.ThreadPoolExecutor ThreadPoolExecutor}, the ring buffer has to
+ * support many readers and not be lock-free: then {@link java.util.concurrent.ThreadPoolExecutor#remove(Runnable)
+ * remove()} removes the task, tasks submitted after a shutdown are removed and rejected, and
+ * {@link java.util.concurrent.ThreadPoolExecutor#purge() purge()} removes the cancelled tasks one at a time.
+ */
+public class RingBufferBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+    private final RingBuffer<E> ringBuffer;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+
+    public RingBufferBlockingQueue(RingBuffer<E> ringBuffer) {
+        this(ringBuffer, HintBusyWaitStrategy.DEFAULT_INSTANCE, HintBusyWaitStrategy.DEFAULT_INSTANCE);
+    }
+
+    public RingBufferBlockingQueue(RingBuffer<E> ringBuffer, BusyWaitStrategy writeBusyWaitStrategy, BusyWaitStrategy readBusyWaitStrategy) {
+        this.ringBuffer = ringBuffer;
+        this.writeBusyWaitStrategy = writeBusyWaitStrategy;
+        this.readBusyWaitStrategy = readBusyWaitStrategy;
+    }
+
+    public RingBuffer<E> getRingBuffer() {
+        return ringBuffer;
+    }
+
+    @Override
+    public boolean offer(E element) {
+        Objects.requireNonNull(element);
+        return ringBuffer.tryPut(element);
+    }
+
+    @Override
+    public void put(E element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        if (ringBuffer.tryPut(element)) {
+            return;
+        }
+        writeBusyWaitStrategy.reset();
+        do {
+            checkInterrupted();
+            writeBusyWaitStrategy.tick();
+        } while (!ringBuffer.tryPut(element));
+    }
+
+    @Override
+    public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(element);
+        if (ringBuffer.tryPut(element)) {
+            return true;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        writeBusyWaitStrategy.reset();
+        do {
+            checkInterrupted();
+            if (System.nanoTime() - deadline >= 0L) {
+                return false;
+            }
+            writeBusyWaitStrategy.tick();
+        } while (!ringBuffer.tryPut(element));
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        return ringBuffer.tryTake();
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E element = ringBuffer.tryTake();
+        if (element != null) {
+            return element;
+        }
+        readBusyWaitStrategy.reset();
+        do {
+            checkInterrupted();
+            readBusyWaitStrategy.tick();
+        } while ((element = ringBuffer.tryTake()) == null);
+        return element;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E element = ringBuffer.tryTake();
+        if (element != null) {
+            return element;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        readBusyWaitStrategy.reset();
+        do {
+            checkInterrupted();
+            if (System.nanoTime() - deadline >= 0L) {
+                return null;
+            }
+            readBusyWaitStrategy.tick();
+        } while ((element = ringBuffer.tryTake()) == null);
+        return element;
+    }
+
+    private static void checkInterrupted() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        if (collection == this) {
+            throw new IllegalArgumentException();
+        }
+        return ringBuffer.drain(collection::add, maxElements);
+    }
+
+    @Override
+    public E peek() {
+        return ringBuffer.peek();
+    }
+
+    /**
+     * @return an upper bound, because one slot is always left empty by some ring buffers
+     */
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, ringBuffer.getCapacity() - ringBuffer.size());
+    }
+
+    @Override
+    public int size() {
+        return ringBuffer.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ringBuffer.isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean contains(Object element) {
+        return element != null && ringBuffer.contains((E) element);
+    }
+
+    /**
+     * @throws UnsupportedOperationException if the ring buffer does not support {@link RingBuffer#remove(Object)
+     *                                       remove(T)}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean remove(Object element) {
+        return element != null && ringBuffer.remove((E) element);
+    }
+
+    /**
+     * @return an iterator over a snapshot of the elements, whose {@link Iterator#remove() remove()} is not supported
+     */
+    @Override
+    public Iterator<E> iterator() {
+        List<E> elements = new ArrayList<>();
+        ringBuffer.forEach(elements::add);
+        return Collections.unmodifiableList(elements).iterator();
+    }
+
+    @Override
+    public String toString() {
+        return ringBuffer.toString();
+    }
+}
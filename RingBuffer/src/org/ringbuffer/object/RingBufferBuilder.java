@@ -15,14 +15,35 @@
 package org.ringbuffer.object;
 
 import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
 
 public class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
     private boolean gcEnabled;
+    private boolean writerLanes;
+    private ChunkPool chunkPool;
+    // All fields are copied in <init>(RingBufferBuilder<T>)
 
     RingBufferBuilder(int capacity) {
         super(capacity);
     }
 
+    private RingBufferBuilder(RingBufferBuilder<T> builder) {
+        super(builder);
+        gcEnabled = builder.gcEnabled;
+        writerLanes = builder.writerLanes;
+        chunkPool = builder.chunkPool;
+    }
+
+    private RingBufferBuilder(RingBufferBuilder<T> builder, int capacity) {
+        super(builder, capacity);
+        if (builder.chunkPool != null) {
+            throw new IllegalStateException("Unbounded ring buffers cannot be resized.");
+        }
+        gcEnabled = builder.gcEnabled;
+        writerLanes = builder.writerLanes;
+        chunkPool = builder.chunkPool;
+    }
+
     @Override
     public RingBufferBuilder<T> oneWriter() {
         super.oneWriter0();
@@ -74,6 +95,35 @@ public class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
         return this;
     }
 
+    /**
+     * Lock-free, but unlike {@link #withoutLocks()} the ring buffer may become full, in which case writers
+     * busy-wait for a slot to be read.
+     */
+    public RingBufferBuilder<T> blockingWithoutLocks() {
+        return blockingWithoutLocks(HintBusyWaitStrategy.getDefault());
+    }
+
+    /**
+     * If the ring buffer supports multiple writers, then {@code busyWaitStrategy} is shared among them
+     * and must be thread-safe.
+     *
+     * @see #blockingWithoutLocks()
+     */
+    public RingBufferBuilder<T> blockingWithoutLocks(BusyWaitStrategy busyWaitStrategy) {
+        super.blockingWithoutLocks0(busyWaitStrategy);
+        return this;
+    }
+
+    /**
+     * Lock-free, and the ring buffer never becomes full: writers overwrite the oldest elements.
+     * Readers that have been lapped skip ahead to the oldest element still available, so an element may be lost,
+     * but each reader takes elements in the order in which they were written.
+     */
+    public RingBufferBuilder<T> overwritingWithoutLocks() {
+        super.overwritingWithoutLocks0();
+        return this;
+    }
+
     @Override
     public RingBufferBuilder<T> waitingWith(BusyWaitStrategy busyWaitStrategy) {
         super.waitingWith0(busyWaitStrategy);
@@ -86,13 +136,107 @@ public class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
         return this;
     }
 
+    /**
+     * This has no effect on lock-free ring buffers: they always clear the slots they take from, except overwriting ones,
+     * which never clear them since a writer may already be overwriting them.
+     */
     public RingBufferBuilder<T> withGC() {
         gcEnabled = true;
         return this;
     }
 
+    /**
+     * Supported only if the ring buffer has many writers and one reader.
+     * <p>
+     * Each writer thread gets its own lane, which is a ring buffer with one writer, the given capacity and the other
+     * settings of this builder. Lanes are created the first time a thread writes and are never removed.
+     * The reader takes from the lanes in round-robin order: elements from the same writer are taken in FIFO order,
+     * but there is no order among different writers.
+     * <p>
+     * Do not support the {@code null} element.
+     */
+    public RingBufferBuilder<T> withWriterLanes() {
+        writerLanes = true;
+        return this;
+    }
+
+    /**
+     * Like {@link #unbounded(ChunkPool)}, but with a pool that is not shared and keeps at most one idle chunk.
+     */
+    public RingBufferBuilder<T> unbounded() {
+        return unbounded(new ChunkPool(getCapacity(), 1));
+    }
+
+    /**
+     * Supported only if the ring buffer has one writer and one reader, or many writers with
+     * {@link #withWriterLanes()}.
+     * <p>
+     * The ring buffer never becomes full: the capacity is the size of each chunk, and when a chunk is full
+     * the writer links a new one taken from {@code chunkPool}. The reader gives chunks back to it once they have
+     * been read, so a burst does not permanently increase the memory used.
+     * Elements are accessed by index within each chunk, so only the writer taking a chunk and the reader leaving one
+     * pay for the indirection.
+     * <p>
+     * {@code chunkPool} must have a chunk size equal to the capacity.
+     */
+    public RingBufferBuilder<T> unbounded(ChunkPool chunkPool) {
+        if (chunkPool.getChunkSize() != getCapacity()) {
+            throw new IllegalArgumentException("The chunk size of the pool must be equal to the capacity.");
+        }
+        this.chunkPool = chunkPool;
+        return this;
+    }
+
+    /**
+     * Must be called after the other settings: the capacity can then be changed while writers and readers are running.
+     * Supported only if the ring buffer has one writer, or many writers that are not lock-free and without
+     * {@link #withWriterLanes()}, and is not {@link #unbounded(ChunkPool) unbounded}.
+     *
+     * @see ResizableRingBuffer
+     */
+    public ResizableRingBufferBuilder<T> resizable() {
+        if (chunkPool != null) {
+            throw new IllegalStateException("Unbounded ring buffers cannot be resized.");
+        }
+        return new ResizableRingBufferBuilder<>(this);
+    }
+
+    RingBufferBuilder<T> copyWithCapacity(int capacity) {
+        return new RingBufferBuilder<>(this, capacity);
+    }
+
+    /**
+     * Can only be called after {@link #validate()}.
+     *
+     * @return whether writers synchronize on the ring buffer
+     */
+    boolean hasLockedWriters() {
+        if (isOneWriter() || writerLanes) {
+            return false;
+        }
+        return type == RingBufferType.CLEARING || type == RingBufferType.BLOCKING || type == RingBufferType.DISCARDING;
+    }
+
+    RingBufferBuilder<T> toLaneBuilder() {
+        RingBufferBuilder<T> builder = new RingBufferBuilder<>(this);
+        builder.writerLanes = false;
+        return builder.oneWriter();
+    }
+
     @Override
     protected ObjectRingBuffer<T> create(RingBufferConcurrency concurrency, RingBufferType type) {
+        if (writerLanes) {
+            if (concurrency != RingBufferConcurrency.ATOMIC_WRITE) {
+                throw new IllegalStateException("Writer lanes require many writers and one reader.");
+            }
+            return new LanedRingBuffer<>(this);
+        }
+        if (chunkPool != null) {
+            if (concurrency != RingBufferConcurrency.VOLATILE || type != RingBufferType.CLEARING) {
+                throw new IllegalStateException("Unbounded ring buffers require one writer and one reader, and cannot be blocking nor discarding.");
+            }
+            return new ChunkedRingBuffer<>(this);
+        }
         switch (concurrency) {
             case VOLATILE:
                 switch (type) {
@@ -109,6 +253,10 @@ public class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
                         return new VolatileRingBuffer<>(this);
                     case FAST:
                         return new FastVolatileRingBuffer<>(this);
+                    case FAST_BLOCKING:
+                        return new FastVolatileBlockingRingBuffer<>(this);
+                    case FAST_OVERWRITING:
+                        return new FastVolatileOverwritingRingBuffer<>(this);
                     case BLOCKING:
                         if (gcEnabled) {
                             if (copyClass) {
@@ -147,6 +295,10 @@ public class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
                         return new AtomicReadRingBuffer<>(this);
                     case FAST:
                         return new FastAtomicReadRingBuffer<>(this);
+                    case FAST_BLOCKING:
+                        return new FastAtomicReadBlockingRingBuffer<>(this);
+                    case FAST_OVERWRITING:
+                        return new FastAtomicReadOverwritingRingBuffer<>(this);
                     case BLOCKING:
                         if (gcEnabled) {
                             if (copyClass) {
@@ -185,6 +337,10 @@ public class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
                         return new AtomicWriteRingBuffer<>(this);
                     case FAST:
                         return new FastAtomicWriteRingBuffer<>(this);
+                    case FAST_BLOCKING:
+                        return new FastAtomicWriteBlockingRingBuffer<>(this);
+                    case FAST_OVERWRITING:
+                        return new FastAtomicWriteOverwritingRingBuffer<>(this);
                     case BLOCKING:
                         if (gcEnabled) {
                             if (copyClass) {
@@ -223,6 +379,10 @@ public class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
                         return new ConcurrentRingBuffer<>(this);
                     case FAST:
                         return new FastConcurrentRingBuffer<>(this);
+                    case FAST_BLOCKING:
+                        return new FastConcurrentBlockingRingBuffer<>(this);
+                    case FAST_OVERWRITING:
+                        return new FastConcurrentOverwritingRingBuffer<>(this);
                     case BLOCKING:
                         if (gcEnabled) {
                             if (copyClass) {
@@ -250,6 +410,10 @@ public class RingBufferBuilder<T> extends ObjectRingBufferBuilder<T> {
         throw new AssertionError();
     }
 
+    ChunkPool getChunkPool() {
+        return chunkPool;
+    }
+
     @Override
     public RingBuffer<T> build() {
         return (RingBuffer<T>) super.build();
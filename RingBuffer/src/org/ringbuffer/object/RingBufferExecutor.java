@@ -0,0 +1,382 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.ringbuffer.concurrent.AtomicBoolean;
+import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.lang.Assume;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.lang.Optional;
+import org.ringbuffer.system.ThreadSpreader;
+import org.ringbuffer.system.Threads;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+import org.ringbuffer.wait.ParkingBusyWaitStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService ExecutorService} whose workers take tasks from a blocking
+ * pre-filled ring buffer, so {@link #execute(Runnable)} produces no garbage.
+ * <p>
+ * Workers can be bound to CPUs and run at realtime priority. While idle, each of them ticks its own busy-wait
+ * strategy, created by the supplier passed to {@link Builder#waitingWith(Supplier)}. If it creates
+ * {@link ParkingBusyWaitStrategy ParkingBusyWaitStrategies}, then an idle worker is parked and the next submission
+ * wakes up one of the parked workers.
+ * <p>
+ * Submitters claim a free slot before taking the lock used by writers, so when the ring buffer is full, they wait
+ * for a slot to be freed without holding it, and {@link #shutdown()} can still proceed. If a worker submits a task
+ * while the ring buffer is full, then it runs the task itself instead of waiting for itself. Tasks that throw are
+ * reported to the uncaught exception handler of the worker, which then keeps running.
+ * <p>
+ * If there is one worker, then it is the only reader of the ring buffer and takes tasks without locking.
+ * {@link #shutdownNow()} then waits for the worker to finish its current take, but not its current task,
+ * and collects the tasks that have not been started in the calling thread.
+ */
+public class RingBufferExecutor extends AbstractExecutorService {
+    private static final long SHUTDOWN, READER, FREE_SLOTS;
+
+    private static final int READER_IDLE = 0;
+    private static final int READER_WORKER = 1;
+    private static final int READER_STOPPED = 2;
+
+    static {
+        final Class<?> clazz = RingBufferExecutor.class;
+        SHUTDOWN = Lang.objectFieldOffset(clazz, "shutdown");
+        READER = Lang.objectFieldOffset(clazz, "reader");
+        FREE_SLOTS = Lang.objectFieldOffset(clazz, "freeSlots");
+    }
+
+    private final PrefilledRingBuffer2<Task> ringBuffer;
+    private final boolean oneWorker;
+    private final @Optional Object readMonitor;
+    private final BusyWaitStrategy[] busyWaitStrategies;
+    private final ParkingBusyWaitStrategy[] parkingBusyWaitStrategies;
+    private final @Optional ThreadSpreader threadSpreader;
+    private final boolean realtimePriority;
+    private final Thread[] workers;
+    private final CountDownLatch terminated;
+
+    private boolean shutdown;
+    private int reader;
+    private int freeSlots;
+
+    RingBufferExecutor(Builder builder) {
+        oneWorker = builder.workers == 1;
+        PrefilledRingBufferBuilder2<Task> ringBufferBuilder = PrefilledRingBuffer.<Task>withCapacity(builder.capacity)
+                .fillWith(Task::new)
+                .blocking()
+                .manyWriters();
+        if (oneWorker) {
+            ringBuffer = ringBufferBuilder.oneReader().build();
+            readMonitor = null;
+        } else {
+            // shutdownNow() takes from threads other than the workers
+            ringBuffer = ringBufferBuilder.manyReaders().build();
+            readMonitor = ringBuffer.getReadMonitor();
+        }
+        // Blocking ring buffers hold one element less than their capacity
+        freeSlots = builder.capacity - 1;
+        threadSpreader = builder.threadSpreader;
+        realtimePriority = builder.realtimePriority;
+        workers = new Thread[builder.workers];
+        terminated = new CountDownLatch(workers.length);
+        busyWaitStrategies = new BusyWaitStrategy[workers.length];
+        List<ParkingBusyWaitStrategy> parkingBusyWaitStrategies = new ArrayList<>();
+        for (int i = 0; i < workers.length; i++) {
+            BusyWaitStrategy busyWaitStrategy = builder.busyWaitStrategy.get();
+            Assume.notNull(busyWaitStrategy);
+            busyWaitStrategies[i] = busyWaitStrategy;
+            if (busyWaitStrategy instanceof ParkingBusyWaitStrategy) {
+                parkingBusyWaitStrategies.add((ParkingBusyWaitStrategy) busyWaitStrategy);
+            }
+        }
+        this.parkingBusyWaitStrategies = parkingBusyWaitStrategies.toArray(new ParkingBusyWaitStrategy[0]);
+        for (int i = 0; i < workers.length; i++) {
+            BusyWaitStrategy busyWaitStrategy = busyWaitStrategies[i];
+            workers[i] = new Thread(() -> run(busyWaitStrategy), builder.threadName + '-' + i);
+            workers[i].start();
+        }
+    }
+
+    public static Builder withCapacity(int capacity) {
+        return new Builder(capacity);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command);
+        if (!tryClaimSlot()) {
+            if (isWorker(Thread.currentThread())) {
+                checkNotShutdown();
+                command.run();
+                return;
+            }
+            do {
+                checkNotShutdown();
+                Thread.onSpinWait();
+            } while (!tryClaimSlot());
+        }
+        PrefilledRingBuffer2<Task> ringBuffer = this.ringBuffer;
+        synchronized (ringBuffer) {
+            if (AtomicBoolean.getPlain(this, SHUTDOWN)) {
+                AtomicInt.getAndIncrementVolatile(this, FREE_SLOTS);
+                throw new RejectedExecutionException("The executor has been shut down.");
+            }
+            // The claimed slot is free, so this does not wait
+            int key = ringBuffer.nextKey();
+            int putKey = ringBuffer.nextPutKey(key);
+            ringBuffer.next(key, putKey).command = command;
+            ringBuffer.put(putKey);
+        }
+        for (ParkingBusyWaitStrategy parkingBusyWaitStrategy : parkingBusyWaitStrategies) {
+            if (parkingBusyWaitStrategy.wakeup()) {
+                break;
+            }
+        }
+    }
+
+    private boolean tryClaimSlot() {
+        int freeSlots;
+        do {
+            freeSlots = AtomicInt.getOpaque(this, FREE_SLOTS);
+            if (freeSlots == 0) {
+                return false;
+            }
+        } while (!AtomicInt.compareAndSetVolatile(this, FREE_SLOTS, freeSlots, freeSlots - 1));
+        return true;
+    }
+
+    private boolean isWorker(Thread thread) {
+        for (Thread worker : workers) {
+            if (worker == thread) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void checkNotShutdown() {
+        if (AtomicBoolean.getAcquire(this, SHUTDOWN)) {
+            throw new RejectedExecutionException("The executor has been shut down.");
+        }
+    }
+
+    private void run(BusyWaitStrategy busyWaitStrategy) {
+        if (threadSpreader != null) {
+            threadSpreader.bindCurrentThreadToNextCPU();
+        }
+        if (realtimePriority) {
+            Threads.setCurrentThreadPriorityToRealtime();
+        }
+        try {
+            process(busyWaitStrategy);
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    private void process(BusyWaitStrategy busyWaitStrategy) {
+        Thread thread = Thread.currentThread();
+        busyWaitStrategy.reset();
+        while (true) {
+            if (oneWorker && !AtomicInt.compareAndSetVolatile(this, READER, READER_IDLE, READER_WORKER)) {
+                // shutdownNow() has taken over the ring buffer
+                return;
+            }
+            Runnable command = poll();
+            if (command == null) {
+                // Submissions made before shutdown() are visible once the flag is
+                if (AtomicBoolean.getAcquire(this, SHUTDOWN)) {
+                    command = poll();
+                }
+            }
+            if (oneWorker) {
+                AtomicInt.setRelease(this, READER, READER_IDLE);
+            }
+            if (command == null) {
+                if (AtomicBoolean.getAcquire(this, SHUTDOWN)) {
+                    return;
+                }
+                busyWaitStrategy.tick();
+                continue;
+            }
+            try {
+                command.run();
+            } catch (Throwable throwable) {
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+            }
+            busyWaitStrategy.reset();
+        }
+    }
+
+    private Runnable poll() {
+        if (oneWorker) {
+            return take();
+        }
+        synchronized (readMonitor) {
+            return take();
+        }
+    }
+
+    private Runnable take() {
+        Task task = ringBuffer.tryTake();
+        if (task == null) {
+            return null;
+        }
+        Runnable command = task.command;
+        task.command = null;
+        // The slot can be refilled only once the command has been read
+        AtomicInt.getAndIncrementVolatile(this, FREE_SLOTS);
+        return command;
+    }
+
+    /**
+     * Tasks already submitted are executed, but new ones are rejected.
+     */
+    @Override
+    public void shutdown() {
+        synchronized (ringBuffer) {
+            AtomicBoolean.setRelease(this, SHUTDOWN, true);
+        }
+        for (ParkingBusyWaitStrategy parkingBusyWaitStrategy : parkingBusyWaitStrategies) {
+            parkingBusyWaitStrategy.wakeup();
+        }
+    }
+
+    /**
+     * Does not wait for executing tasks, so it can be called from one of them. If there is one worker, then it
+     * waits for the worker to finish its current take before taking over the ring buffer.
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        if (oneWorker && !stopReader()) {
+            // Another call has taken over the ring buffer
+            workers[0].interrupt();
+            return new ArrayList<>();
+        }
+        List<Runnable> commands = new ArrayList<>();
+        Runnable command;
+        while ((command = poll()) != null) {
+            commands.add(command);
+        }
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        return commands;
+    }
+
+    private boolean stopReader() {
+        while (true) {
+            switch (AtomicInt.compareAndExchangeVolatile(this, READER, READER_IDLE, READER_STOPPED)) {
+                case READER_IDLE:
+                    return true;
+                case READER_STOPPED:
+                    return false;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return AtomicBoolean.getOpaque(this, SHUTDOWN);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0L;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    private static class Task {
+        Runnable command;
+    }
+
+    public static class Builder {
+        private final int capacity;
+        private int workers = 1;
+        private Supplier<? extends BusyWaitStrategy> busyWaitStrategy = HintBusyWaitStrategy::getDefault;
+        private @Optional ThreadSpreader threadSpreader;
+        private boolean realtimePriority;
+        private String threadName = "RingBufferExecutor";
+
+        Builder(int capacity) {
+            Assume.notLesser(capacity, 2);
+            this.capacity = capacity;
+        }
+
+        public Builder withWorkers(int workers) {
+            Assume.notLesser(workers, 1);
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * @param busyWaitStrategy called once for each worker, so that strategies holding per-thread state,
+         *                         like {@link ParkingBusyWaitStrategy}, are not shared
+         */
+        public Builder waitingWith(Supplier<? extends BusyWaitStrategy> busyWaitStrategy) {
+            Assume.notNull(busyWaitStrategy);
+            this.busyWaitStrategy = busyWaitStrategy;
+            return this;
+        }
+
+        /**
+         * The native library must be loaded: {@link Threads#loadNativeLibrary()}
+         */
+        public Builder boundWith(ThreadSpreader threadSpreader) {
+            Assume.notNull(threadSpreader);
+            this.threadSpreader = threadSpreader;
+            return this;
+        }
+
+        /**
+         * The native library must be loaded: {@link Threads#loadNativeLibrary()}
+         *
+         * @see Threads#setCurrentThreadPriorityToRealtime()
+         */
+        public Builder withRealtimePriority() {
+            realtimePriority = true;
+            return this;
+        }
+
+        public Builder named(String threadName) {
+            Assume.notNull(threadName);
+            this.threadName = threadName;
+            return this;
+        }
+
+        /**
+         * Starts the workers.
+         */
+        public RingBufferExecutor build() {
+            return new RingBufferExecutor(this);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.ringbuffer.concurrent.AtomicBoolean;
+import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.concurrent.AtomicLong;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Emits the elements of a ring buffer to one {@link Flow.Subscriber}, never taking more of them than requested.
+ * <p>
+ * When a subscriber subscribes, a thread is started that takes up to the outstanding demand at once using
+ * {@link ObjectRingBuffer#drain(Consumer, int) drain()}, and ticks {@code busyWaitStrategy} while there is
+ * either no demand or no element. Without demand, the ring buffer fills up, so that if it is blocking,
+ * backpressure reaches its writers.
+ * <p>
+ * If the ring buffer is pre-filled, then {@link Flow.Subscriber#onNext(Object) onNext()} must not retain the element.
+ */
+public class RingBufferPublisher<T> implements Flow.Publisher<T> {
+    private static final long SUBSCRIBED, COMPLETED;
+
+    static {
+        final Class<?> clazz = RingBufferPublisher.class;
+        SUBSCRIBED = Lang.objectFieldOffset(clazz, "subscribed");
+        COMPLETED = Lang.objectFieldOffset(clazz, "completed");
+    }
+
+    private static final Flow.Subscription REJECTED = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private final ObjectRingBuffer<T> ringBuffer;
+    private final BusyWaitStrategy busyWaitStrategy;
+
+    private boolean subscribed;
+    private boolean completed;
+
+    public RingBufferPublisher(ObjectRingBuffer<T> ringBuffer) {
+        this(ringBuffer, HintBusyWaitStrategy.getDefault());
+    }
+
+    public RingBufferPublisher(ObjectRingBuffer<T> ringBuffer, BusyWaitStrategy busyWaitStrategy) {
+        this.ringBuffer = ringBuffer;
+        this.busyWaitStrategy = busyWaitStrategy;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!AtomicBoolean.compareAndSetVolatile(this, SUBSCRIBED, false, true)) {
+            subscriber.onSubscribe(REJECTED);
+            subscriber.onError(new IllegalStateException("Only one subscriber is supported."));
+            return;
+        }
+        Emitter<T> emitter = new Emitter<>(this, subscriber);
+        subscriber.onSubscribe(emitter);
+        new Thread(emitter, "RingBufferPublisher").start();
+    }
+
+    /**
+     * Must be called after the last element has been put. The subscriber is completed once all the elements
+     * have been emitted.
+     */
+    public void complete() {
+        AtomicBoolean.setRelease(this, COMPLETED, true);
+    }
+
+    private static class Emitter<T> implements Flow.Subscription, Runnable, Consumer<T> {
+        private static final long DEMAND, STATE;
+
+        static {
+            final Class<?> clazz = Emitter.class;
+            DEMAND = Lang.objectFieldOffset(clazz, "demand");
+            STATE = Lang.objectFieldOffset(clazz, "state");
+        }
+
+        private static final int RUNNING = 0;
+        private static final int CANCELLED = 1;
+        private static final int INVALID_REQUEST = 2;
+
+        private final RingBufferPublisher<T> publisher;
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private long demand;
+        private int state;
+
+        Emitter(RingBufferPublisher<T> publisher, Flow.Subscriber<? super T> subscriber) {
+            this.publisher = publisher;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                AtomicInt.compareAndSetVolatile(this, STATE, RUNNING, INVALID_REQUEST);
+                return;
+            }
+            long demand, newDemand;
+            do {
+                demand = AtomicLong.getOpaque(this, DEMAND);
+                newDemand = demand + n;
+                if (newDemand < 0L) {
+                    newDemand = Long.MAX_VALUE;
+                }
+            } while (!AtomicLong.weakCompareAndSetVolatile(this, DEMAND, demand, newDemand));
+        }
+
+        @Override
+        public void cancel() {
+            AtomicInt.compareAndSetVolatile(this, STATE, RUNNING, CANCELLED);
+        }
+
+        @Override
+        public void accept(T element) {
+            subscriber.onNext(element);
+        }
+
+        @Override
+        public void run() {
+            ObjectRingBuffer<T> ringBuffer = publisher.ringBuffer;
+            BusyWaitStrategy busyWaitStrategy = publisher.busyWaitStrategy;
+            busyWaitStrategy.reset();
+            while (true) {
+                int state = AtomicInt.getOpaque(this, STATE);
+                if (state != RUNNING) {
+                    if (state == INVALID_REQUEST) {
+                        subscriber.onError(new IllegalArgumentException("The number of requested elements must be positive."));
+                    }
+                    return;
+                }
+                // Elements put before complete() are visible once the flag is
+                boolean completed = AtomicBoolean.getAcquire(publisher, COMPLETED);
+                long demand = AtomicLong.getAcquire(this, DEMAND);
+                if (demand != 0L) {
+                    int count = ringBuffer.drain(this, (int) Math.min(demand, Integer.MAX_VALUE));
+                    if (count != 0) {
+                        AtomicLong.getAndAddVolatile(this, DEMAND, -count);
+                        busyWaitStrategy.reset();
+                        continue;
+                    }
+                }
+                if (completed && ringBuffer.isEmpty()) {
+                    subscriber.onComplete();
+                    return;
+                }
+                busyWaitStrategy.tick();
+            }
+        }
+    }
+}
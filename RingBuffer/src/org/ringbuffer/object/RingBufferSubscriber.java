@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.ringbuffer.concurrent.Atomic;
+import org.ringbuffer.concurrent.AtomicBoolean;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.lang.Optional;
+
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
+
+/**
+ * Puts the elements it receives into a ring buffer, never requesting more of them than there is space for,
+ * so that a full ring buffer propagates backpressure to the {@link Flow.Publisher} by withholding demand,
+ * and {@link #onNext(Object) onNext()} never waits.
+ * <p>
+ * The capacity minus one is requested upfront. Then the reader must call {@link #onTaken(int)} after taking
+ * elements, which requests as many more once at least half of that space has been freed.
+ * <p>
+ * The ring buffer must not be clearing, and its writer side must be used only by this subscriber.
+ * The reader can learn that no more elements will be put with {@link #isCompleted()}.
+ */
+public abstract class RingBufferSubscriber<T> implements Flow.Subscriber<T> {
+    private static final long COMPLETED, ERROR;
+
+    static {
+        final Class<?> clazz = RingBufferSubscriber.class;
+        COMPLETED = Lang.objectFieldOffset(clazz, "completed");
+        ERROR = Lang.objectFieldOffset(clazz, "error");
+    }
+
+    private final int maxSize;
+    private final int requestThreshold;
+
+    private Flow.Subscription subscription;
+    private int taken;
+    private boolean completed;
+    private @Optional Throwable error;
+
+    RingBufferSubscriber(ObjectRingBuffer<?> ringBuffer) {
+        maxSize = ringBuffer.getCapacity() - 1;
+        requestThreshold = (maxSize + 1) / 2;
+    }
+
+    public static <T> RingBufferSubscriber<T> putting(RingBuffer<T> ringBuffer) {
+        return new Putting<>(ringBuffer);
+    }
+
+    /**
+     * @param filler copies the received element into the pre-filled one
+     */
+    public static <T, E> RingBufferSubscriber<T> filling(PrefilledRingBuffer2<E> ringBuffer, BiConsumer<? super T, ? super E> filler) {
+        return new Filling<>(ringBuffer, filler);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(maxSize);
+    }
+
+    /**
+     * Never waits, since no more elements are requested than there is space for.
+     */
+    @Override
+    public void onNext(T element) {
+        put(element);
+    }
+
+    abstract void put(T element);
+
+    /**
+     * Must be called by the reader after taking {@code count} elements, so that the space they freed is requested.
+     * If there are multiple readers, then calls are serialized with the lock of this subscriber.
+     */
+    public synchronized void onTaken(int count) {
+        int taken = this.taken + count;
+        if (taken >= requestThreshold) {
+            this.taken = 0;
+            subscription.request(taken);
+        } else {
+            this.taken = taken;
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Atomic.setRelease(this, ERROR, throwable);
+        onComplete();
+    }
+
+    @Override
+    public void onComplete() {
+        AtomicBoolean.setRelease(this, COMPLETED, true);
+    }
+
+    /**
+     * If {@code true}, then all the elements have been put.
+     */
+    public boolean isCompleted() {
+        return AtomicBoolean.getAcquire(this, COMPLETED);
+    }
+
+    /**
+     * Can be called once {@link #isCompleted()} returns {@code true}.
+     */
+    public @Optional Throwable getError() {
+        return Atomic.getOpaque(this, ERROR);
+    }
+
+    private static class Putting<T> extends RingBufferSubscriber<T> {
+        private final RingBuffer<T> ringBuffer;
+
+        Putting(RingBuffer<T> ringBuffer) {
+            super(ringBuffer);
+            this.ringBuffer = ringBuffer;
+        }
+
+        @Override
+        void put(T element) {
+            ringBuffer.put(element);
+        }
+    }
+
+    private static class Filling<T, E> extends RingBufferSubscriber<T> {
+        private final PrefilledRingBuffer2<E> ringBuffer;
+        private final BiConsumer<? super T, ? super E> filler;
+
+        Filling(PrefilledRingBuffer2<E> ringBuffer, BiConsumer<? super T, ? super E> filler) {
+            super(ringBuffer);
+            this.ringBuffer = ringBuffer;
+            this.filler = filler;
+        }
+
+        @Override
+        void put(T element) {
+            PrefilledRingBuffer2<E> ringBuffer = this.ringBuffer;
+            int key = ringBuffer.nextKey();
+            int putKey = ringBuffer.nextPutKey(key);
+            filler.accept(element, ringBuffer.next(key, putKey));
+            ringBuffer.put(putKey);
+        }
+    }
+}
@@ -19,6 +19,11 @@ import org.ringbuffer.wait.BusyWaitStrategy;
 import java.util.function.Consumer;
 
 abstract class Stack<T> implements RingBuffer<T> {
+    @Override
+    public void putAll(T[] elements, int offset, int length) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public T take(BusyWaitStrategy busyWaitStrategy) {
         throw new UnsupportedOperationException();
@@ -34,6 +39,16 @@ abstract class Stack<T> implements RingBuffer<T> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public int drainTo(T[] destination, int maxElements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int drain(Consumer<T> action, int limit) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public T takeLast() {
         throw new UnsupportedOperationException();
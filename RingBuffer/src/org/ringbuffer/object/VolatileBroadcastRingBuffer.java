@@ -0,0 +1,196 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.AtomicArray;
+import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+@Contended
+class VolatileBroadcastRingBuffer<T> implements BroadcastRingBuffer<T> {
+    private static final long WRITE_POSITION = Lang.objectFieldOffset(VolatileBroadcastRingBuffer.class, "writePosition");
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+    private final VolatileReader<T>[] readers;
+
+    @Contended("write")
+    private int writePosition;
+    @Contended("write")
+    private int cachedFreeSpace;
+
+    @SuppressWarnings("unchecked")
+    VolatileBroadcastRingBuffer(BroadcastRingBufferBuilder<T> builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = capacity - 1;
+        buffer = (T[]) new Object[capacity];
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+        int numReaders = builder.getNumReaders();
+        readers = (VolatileReader<T>[]) new VolatileReader<?>[numReaders];
+        for (int i = 0; i < numReaders; i++) {
+            readers[i] = new VolatileReader<>(this);
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int getNumReaders() {
+        return readers.length;
+    }
+
+    @Override
+    public Reader<T> getReader(int index) {
+        return readers[index];
+    }
+
+    @Override
+    public void put(T element) {
+        if (cachedFreeSpace == 0) {
+            writeBusyWaitStrategy.reset();
+            while ((cachedFreeSpace = freeSpace()) == 0) {
+                writeBusyWaitStrategy.tick();
+            }
+        }
+        cachedFreeSpace--;
+        int writePosition = this.writePosition;
+        AtomicArray.setPlain(buffer, writePosition, element);
+        if (writePosition == 0) {
+            AtomicInt.setRelease(this, WRITE_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, WRITE_POSITION, writePosition - 1);
+        }
+    }
+
+    private int freeSpace() {
+        int writePosition = this.writePosition;
+        int maxSize = 0;
+        for (VolatileReader<T> reader : readers) {
+            int size = size(reader.getReadPosition(), writePosition);
+            if (size > maxSize) {
+                maxSize = size;
+            }
+        }
+        return capacityMinusOne - maxSize;
+    }
+
+    private int size(int readPosition, int writePosition) {
+        if (writePosition <= readPosition) {
+            return readPosition - writePosition;
+        }
+        return capacity - (writePosition - readPosition);
+    }
+
+    @Contended
+    private static class VolatileReader<T> implements Reader<T> {
+        private static final long READ_POSITION = Lang.objectFieldOffset(VolatileReader.class, "readPosition");
+
+        private final VolatileBroadcastRingBuffer<T> ringBuffer;
+        private final T[] buffer;
+        private final int capacityMinusOne;
+
+        private int readPosition;
+        private int cachedWritePosition;
+
+        VolatileReader(VolatileBroadcastRingBuffer<T> ringBuffer) {
+            this.ringBuffer = ringBuffer;
+            buffer = ringBuffer.buffer;
+            capacityMinusOne = ringBuffer.capacityMinusOne;
+        }
+
+        private int getReadPosition() {
+            return AtomicInt.getAcquire(this, READ_POSITION);
+        }
+
+        @Override
+        public T take() {
+            return take(HintBusyWaitStrategy.DEFAULT_INSTANCE);
+        }
+
+        @Override
+        public T take(BusyWaitStrategy busyWaitStrategy) {
+            int readPosition = this.readPosition;
+            busyWaitStrategy.reset();
+            while (isEmptyCached(readPosition)) {
+                busyWaitStrategy.tick();
+            }
+            T element = AtomicArray.getPlain(buffer, readPosition);
+            if (readPosition == 0) {
+                AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+            } else {
+                AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+            }
+            return element;
+        }
+
+        @Override
+        public T tryTake() {
+            int readPosition = this.readPosition;
+            if (isEmptyCached(readPosition)) {
+                return null;
+            }
+            T element = AtomicArray.getPlain(buffer, readPosition);
+            if (readPosition == 0) {
+                AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+            } else {
+                AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+            }
+            return element;
+        }
+
+        private boolean isEmptyCached(int readPosition) {
+            if (cachedWritePosition == readPosition) {
+                cachedWritePosition = AtomicInt.getAcquire(ringBuffer, WRITE_POSITION);
+                return cachedWritePosition == readPosition;
+            }
+            return false;
+        }
+
+        @Override
+        public int drainTo(T[] destination, int maxElements) {
+            int readPosition = this.readPosition;
+            int writePosition = AtomicInt.getAcquire(ringBuffer, WRITE_POSITION);
+            int count = 0;
+            for (; readPosition != writePosition && count < maxElements; count++) {
+                destination[count] = AtomicArray.getPlain(buffer, readPosition);
+                if (readPosition == 0) {
+                    readPosition = capacityMinusOne;
+                } else {
+                    readPosition--;
+                }
+            }
+            AtomicInt.setRelease(this, READ_POSITION, readPosition);
+            return count;
+        }
+
+        @Override
+        public int size() {
+            return ringBuffer.size(readPosition, AtomicInt.getAcquire(ringBuffer, WRITE_POSITION));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return AtomicInt.getAcquire(ringBuffer, WRITE_POSITION) == readPosition;
+        }
+    }
+}
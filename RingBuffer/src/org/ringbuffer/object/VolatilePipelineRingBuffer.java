@@ -0,0 +1,202 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.AtomicArray;
+import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Contended
+class VolatilePipelineRingBuffer<T> implements PipelineRingBuffer<T> {
+    private static final long WRITE_POSITION = Lang.objectFieldOffset(VolatilePipelineRingBuffer.class, "writePosition");
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final T[] buffer;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+    private volatile VolatileStage<T>[] stages = newStages(0);
+
+    @Contended("write")
+    private int writePosition;
+    @Contended("write")
+    private int cachedFreeSpace;
+
+    VolatilePipelineRingBuffer(PipelineRingBufferBuilder<T> builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = capacity - 1;
+        buffer = builder.getBuffer();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public synchronized Stage<T> createStage(List<? extends Stage<T>> dependencies) {
+        VolatileStage<T>[] copy = newStages(dependencies.size());
+        for (int i = 0; i < copy.length; i++) {
+            Stage<T> dependency = dependencies.get(i);
+            if (!(dependency instanceof VolatileStage) || ((VolatileStage<T>) dependency).ringBuffer != this) {
+                throw new IllegalArgumentException("The dependency belongs to another ring buffer.");
+            }
+            copy[i] = (VolatileStage<T>) dependency;
+        }
+        VolatileStage<T> stage = new VolatileStage<>(this, copy);
+        VolatileStage<T>[] stages = Arrays.copyOf(this.stages, this.stages.length + 1);
+        stages[stages.length - 1] = stage;
+        this.stages = stages;
+        return stage;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> VolatileStage<T>[] newStages(int length) {
+        return (VolatileStage<T>[]) new VolatileStage<?>[length];
+    }
+
+    @Override
+    public int nextKey() {
+        if (cachedFreeSpace == 0) {
+            writeBusyWaitStrategy.reset();
+            while ((cachedFreeSpace = freeSpace()) == 0) {
+                writeBusyWaitStrategy.tick();
+            }
+        }
+        return writePosition;
+    }
+
+    @Override
+    public T next(int key) {
+        return AtomicArray.getPlain(buffer, key);
+    }
+
+    @Override
+    public void put(int key) {
+        cachedFreeSpace--;
+        if (key == 0) {
+            AtomicInt.setRelease(this, WRITE_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, WRITE_POSITION, key - 1);
+        }
+    }
+
+    private int freeSpace() {
+        int writePosition = this.writePosition;
+        int maxSize = 0;
+        for (VolatileStage<T> stage : stages) {
+            int size = size(stage.getReadPosition(), writePosition);
+            if (size > maxSize) {
+                maxSize = size;
+            }
+        }
+        return capacityMinusOne - maxSize;
+    }
+
+    private int size(int readPosition, int writePosition) {
+        if (writePosition <= readPosition) {
+            return readPosition - writePosition;
+        }
+        return capacity - (writePosition - readPosition);
+    }
+
+    @Contended
+    private static class VolatileStage<T> implements Stage<T> {
+        private static final long READ_POSITION = Lang.objectFieldOffset(VolatileStage.class, "readPosition");
+
+        private final VolatilePipelineRingBuffer<T> ringBuffer;
+        private final VolatileStage<T>[] dependencies;
+        private final T[] buffer;
+        private final int capacityMinusOne;
+
+        private int readPosition;
+        private int nextReadPosition;
+        private int cachedAvailable;
+
+        VolatileStage(VolatilePipelineRingBuffer<T> ringBuffer, VolatileStage<T>[] dependencies) {
+            this.ringBuffer = ringBuffer;
+            this.dependencies = dependencies;
+            buffer = ringBuffer.buffer;
+            capacityMinusOne = ringBuffer.capacityMinusOne;
+        }
+
+        private int getReadPosition() {
+            return AtomicInt.getAcquire(this, READ_POSITION);
+        }
+
+        @Override
+        public T next() {
+            return next(HintBusyWaitStrategy.DEFAULT_INSTANCE);
+        }
+
+        @Override
+        public T next(BusyWaitStrategy busyWaitStrategy) {
+            if (cachedAvailable == 0) {
+                busyWaitStrategy.reset();
+                while ((cachedAvailable = available()) == 0) {
+                    busyWaitStrategy.tick();
+                }
+            }
+            cachedAvailable--;
+            int readPosition = nextReadPosition;
+            if (readPosition == 0) {
+                nextReadPosition = capacityMinusOne;
+            } else {
+                nextReadPosition--;
+            }
+            return AtomicArray.getPlain(buffer, readPosition);
+        }
+
+        @Override
+        public void release() {
+            AtomicInt.setRelease(this, READ_POSITION, nextReadPosition);
+        }
+
+        @Override
+        public int drain(Consumer<T> action, int limit) {
+            if (cachedAvailable == 0) {
+                cachedAvailable = available();
+            }
+            int count = Math.min(cachedAvailable, limit);
+            for (int i = count; i > 0; i--) {
+                action.accept(next());
+            }
+            release();
+            return count;
+        }
+
+        private int available() {
+            int readPosition = nextReadPosition;
+            if (dependencies.length == 0) {
+                return ringBuffer.size(readPosition, AtomicInt.getAcquire(ringBuffer, WRITE_POSITION));
+            }
+            int available = Integer.MAX_VALUE;
+            for (VolatileStage<T> dependency : dependencies) {
+                int size = ringBuffer.size(readPosition, dependency.getReadPosition());
+                if (size < available) {
+                    available = size;
+                }
+            }
+            return available;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// Generated from AtomicReadDiscardingIntRingBuffer.java by test.codegen.PrimitiveRingBufferGenerator, do not edit.
+
+package org.ringbuffer.primitive;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.concurrent.AtomicLongArray;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.function.LongConsumer;
+
+@Contended
+class AtomicReadDiscardingLongRingBuffer implements LongRingBuffer {
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = AtomicReadDiscardingLongRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final long[] buffer;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+
+    @Contended("read")
+    private int readPosition;
+    @Contended("write")
+    private int writePosition;
+    @Contended("write")
+    private int cachedReadPosition;
+    @Contended("read")
+    private int cachedWritePosition;
+
+    AtomicReadDiscardingLongRingBuffer(LongRingBufferBuilder builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = builder.getCapacityMinusOne();
+        buffer = builder.getBuffer();
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(long element) {
+        int writePosition = this.writePosition;
+        int newWritePosition;
+        if (writePosition == 0) {
+            newWritePosition = capacityMinusOne;
+        } else {
+            newWritePosition = writePosition - 1;
+        }
+        if (isNotFullCached(newWritePosition)) {
+            AtomicLongArray.setPlain(buffer, writePosition, element);
+            AtomicInt.setRelease(this, WRITE_POSITION, newWritePosition);
+        }
+    }
+
+    @Override
+    public void putAll(long[] elements, int offset, int length) {
+        int writePosition = this.writePosition;
+        length = Math.min(length, freeSpaceCached(writePosition, length));
+        if (length > 0) {
+            for (int end = offset + length; offset < end; offset++) {
+                AtomicLongArray.setPlain(buffer, writePosition, elements[offset]);
+                if (writePosition == 0) {
+                    writePosition = capacityMinusOne;
+                } else {
+                    writePosition--;
+                }
+            }
+            AtomicInt.setRelease(this, WRITE_POSITION, writePosition);
+        }
+    }
+
+    private int freeSpaceCached(int writePosition, int length) {
+        int freeSpace = freeSpace(writePosition, cachedReadPosition);
+        if (freeSpace < length) {
+            cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
+            return freeSpace(writePosition, cachedReadPosition);
+        }
+        return freeSpace;
+    }
+
+    private int freeSpace(int writePosition, int readPosition) {
+        if (writePosition > readPosition) {
+            return writePosition - readPosition - 1;
+        }
+        return capacityMinusOne - (readPosition - writePosition);
+    }
+
+    private boolean isNotFullCached(int writePosition) {
+        if (cachedReadPosition == writePosition) {
+            cachedReadPosition = AtomicInt.getAcquire(this, READ_POSITION);
+            return cachedReadPosition != writePosition;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized long takeLong() {
+        int readPosition = this.readPosition;
+        readBusyWaitStrategy.reset();
+        while (isEmptyCached(readPosition)) {
+            readBusyWaitStrategy.tick();
+        }
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        return AtomicLongArray.getPlain(buffer, readPosition);
+    }
+
+    private boolean isEmptyCached(int readPosition) {
+        if (cachedWritePosition == readPosition) {
+            cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+            return cachedWritePosition == readPosition;
+        }
+        return false;
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return this;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = this.readPosition;
+        readBusyWaitStrategy.reset();
+        while (size(readPosition) < size) {
+            readBusyWaitStrategy.tick();
+        }
+    }
+
+    @Override
+    public long takePlainLong() {
+        int readPosition = this.readPosition;
+        if (readPosition == 0) {
+            AtomicInt.setRelease(this, READ_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, READ_POSITION, readPosition - 1);
+        }
+        return AtomicLongArray.getPlain(buffer, readPosition);
+    }
+
+    @Override
+    public synchronized int drainTo(long[] destination, int maxElements) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < maxElements; count++) {
+            destination[count] = AtomicLongArray.getPlain(buffer, readPosition);
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
+    @Override
+    public synchronized int drain(LongConsumer action, int limit) {
+        int readPosition = this.readPosition;
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        int count = 0;
+        for (; readPosition != writePosition && count < limit; count++) {
+            action.accept(AtomicLongArray.getPlain(buffer, readPosition));
+            if (readPosition == 0) {
+                readPosition = capacityMinusOne;
+            } else {
+                readPosition--;
+            }
+        }
+        AtomicInt.setRelease(this, READ_POSITION, readPosition);
+        return count;
+    }
+
+    @Override
+    public synchronized long takeLastLong() {
+        int position;
+        readBusyWaitStrategy.reset();
+        while ((position = AtomicInt.getAcquire(this, WRITE_POSITION)) == readPosition) {
+            readBusyWaitStrategy.tick();
+        }
+        if (position == capacityMinusOne) {
+            position = 0;
+        } else {
+            position++;
+        }
+        readPosition = position;
+        return AtomicLongArray.getPlain(buffer, position);
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        int readPosition = AtomicInt.getAcquire(this, READ_POSITION);
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (writePosition <= readPosition) {
+            for (; readPosition > writePosition; readPosition--) {
+                action.accept(AtomicLongArray.getPlain(buffer, readPosition));
+            }
+        } else {
+            forEachSplit(action, readPosition, writePosition);
+        }
+    }
+
+    private void forEachSplit(LongConsumer action, int readPosition, int writePosition) {
+        for (; readPosition >= 0; readPosition--) {
+            action.accept(AtomicLongArray.getPlain(buffer, readPosition));
+        }
+        for (readPosition = capacityMinusOne; readPosition > writePosition; readPosition--) {
+            action.accept(AtomicLongArray.getPlain(buffer, readPosition));
+        }
+    }
+
+    @Override
+    public boolean contains(long element) {
+        int readPosition = AtomicInt.getAcquire(this, READ_POSITION);
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (writePosition <= readPosition) {
+            for (; readPosition > writePosition; readPosition--) {
+                if (AtomicLongArray.getPlain(buffer, readPosition) == element) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return containsSplit(element, readPosition, writePosition);
+    }
+
+    private boolean containsSplit(long element, int readPosition, int writePosition) {
+        for (; readPosition >= 0; readPosition--) {
+            if (AtomicLongArray.getPlain(buffer, readPosition) == element) {
+                return true;
+            }
+        }
+        for (readPosition = capacityMinusOne; readPosition > writePosition; readPosition--) {
+            if (AtomicLongArray.getPlain(buffer, readPosition) == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size(AtomicInt.getAcquire(this, READ_POSITION));
+    }
+
+    private int size(int readPosition) {
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (writePosition <= readPosition) {
+            return readPosition - writePosition;
+        }
+        return capacity - (writePosition - readPosition);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return isEmpty(AtomicInt.getAcquire(this, READ_POSITION), AtomicInt.getAcquire(this, WRITE_POSITION));
+    }
+
+    private static boolean isEmpty(int readPosition, int writePosition) {
+        return writePosition == readPosition;
+    }
+
+    @Override
+    public String toString() {
+        int readPosition = AtomicInt.getAcquire(this, READ_POSITION);
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (isEmpty(readPosition, writePosition)) {
+            return "[]";
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        if (writePosition < readPosition) {
+            for (; readPosition > writePosition; readPosition--) {
+                builder.append(AtomicLongArray.getPlain(buffer, readPosition));
+                builder.append(", ");
+            }
+        } else {
+            toStringSplit(builder, readPosition, writePosition);
+        }
+        builder.setLength(builder.length() - 2);
+        builder.append(']');
+        return builder.toString();
+    }
+
+    private void toStringSplit(StringBuilder builder, int readPosition, int writePosition) {
+        for (; readPosition >= 0; readPosition--) {
+            builder.append(AtomicLongArray.getPlain(buffer, readPosition));
+            builder.append(", ");
+        }
+        for (readPosition = capacityMinusOne; readPosition > writePosition; readPosition--) {
+            builder.append(AtomicLongArray.getPlain(buffer, readPosition));
+            builder.append(", ");
+        }
+    }
+
+    @Override
+    public long takeLong(BusyWaitStrategy busyWaitStrategy) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.primitive;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.concurrent.AtomicIntArray;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.function.IntConsumer;
+
+@Contended
+class AtomicReadIntRingBuffer implements IntRingBuffer {
+    private static final long WRITE_POSITION = Lang.objectFieldOffset(AtomicReadIntRingBuffer.class, "writePosition");
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final int[] buffer;
+    private final BusyWaitStrategy readBusyWaitStrategy;
+
+    @Contended("read")
+    private int readPosition;
+    @Contended
+    private int writePosition;
+    @Contended("read")
+    private int cachedWritePosition;
+
+    AtomicReadIntRingBuffer(IntRingBufferBuilder builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = builder.getCapacityMinusOne();
+        buffer = builder.getBuffer();
+        readBusyWaitStrategy = builder.getReadBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(int element) {
+        int writePosition = this.writePosition;
+        AtomicIntArray.setPlain(buffer, writePosition, element);
+        if (writePosition == 0) {
+            AtomicInt.setRelease(this, WRITE_POSITION, capacityMinusOne);
+        } else {
+            AtomicInt.setRelease(this, WRITE_POSITION, writePosition - 1);
+        }
+    }
+
+    @Override
+    public void putAll(int[] elements, int offset, int length) {
+        int writePosition = this.writePosition;
+        for (int end = offset + length; offset < end; offset++) {
+            AtomicIntArray.setPlain(buffer, writePosition, elements[offset]);
+            if (writePosition == 0) {
+                writePosition = capacityMinusOne;
+            } else {
+                writePosition--;
+            }
+        }
+        AtomicInt.setRelease(this, WRITE_POSITION, writePosition);
+    }
+
+    @Override
+    public int takeInt() {
+        int readPosition;
+        synchronized (this) {
+            readPosition = this.readPosition;
+            readBusyWaitStrategy.reset();
+            while (isEmptyCached(readPosition)) {
+                readBusyWaitStrategy.tick();
+            }
+            if (readPosition == 0) {
+                this.readPosition = capacityMinusOne;
+            } else {
+                this.readPosition--;
+            }
+        }
+        return AtomicIntArray.getPlain(buffer, readPosition);
+    }
+
+    private boolean isEmptyCached(int readPosition) {
+        if (cachedWritePosition == readPosition) {
+            cachedWritePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+            return cachedWritePosition == readPosition;
+        }
+        return false;
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        return this;
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = this.readPosition;
+        readBusyWaitStrategy.reset();
+        while (size(readPosition) < size) {
+            readBusyWaitStrategy.tick();
+        }
+    }
+
+    @Override
+    public int takePlainInt() {
+        int readPosition = this.readPosition;
+        if (readPosition == 0) {
+            this.readPosition = capacityMinusOne;
+        } else {
+            this.readPosition--;
+        }
+        return AtomicIntArray.getPlain(buffer, readPosition);
+    }
+
+    @Override
+    public int drainTo(int[] destination, int maxElements) {
+        synchronized (this) {
+            int readPosition = this.readPosition;
+            int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+            int count = 0;
+            for (; readPosition != writePosition && count < maxElements; count++) {
+                destination[count] = AtomicIntArray.getPlain(buffer, readPosition);
+                if (readPosition == 0) {
+                    readPosition = capacityMinusOne;
+                } else {
+                    readPosition--;
+                }
+            }
+            this.readPosition = readPosition;
+            return count;
+        }
+    }
+
+    @Override
+    public int drain(IntConsumer action, int limit) {
+        synchronized (this) {
+            int readPosition = this.readPosition;
+            int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+            int count = 0;
+            for (; readPosition != writePosition && count < limit; count++) {
+                action.accept(AtomicIntArray.getPlain(buffer, readPosition));
+                if (readPosition == 0) {
+                    readPosition = capacityMinusOne;
+                } else {
+                    readPosition--;
+                }
+            }
+            this.readPosition = readPosition;
+            return count;
+        }
+    }
+
+    @Override
+    public int takeLastInt() {
+        int position;
+        synchronized (this) {
+            readBusyWaitStrategy.reset();
+            while ((position = AtomicInt.getAcquire(this, WRITE_POSITION)) == readPosition) {
+                readBusyWaitStrategy.tick();
+            }
+            if (position == capacityMinusOne) {
+                position = 0;
+            } else {
+                position++;
+            }
+            readPosition = position;
+        }
+        return AtomicIntArray.getPlain(buffer, position);
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        int readPosition = getReadPosition();
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (writePosition <= readPosition) {
+            for (int i = readPosition; i > writePosition; i--) {
+                action.accept(AtomicIntArray.getPlain(buffer, i));
+            }
+        } else {
+            forEachSplit(action, readPosition, writePosition);
+        }
+    }
+
+    private void forEachSplit(IntConsumer action, int readPosition, int writePosition) {
+        for (; readPosition >= 0; readPosition--) {
+            action.accept(AtomicIntArray.getPlain(buffer, readPosition));
+        }
+        for (readPosition = capacityMinusOne; readPosition > writePosition; readPosition--) {
+            action.accept(AtomicIntArray.getPlain(buffer, readPosition));
+        }
+    }
+
+    @Override
+    public boolean contains(int element) {
+        int readPosition = getReadPosition();
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (writePosition <= readPosition) {
+            for (int i = readPosition; i > writePosition; i--) {
+                if (AtomicIntArray.getPlain(buffer, i) == element) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return containsSplit(element, readPosition, writePosition);
+    }
+
+    private boolean containsSplit(int element, int readPosition, int writePosition) {
+        for (; readPosition >= 0; readPosition--) {
+            if (AtomicIntArray.getPlain(buffer, readPosition) == element) {
+                return true;
+            }
+        }
+        for (readPosition = capacityMinusOne; readPosition > writePosition; readPosition--) {
+            if (AtomicIntArray.getPlain(buffer, readPosition) == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size(getReadPosition());
+    }
+
+    private int size(int readPosition) {
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (writePosition <= readPosition) {
+            return readPosition - writePosition;
+        }
+        return capacity - (writePosition - readPosition);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return isEmpty(getReadPosition(), AtomicInt.getAcquire(this, WRITE_POSITION));
+    }
+
+    private static boolean isEmpty(int readPosition, int writePosition) {
+        return writePosition == readPosition;
+    }
+
+    @Override
+    public String toString() {
+        int readPosition = getReadPosition();
+        int writePosition = AtomicInt.getAcquire(this, WRITE_POSITION);
+        if (isEmpty(readPosition, writePosition)) {
+            return "[]";
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append('[');
+        if (writePosition < readPosition) {
+            for (int i = readPosition; i > writePosition; i--) {
+                builder.append(AtomicIntArray.getPlain(buffer, i));
+                builder.append(", ");
+            }
+        } else {
+            toStringSplit(builder, readPosition, writePosition);
+        }
+        builder.setLength(builder.length() - 2);
+        builder.append(']');
+        return builder.toString();
+    }
+
+    private void toStringSplit(StringBuilder builder, int readPosition, int writePosition) {
+        for (; readPosition >= 0; readPosition--) {
+            builder.append(AtomicIntArray.getPlain(buffer, readPosition));
+            builder.append(", ");
+        }
+        for (readPosition = capacityMinusOne; readPosition > writePosition; readPosition--) {
+            builder.append(AtomicIntArray.getPlain(buffer, readPosition));
+            builder.append(", ");
+        }
+    }
+
+    private synchronized int getReadPosition() {
+        return readPosition;
+    }
+
+    @Override
+    public int takeInt(BusyWaitStrategy busyWaitStrategy) {
+        throw new UnsupportedOperationException();
+    }
+}
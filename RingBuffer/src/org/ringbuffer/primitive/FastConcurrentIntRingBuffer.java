@@ -0,0 +1,202 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.primitive;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.concurrent.AtomicInt;
+import org.ringbuffer.concurrent.AtomicIntArray;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+import java.util.function.IntConsumer;
+
+@Contended
+class FastConcurrentIntRingBuffer extends FastIntRingBuffer {
+    private static final long READ_POSITION, WRITE_POSITION;
+
+    static {
+        final Class<?> clazz = FastConcurrentIntRingBuffer.class;
+        READ_POSITION = Lang.objectFieldOffset(clazz, "readPosition");
+        WRITE_POSITION = Lang.objectFieldOffset(clazz, "writePosition");
+    }
+
+    private final int capacity;
+    private final int capacityMinusOne;
+    private final int[] buffer;
+    private final int[] sequences;
+    private final BusyWaitStrategy writeBusyWaitStrategy;
+
+    @Contended("read")
+    private int readPosition;
+    @Contended("read")
+    private int batchPosition;
+    @Contended
+    private int writePosition;
+
+    FastConcurrentIntRingBuffer(IntRingBufferBuilder builder) {
+        capacity = builder.getCapacity();
+        capacityMinusOne = builder.getCapacityMinusOne();
+        buffer = builder.getBuffer();
+        sequences = builder.getSequences();
+        writeBusyWaitStrategy = builder.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(int element) {
+        int writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+        writeBusyWaitStrategy.reset();
+        while (true) {
+            int index = writePosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - writePosition;
+            if (difference == 0) {
+                int witness = AtomicInt.compareAndExchangeVolatile(this, WRITE_POSITION, writePosition, writePosition + 1);
+                if (witness == writePosition) {
+                    AtomicIntArray.setPlain(buffer, index, element);
+                    AtomicIntArray.setRelease(sequences, index, writePosition + 1);
+                    return;
+                }
+                writePosition = witness;
+            } else {
+                if (difference < 0) {
+                    writeBusyWaitStrategy.tick();
+                }
+                writePosition = AtomicInt.getOpaque(this, WRITE_POSITION);
+            }
+        }
+    }
+
+    @Override
+    public int takeInt() {
+        return takeInt(HintBusyWaitStrategy.DEFAULT_INSTANCE);
+    }
+
+    @Override
+    public int takeInt(BusyWaitStrategy busyWaitStrategy) {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        busyWaitStrategy.reset();
+        while (true) {
+            int index = readPosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - (readPosition + 1);
+            if (difference == 0) {
+                int witness = AtomicInt.compareAndExchangeVolatile(this, READ_POSITION, readPosition, readPosition + 1);
+                if (witness == readPosition) {
+                    int element = AtomicIntArray.getPlain(buffer, index);
+                    AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+                    return element;
+                }
+                readPosition = witness;
+            } else {
+                if (difference < 0) {
+                    busyWaitStrategy.tick();
+                }
+                readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+            }
+        }
+    }
+
+    @Override
+    public void takeBatch(int size) {
+        int readPosition = AtomicInt.getAndAddVolatile(this, READ_POSITION, size);
+        batchPosition = readPosition;
+        BusyWaitStrategy busyWaitStrategy = HintBusyWaitStrategy.DEFAULT_INSTANCE;
+        busyWaitStrategy.reset();
+        for (int end = readPosition + size; readPosition != end; readPosition++) {
+            while (AtomicIntArray.getAcquire(sequences, readPosition & capacityMinusOne) != readPosition + 1) {
+                busyWaitStrategy.tick();
+            }
+        }
+    }
+
+    @Override
+    public int takePlainInt() {
+        int readPosition = batchPosition++;
+        int index = readPosition & capacityMinusOne;
+        int element = AtomicIntArray.getPlain(buffer, index);
+        AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+        return element;
+    }
+
+    @Override
+    public int drainTo(int[] destination, int maxElements) {
+        int count = 0;
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (count < maxElements) {
+            int index = readPosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - (readPosition + 1);
+            if (difference == 0) {
+                int witness = AtomicInt.compareAndExchangeVolatile(this, READ_POSITION, readPosition, readPosition + 1);
+                if (witness == readPosition) {
+                    int element = AtomicIntArray.getPlain(buffer, index);
+                    AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+                    destination[count++] = element;
+                    readPosition++;
+                } else {
+                    readPosition = witness;
+                }
+            } else {
+                if (difference < 0) {
+                    break;
+                }
+                readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int drain(IntConsumer action, int limit) {
+        int count = 0;
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        while (count < limit) {
+            int index = readPosition & capacityMinusOne;
+            int difference = AtomicIntArray.getAcquire(sequences, index) - (readPosition + 1);
+            if (difference == 0) {
+                int witness = AtomicInt.compareAndExchangeVolatile(this, READ_POSITION, readPosition, readPosition + 1);
+                if (witness == readPosition) {
+                    int element = AtomicIntArray.getPlain(buffer, index);
+                    AtomicIntArray.setRelease(sequences, index, readPosition + capacity);
+                    action.accept(element);
+                    count++;
+                    readPosition++;
+                } else {
+                    readPosition = witness;
+                }
+            } else {
+                if (difference < 0) {
+                    break;
+                }
+                readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int size() {
+        return size(AtomicInt.getOpaque(this, READ_POSITION), AtomicInt.getOpaque(this, WRITE_POSITION), capacity);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        int readPosition = AtomicInt.getOpaque(this, READ_POSITION);
+        return AtomicIntArray.getAcquire(sequences, readPosition & capacityMinusOne) != readPosition + 1;
+    }
+}
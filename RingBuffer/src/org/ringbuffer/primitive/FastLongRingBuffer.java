@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// Generated from FastIntRingBuffer.java by test.codegen.PrimitiveRingBufferGenerator, do not edit.
+
+package org.ringbuffer.primitive;
+
+import java.util.function.LongConsumer;
+
+abstract class FastLongRingBuffer implements LongRingBuffer {
+    /**
+     * Puts the elements one at a time with {@link #put(long)}, so each of them is published as soon as it is written,
+     * and the ring buffer waits for each of them as {@code put()} does.
+     */
+    @Override
+    public void putAll(long[] elements, int offset, int length) {
+        for (int end = offset + length; offset < end; offset++) {
+            put(elements[offset]);
+        }
+    }
+
+    @Override
+    public Object getReadMonitor() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long takeLastLong() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean contains(long element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toString() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * The positions are read independently of each other, so the result is clamped between 0 and {@code capacity}.
+     */
+    static int size(int readPosition, int writePosition, int capacity) {
+        int size = writePosition - readPosition;
+        if (size <= 0) {
+            return 0;
+        }
+        return Math.min(size, capacity);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.primitive;
+
+import org.ringbuffer.AbstractRingBuffer;
+import org.ringbuffer.concurrent.ThreadLocal;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Like {@link org.ringbuffer.object.RingBuffer}, but elements are stored in a {@code int[]}, so they are not boxed.
+ */
+public interface IntRingBuffer extends AbstractRingBuffer {
+    int getCapacity();
+
+    void put(int element);
+
+    /**
+     * @see org.ringbuffer.object.RingBuffer#putAll(Object[], int, int)
+     */
+    void putAll(int[] elements, int offset, int length);
+
+    int takeInt(@ThreadLocal BusyWaitStrategy busyWaitStrategy);
+
+    int takeInt();
+
+    /**
+     * @see org.ringbuffer.object.ObjectRingBuffer#takeBatch(int)
+     */
+    void takeBatch(int size);
+
+    /**
+     * @see org.ringbuffer.object.ObjectRingBuffer#takePlain()
+     */
+    int takePlainInt();
+
+    int takeLastInt();
+
+    /**
+     * @see org.ringbuffer.object.ObjectRingBuffer#drainTo(Object[], int)
+     */
+    int drainTo(int[] destination, int maxElements);
+
+    /**
+     * @see org.ringbuffer.object.ObjectRingBuffer#drain(java.util.function.Consumer, int)
+     */
+    int drain(IntConsumer action, int limit);
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    void forEach(IntConsumer action);
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    boolean contains(int element);
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    int size();
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    @Override
+    String toString();
+
+    static IntRingBufferBuilder withCapacity(int capacity) {
+        return new IntRingBufferBuilder(capacity);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.primitive;
+
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+public class IntRingBufferBuilder extends PrimitiveRingBufferBuilder<IntRingBuffer> {
+    IntRingBufferBuilder(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public IntRingBufferBuilder oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder blocking() {
+        super.blocking0();
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder blocking(BusyWaitStrategy busyWaitStrategy) {
+        super.blocking0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder discarding() {
+        super.discarding0();
+        return this;
+    }
+
+    /**
+     * Slots are published through per-slot sequence numbers, so the ring buffer may become full,
+     * in which case writers busy-wait for a slot to be read.
+     */
+    @Override
+    public IntRingBufferBuilder withoutLocks() {
+        return withoutLocks(HintBusyWaitStrategy.getDefault());
+    }
+
+    /**
+     * If the ring buffer supports multiple writers, then {@code busyWaitStrategy} is shared among them
+     * and must be thread-safe.
+     *
+     * @see #withoutLocks()
+     */
+    public IntRingBufferBuilder withoutLocks(BusyWaitStrategy busyWaitStrategy) {
+        super.blocking0(busyWaitStrategy);
+        super.withoutLocks0();
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public IntRingBufferBuilder copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected IntRingBuffer create(RingBufferConcurrency concurrency, RingBufferType type) {
+        switch (concurrency) {
+            case VOLATILE:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileIntRingBuffer.class);
+                        }
+                        return new VolatileIntRingBuffer(this);
+                    case FAST:
+                        return new FastVolatileIntRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileBlockingIntRingBuffer.class);
+                        }
+                        return new VolatileBlockingIntRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileDiscardingIntRingBuffer.class);
+                        }
+                        return new VolatileDiscardingIntRingBuffer(this);
+                }
+            case ATOMIC_READ:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadIntRingBuffer.class);
+                        }
+                        return new AtomicReadIntRingBuffer(this);
+                    case FAST:
+                        return new FastAtomicReadIntRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadBlockingIntRingBuffer.class);
+                        }
+                        return new AtomicReadBlockingIntRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadDiscardingIntRingBuffer.class);
+                        }
+                        return new AtomicReadDiscardingIntRingBuffer(this);
+                }
+            case ATOMIC_WRITE:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteIntRingBuffer.class);
+                        }
+                        return new AtomicWriteIntRingBuffer(this);
+                    case FAST:
+                        return new FastAtomicWriteIntRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteBlockingIntRingBuffer.class);
+                        }
+                        return new AtomicWriteBlockingIntRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteDiscardingIntRingBuffer.class);
+                        }
+                        return new AtomicWriteDiscardingIntRingBuffer(this);
+                }
+            case CONCURRENT:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentIntRingBuffer.class);
+                        }
+                        return new ConcurrentIntRingBuffer(this);
+                    case FAST:
+                        return new FastConcurrentIntRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentBlockingIntRingBuffer.class);
+                        }
+                        return new ConcurrentBlockingIntRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentDiscardingIntRingBuffer.class);
+                        }
+                        return new ConcurrentDiscardingIntRingBuffer(this);
+                }
+        }
+        throw new AssertionError();
+    }
+
+    int[] getBuffer() {
+        return new int[getCapacity()];
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// Generated from IntRingBuffer.java by test.codegen.PrimitiveRingBufferGenerator, do not edit.
+
+package org.ringbuffer.primitive;
+
+import org.ringbuffer.AbstractRingBuffer;
+import org.ringbuffer.concurrent.ThreadLocal;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Like {@link org.ringbuffer.object.RingBuffer}, but elements are stored in a {@code long[]}, so they are not boxed.
+ */
+public interface LongRingBuffer extends AbstractRingBuffer {
+    int getCapacity();
+
+    void put(long element);
+
+    /**
+     * @see org.ringbuffer.object.RingBuffer#putAll(Object[], int, int)
+     */
+    void putAll(long[] elements, int offset, int length);
+
+    long takeLong(@ThreadLocal BusyWaitStrategy busyWaitStrategy);
+
+    long takeLong();
+
+    /**
+     * @see org.ringbuffer.object.ObjectRingBuffer#takeBatch(int)
+     */
+    void takeBatch(int size);
+
+    /**
+     * @see org.ringbuffer.object.ObjectRingBuffer#takePlain()
+     */
+    long takePlainLong();
+
+    long takeLastLong();
+
+    /**
+     * @see org.ringbuffer.object.ObjectRingBuffer#drainTo(Object[], int)
+     */
+    int drainTo(long[] destination, int maxElements);
+
+    /**
+     * @see org.ringbuffer.object.ObjectRingBuffer#drain(java.util.function.Consumer, int)
+     */
+    int drain(LongConsumer action, int limit);
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    void forEach(LongConsumer action);
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    boolean contains(long element);
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    int size();
+
+    /**
+     * If the ring buffer supports one reader and is not blocking nor discarding,
+     * then this method can only be called from the reader thread.
+     */
+    @Override
+    String toString();
+
+    static LongRingBufferBuilder withCapacity(int capacity) {
+        return new LongRingBufferBuilder(capacity);
+    }
+}
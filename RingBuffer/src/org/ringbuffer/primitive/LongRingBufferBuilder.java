@@ -0,0 +1,192 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// Generated from IntRingBufferBuilder.java by test.codegen.PrimitiveRingBufferGenerator, do not edit.
+
+package org.ringbuffer.primitive;
+
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+public class LongRingBufferBuilder extends PrimitiveRingBufferBuilder<LongRingBuffer> {
+    LongRingBufferBuilder(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public LongRingBufferBuilder oneWriter() {
+        super.oneWriter0();
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder manyWriters() {
+        super.manyWriters0();
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder oneReader() {
+        super.oneReader0();
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder manyReaders() {
+        super.manyReaders0();
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder blocking() {
+        super.blocking0();
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder blocking(BusyWaitStrategy busyWaitStrategy) {
+        super.blocking0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder discarding() {
+        super.discarding0();
+        return this;
+    }
+
+    /**
+     * Slots are published through per-slot sequence numbers, so the ring buffer may become full,
+     * in which case writers busy-wait for a slot to be read.
+     */
+    @Override
+    public LongRingBufferBuilder withoutLocks() {
+        return withoutLocks(HintBusyWaitStrategy.getDefault());
+    }
+
+    /**
+     * If the ring buffer supports multiple writers, then {@code busyWaitStrategy} is shared among them
+     * and must be thread-safe.
+     *
+     * @see #withoutLocks()
+     */
+    public LongRingBufferBuilder withoutLocks(BusyWaitStrategy busyWaitStrategy) {
+        super.blocking0(busyWaitStrategy);
+        super.withoutLocks0();
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder waitingWith(BusyWaitStrategy busyWaitStrategy) {
+        super.waitingWith0(busyWaitStrategy);
+        return this;
+    }
+
+    @Override
+    public LongRingBufferBuilder copyClass() {
+        super.copyClass0();
+        return this;
+    }
+
+    @Override
+    protected LongRingBuffer create(RingBufferConcurrency concurrency, RingBufferType type) {
+        switch (concurrency) {
+            case VOLATILE:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileLongRingBuffer.class);
+                        }
+                        return new VolatileLongRingBuffer(this);
+                    case FAST:
+                        return new FastVolatileLongRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileBlockingLongRingBuffer.class);
+                        }
+                        return new VolatileBlockingLongRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(VolatileDiscardingLongRingBuffer.class);
+                        }
+                        return new VolatileDiscardingLongRingBuffer(this);
+                }
+            case ATOMIC_READ:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadLongRingBuffer.class);
+                        }
+                        return new AtomicReadLongRingBuffer(this);
+                    case FAST:
+                        return new FastAtomicReadLongRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadBlockingLongRingBuffer.class);
+                        }
+                        return new AtomicReadBlockingLongRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicReadDiscardingLongRingBuffer.class);
+                        }
+                        return new AtomicReadDiscardingLongRingBuffer(this);
+                }
+            case ATOMIC_WRITE:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteLongRingBuffer.class);
+                        }
+                        return new AtomicWriteLongRingBuffer(this);
+                    case FAST:
+                        return new FastAtomicWriteLongRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteBlockingLongRingBuffer.class);
+                        }
+                        return new AtomicWriteBlockingLongRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(AtomicWriteDiscardingLongRingBuffer.class);
+                        }
+                        return new AtomicWriteDiscardingLongRingBuffer(this);
+                }
+            case CONCURRENT:
+                switch (type) {
+                    case CLEARING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentLongRingBuffer.class);
+                        }
+                        return new ConcurrentLongRingBuffer(this);
+                    case FAST:
+                        return new FastConcurrentLongRingBuffer(this);
+                    case BLOCKING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentBlockingLongRingBuffer.class);
+                        }
+                        return new ConcurrentBlockingLongRingBuffer(this);
+                    case DISCARDING:
+                        if (copyClass) {
+                            return instantiateCopy(ConcurrentDiscardingLongRingBuffer.class);
+                        }
+                        return new ConcurrentDiscardingLongRingBuffer(this);
+                }
+        }
+        throw new AssertionError();
+    }
+
+    long[] getBuffer() {
+        return new long[getCapacity()];
+    }
+}
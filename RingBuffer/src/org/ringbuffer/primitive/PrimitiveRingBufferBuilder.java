@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.primitive;
+
+import org.ringbuffer.AbstractRingBufferBuilder;
+import org.ringbuffer.wait.BusyWaitStrategy;
+import org.ringbuffer.wait.ParkingBusyWaitStrategy;
+
+abstract class PrimitiveRingBufferBuilder<T> extends AbstractRingBufferBuilder<T> {
+    private final int capacity;
+
+    PrimitiveRingBufferBuilder(int capacity) {
+        validateCapacity(capacity);
+        this.capacity = capacity;
+    }
+
+    abstract PrimitiveRingBufferBuilder<?> discarding();
+
+    void discarding0() {
+        type = RingBufferType.DISCARDING;
+    }
+
+    @Override
+    protected void withoutLocks0() {
+        super.withoutLocks0();
+        validateCapacityPowerOfTwo(capacity);
+    }
+
+    @Override
+    protected BusyWaitStrategy getWriteBusyWaitStrategy() {
+        return super.getWriteBusyWaitStrategy();
+    }
+
+    @Override
+    protected BusyWaitStrategy getReadBusyWaitStrategy() {
+        return super.getReadBusyWaitStrategy();
+    }
+
+    @Override
+    protected ParkingBusyWaitStrategy getParkingBusyWaitStrategy() {
+        return super.getParkingBusyWaitStrategy();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getCapacityMinusOne() {
+        return capacity - 1;
+    }
+
+    int[] getSequences() {
+        int[] sequences = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences[i] = i;
+        }
+        return sequences;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.util;
+
+import jdk.internal.vm.annotation.Contended;
+import org.ringbuffer.AbstractRingBuffer;
+import org.ringbuffer.concurrent.AtomicLongArray;
+import org.ringbuffer.concurrent.ThreadLocal;
+import org.ringbuffer.system.Unsafe;
+import org.ringbuffer.wait.BusyWaitStrategy;
+
+/**
+ * Allows one reader to wait on many ring buffers of any kind.
+ * <p>
+ * Writers:
+ *
+ * <pre>{@code
+ * ringBuffer.put(element);
+ * selector.markReady(key);
+ * }</pre>
+ * <p>
+ * Reader:
+ *
+ * <pre>{@code
+ * int[] readyKeys = new int[selector.getMaxRingBuffers()];
+ * int count = selector.select(busyWaitStrategy, readyKeys);
+ * for (int i = 0; i < count; i++) {
+ *     RingBuffer<T> ringBuffer = selector.getRingBuffer(readyKeys[i]);
+ *     // Drain ringBuffer
+ * }
+ * }</pre>
+ * <p>
+ * Ready ring buffers are kept in a bitset, so an idle reader only reads one word for every 64 ring buffers,
+ * and a writer only sets the bit of its ring buffer with an atomic OR if it is not already set, so that writers
+ * do not contend on the word while the reader is busy.
+ * The bits of the selected ring buffers are cleared before their keys are returned, so elements put afterwards
+ * are never missed, but a ring buffer that is not drained must be marked again by the reader.
+ */
+@Contended
+public class RingBufferSelector<T extends AbstractRingBuffer> {
+    private final AbstractRingBuffer[] ringBuffers;
+    private final long[] readyWords;
+    private int size;
+
+    public RingBufferSelector(int maxRingBuffers) {
+        ringBuffers = new AbstractRingBuffer[maxRingBuffers];
+        readyWords = new long[(maxRingBuffers + 63) >>> 6];
+    }
+
+    /**
+     * @return the key of {@code ringBuffer}, to be passed to {@link #markReady(int)} by its writers
+     */
+    public synchronized int register(T ringBuffer) {
+        if (size == ringBuffers.length) {
+            throw new IllegalStateException("No more than " + ringBuffers.length + " ring buffers can be registered.");
+        }
+        ringBuffers[size] = ringBuffer;
+        return size++;
+    }
+
+    public void markReady(int key) {
+        int index = key >>> 6;
+        long mask = 1L << key;
+        // The element put by the caller must be visible before the bit is seen as already set
+        Unsafe.fullFence();
+        if ((AtomicLongArray.getOpaque(readyWords, index) & mask) == 0L) {
+            AtomicLongArray.getAndBitwiseOrVolatile(readyWords, index, mask);
+        }
+    }
+
+    /**
+     * Waits until at least one ring buffer has been marked as ready, then stores the keys of all the ready ones
+     * into {@code readyKeys} starting at index 0.
+     *
+     * @param readyKeys its length must not be lesser than {@link #getMaxRingBuffers()}
+     * @return the number of keys stored
+     */
+    public int select(@ThreadLocal BusyWaitStrategy busyWaitStrategy, int[] readyKeys) {
+        int count;
+        busyWaitStrategy.reset();
+        while ((count = selectNow(readyKeys)) == 0) {
+            busyWaitStrategy.tick();
+        }
+        return count;
+    }
+
+    /**
+     * Like {@link #select(BusyWaitStrategy, int[])}, but does not wait.
+     */
+    public int selectNow(int[] readyKeys) {
+        int count = 0;
+        long[] readyWords = this.readyWords;
+        for (int i = 0; i < readyWords.length; i++) {
+            if (AtomicLongArray.getOpaque(readyWords, i) != 0L) {
+                long word = AtomicLongArray.getAndSetVolatile(readyWords, i, 0L);
+                int base = i << 6;
+                while (word != 0L) {
+                    readyKeys[count++] = base + Long.numberOfTrailingZeros(word);
+                    word &= word - 1L;
+                }
+            }
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getRingBuffer(int key) {
+        return (T) ringBuffers[key];
+    }
+
+    public int getMaxRingBuffers() {
+        return ringBuffers.length;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.wait;
+
+import org.ringbuffer.concurrent.Atomic;
+import org.ringbuffer.lang.Lang;
+import org.ringbuffer.system.Threads;
+
+/**
+ * Spins for a number of iterations, then announces that the current thread is parked and parks it until a writer
+ * calls {@link #wakeup()}.
+ * <p>
+ * When passed to {@code waitingWith()}, blocking ring buffers call {@link #wakeup()} after publishing, which costs
+ * an opaque load as long as the reader is not parked. Therefore, an instance must not be shared among ring buffers.
+ * <p>
+ * Only one thread at a time may wait with an instance: there is a single slot in which the waiting thread is
+ * registered, so with more waiters some of them would only wake up after {@code maxParkTime} nanoseconds.
+ * <p>
+ * The waiter registers itself with a volatile store and checks the condition again before parking, so a writer that
+ * publishes before the registration is seen by the waiter, and a writer that sees the registration wakes it up.
+ * Writers do not fence between publishing and checking the registration, so the check may still be performed before
+ * the publishing store is visible to the waiter, in which case both miss each other and the waiter only wakes up
+ * after {@code maxParkTime} nanoseconds. This window is as short as a store buffer takes to drain, so
+ * {@code maxParkTime} bounds the latency of that rare case, as well as the time spent parked if the condition changes
+ * without a call to {@link #wakeup()}.
+ * The registration is cleared as soon as the waiter is unparked or times out, and at the start of the next wait
+ * if the condition became true before the waiter parked.
+ */
+public class ParkingBusyWaitStrategy implements BusyWaitStrategy {
+    private static final long PARKED_THREAD = Lang.objectFieldOffset(ParkingBusyWaitStrategy.class, "parkedThread");
+
+    private final int spinIterations;
+    private final long maxParkTime;
+
+    private int iterations;
+    private Thread parkedThread;
+
+    public ParkingBusyWaitStrategy() {
+        this(100, 1_000_000L);
+    }
+
+    public ParkingBusyWaitStrategy(int spinIterations, long maxParkTime) {
+        this.spinIterations = spinIterations;
+        this.maxParkTime = maxParkTime;
+    }
+
+    /**
+     * @return whether a waiting thread was woken up
+     */
+    public boolean wakeup() {
+        Thread parkedThread = Atomic.getOpaque(this, PARKED_THREAD);
+        if (parkedThread != null && Atomic.compareAndSetVolatile(this, PARKED_THREAD, parkedThread, null)) {
+            Threads.unpark(parkedThread);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void reset() {
+        iterations = spinIterations;
+        unregister();
+    }
+
+    @Override
+    public void tick() {
+        if (iterations != 0) {
+            iterations--;
+            Thread.onSpinWait();
+        } else if (Atomic.getOpaque(this, PARKED_THREAD) == null) {
+            // The caller checks the condition again before the next tick() parks
+            Atomic.setVolatile(this, PARKED_THREAD, Thread.currentThread());
+        } else {
+            Threads.park(maxParkTime);
+            // Woken up or timed out: the caller checks the condition again before the next tick() registers
+            unregister();
+        }
+    }
+
+    private void unregister() {
+        Thread currentThread = Thread.currentThread();
+        if (Atomic.getOpaque(this, PARKED_THREAD) == currentThread) {
+            Atomic.compareAndSetVolatile(this, PARKED_THREAD, currentThread, null);
+        }
+    }
+}
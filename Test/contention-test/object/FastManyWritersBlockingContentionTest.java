@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.object;
+
+import org.ringbuffer.object.RingBuffer;
+import test.Profiler;
+
+public class FastManyWritersBlockingContentionTest extends RingBufferTest {
+    public static class Holder {
+        public static final RingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(FAST_BLOCKING_SIZE)
+                        .oneReader()
+                        .manyWriters()
+                        .blockingWithoutLocks()
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new FastManyWritersBlockingContentionTest().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return MANY_WRITERS_SUM;
+    }
+
+    @Override
+    protected long testSum() {
+        Profiler profiler = createThroughputProfiler(TOTAL_ELEMENTS);
+        Writer.startGroupAsync(getRingBuffer(), profiler);
+        return Reader.runAsync(TOTAL_ELEMENTS, getRingBuffer(), profiler);
+    }
+
+    RingBuffer<Event> getRingBuffer() {
+        return Holder.RING_BUFFER;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package test.object;
+
+import org.ringbuffer.object.ChunkPool;
+import org.ringbuffer.object.RingBuffer;
+import test.Profiler;
+
+public class OneToOneUnboundedContentionTest extends RingBufferTest {
+    public static class Holder {
+        public static final RingBuffer<Event> RING_BUFFER =
+                RingBuffer.<Event>withCapacity(1024)
+                        .oneReader()
+                        .oneWriter()
+                        .unbounded(new ChunkPool(1024, 16))
+                        .build();
+    }
+
+    public static void main(String[] args) {
+        new OneToOneUnboundedContentionTest().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return ONE_TO_ONE_SUM;
+    }
+
+    @Override
+    protected long testSum() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        Writer.startAsync(NUM_ITERATIONS, Holder.RING_BUFFER, profiler);
+        return Reader.runAsync(NUM_ITERATIONS, Holder.RING_BUFFER, profiler);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.object;
+
+import org.ringbuffer.object.PipelineRingBuffer;
+import test.Profiler;
+
+public class PipelineContentionTest extends RingBufferTest {
+    public static final PipelineRingBuffer<Event> RING_BUFFER = PipelineRingBuffer.<Event>withCapacity(BLOCKING_SIZE).fillWith(FILLER).build();
+    public static final PipelineRingBuffer.Stage<Event> PROCESSOR = RING_BUFFER.createStage();
+    public static final PipelineRingBuffer.Stage<Event> CONSUMER = RING_BUFFER.createStage(PROCESSOR);
+
+    public static void main(String[] args) {
+        new PipelineContentionTest().runBenchmark();
+    }
+
+    @Override
+    protected long getSum() {
+        return ONE_TO_ONE_SUM * 2L;
+    }
+
+    @Override
+    protected long testSum() {
+        Profiler profiler = createThroughputProfiler(NUM_ITERATIONS);
+        PipelineWriter.startAsync(NUM_ITERATIONS, RING_BUFFER, profiler);
+        PipelineProcessor.startAsync(NUM_ITERATIONS, PROCESSOR);
+        return PipelineReader.runAsync(NUM_ITERATIONS, CONSUMER, profiler);
+    }
+}
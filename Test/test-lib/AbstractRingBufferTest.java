@@ -18,7 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public abstract class AbstractRingBufferTest extends Benchmark {
     protected static final int NUM_ITERATIONS = 1_000_000;
-    static final int CONCURRENCY = 3;
+    protected static final int CONCURRENCY = 3;
     protected static final int TOTAL_ELEMENTS = NUM_ITERATIONS * CONCURRENCY;
 
     protected static final long ONE_TO_ONE_SUM = getOneToOneSum();
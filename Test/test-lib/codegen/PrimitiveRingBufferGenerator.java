@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates the {@code long} ring buffers of {@code org.ringbuffer.primitive} from the {@code int} ones, which are
+ * the only ones to be edited by hand.
+ * <p>
+ * Run from the repository root, optionally passing the directory of the package:
+ *
+ * <pre>{@code
+ * java Test/test-lib/codegen/PrimitiveRingBufferGenerator.java [RingBuffer/src/org/ringbuffer/primitive]
+ * }</pre>
+ * <p>
+ * With {@code --check}, nothing is written, and the exit status is 1 if a generated file is out of date.
+ */
+public class PrimitiveRingBufferGenerator {
+    private static final String DEFAULT_DIRECTORY = "RingBuffer/src/org/ringbuffer/primitive";
+    private static final String LICENSE_END = " */\n\n";
+    private static final String ATOMIC_INT_ARRAY_IMPORT = "import org.ringbuffer.concurrent.AtomicIntArray;\n";
+    private static final String ATOMIC_LONG_ARRAY_IMPORT = "import org.ringbuffer.concurrent.AtomicLongArray;\n";
+
+    private static final Replacement[] replacements = {
+            new Replacement("IntRingBuffer", "LongRingBuffer"),
+            new Replacement("IntConsumer", "LongConsumer"),
+            new Replacement("AtomicIntArray\\.(\\w+)\\(buffer\\b", "AtomicLongArray.$1(buffer"),
+            new Replacement("\\bint\\[] (buffer|elements|destination)\\b", "long[] $1"),
+            new Replacement("\\bint\\[] getBuffer\\(\\) \\{(\\s+)return new int\\[", "long[] getBuffer() {$1return new long["),
+            new Replacement("\\bint element\\b", "long element"),
+            new Replacement("\\b(take|takePlain|takeLast)Int\\(", "$1Long("),
+            new Replacement("\\bint (take|takePlain|takeLast)Long\\(", "long $1Long("),
+            new Replacement("\\{@code int\\[]}", "{@code long[]}"),
+            new Replacement("#put\\(int\\)", "#put(long)")
+    };
+
+    public static void main(String[] args) throws IOException {
+        boolean check = false;
+        Path directory = Path.of(DEFAULT_DIRECTORY);
+        for (String arg : args) {
+            if (arg.equals("--check")) {
+                check = true;
+            } else {
+                directory = Path.of(arg);
+            }
+        }
+
+        List<Path> sources;
+        try (Stream<Path> files = Files.list(directory)) {
+            sources = files.filter(PrimitiveRingBufferGenerator::isSource).sorted().collect(Collectors.toList());
+        }
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("No int ring buffers found in " + directory.toAbsolutePath());
+        }
+
+        boolean outdated = false;
+        for (Path source : sources) {
+            String sourceName = source.getFileName().toString();
+            Path target = source.resolveSibling(sourceName.replace("Int", "Long"));
+            String generated = generate(sourceName, Files.readString(source));
+            if (Files.exists(target) && Files.readString(target).equals(generated)) {
+                continue;
+            }
+            if (check) {
+                System.out.println("Out of date: " + target);
+                outdated = true;
+            } else {
+                Files.writeString(target, generated);
+                System.out.println("Generated: " + target);
+            }
+        }
+        if (outdated) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean isSource(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".java") && (name.startsWith("Int") || name.contains("IntRingBuffer"));
+    }
+
+    static String generate(String sourceName, String source) {
+        int licenseEnd = source.indexOf(LICENSE_END);
+        if (licenseEnd == -1) {
+            throw new IllegalArgumentException(sourceName + " does not start with the license header.");
+        }
+        licenseEnd += LICENSE_END.length();
+
+        String body = source.substring(licenseEnd);
+        for (Replacement replacement : replacements) {
+            body = replacement.apply(body);
+        }
+        if (body.contains(ATOMIC_INT_ARRAY_IMPORT) && body.contains("AtomicLongArray.")) {
+            String withoutImport = body.replace(ATOMIC_INT_ARRAY_IMPORT, "");
+            if (withoutImport.contains("AtomicIntArray.")) {
+                body = body.replace(ATOMIC_INT_ARRAY_IMPORT, ATOMIC_INT_ARRAY_IMPORT + ATOMIC_LONG_ARRAY_IMPORT);
+            } else {
+                body = body.replace(ATOMIC_INT_ARRAY_IMPORT, ATOMIC_LONG_ARRAY_IMPORT);
+            }
+        }
+
+        return source.substring(0, licenseEnd) +
+                "// Generated from " + sourceName + " by " + PrimitiveRingBufferGenerator.class.getName() + ", do not edit.\n\n" +
+                body;
+    }
+
+    private static class Replacement {
+        private final Pattern pattern;
+        private final String replacement;
+
+        Replacement(String regex, String replacement) {
+            pattern = Pattern.compile(regex);
+            this.replacement = replacement;
+        }
+
+        String apply(String text) {
+            Matcher matcher = pattern.matcher(text);
+            return matcher.replaceAll(replacement);
+        }
+    }
+}
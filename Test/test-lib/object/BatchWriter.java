@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.object;
+
+import org.ringbuffer.object.ObjectRingBuffer;
+import org.ringbuffer.object.RingBuffer;
+import test.Profiler;
+import test.TestThreadGroup;
+
+class BatchWriter extends TestThread {
+    static TestThreadGroup startGroupAsync(int batchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        TestThreadGroup group = new TestThreadGroup(numIterations -> new BatchWriter(numIterations, batchSize, ringBuffer));
+        group.start(profiler);
+        return group;
+    }
+
+    static void runGroupAsync(int batchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        startGroupAsync(batchSize, ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    static BatchWriter startAsync(int numIterations, int batchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        BatchWriter writer = new BatchWriter(numIterations, batchSize, ringBuffer);
+        writer.startNow(profiler);
+        return writer;
+    }
+
+    static void runAsync(int numIterations, int batchSize, ObjectRingBuffer<Event> ringBuffer, Profiler profiler) {
+        startAsync(numIterations, batchSize, ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    private final Event[] batch;
+
+    private BatchWriter(int numIterations, int batchSize, ObjectRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+        batch = new Event[batchSize];
+    }
+
+    @Override
+    protected void loop() {
+        RingBuffer<Event> ringBuffer = getRingBuffer();
+        Event[] batch = this.batch;
+        for (int numIterations = getNumIterations(); numIterations > 0; ) {
+            int length = Math.min(numIterations, batch.length);
+            for (int i = 0; i < length; i++) {
+                batch[i] = new Event(numIterations--);
+            }
+            ringBuffer.putAll(batch, 0, length);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.object;
+
+import org.ringbuffer.object.BroadcastRingBuffer;
+import test.AbstractReader;
+import test.AbstractTestThread;
+import test.Profiler;
+import test.TestThreadGroup;
+
+class BroadcastReader extends AbstractTestThread implements AbstractReader {
+    static long runGroupAsync(BroadcastRingBuffer<Event> ringBuffer, Profiler profiler) {
+        int[] readerIndex = new int[1];
+        TestThreadGroup group = new TestThreadGroup(numIterations -> new BroadcastReader(numIterations, ringBuffer.getReader(readerIndex[0]++)));
+        group.start(null);
+        group.waitForCompletion(profiler);
+        return group.getReaderSum();
+    }
+
+    private long sum;
+
+    private BroadcastReader(int numIterations, BroadcastRingBuffer.Reader<Event> reader) {
+        super(numIterations, reader);
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected void loop() {
+        BroadcastRingBuffer.Reader<Event> reader = (BroadcastRingBuffer.Reader<Event>) dataStructure;
+        long sum = 0L;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            sum += reader.take().getData();
+        }
+        this.sum = sum;
+    }
+}
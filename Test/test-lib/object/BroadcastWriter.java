@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.object;
+
+import org.ringbuffer.object.BroadcastRingBuffer;
+import test.AbstractTestThread;
+import test.Profiler;
+
+class BroadcastWriter extends AbstractTestThread {
+    static BroadcastWriter startAsync(int numIterations, BroadcastRingBuffer<Event> ringBuffer, Profiler profiler) {
+        BroadcastWriter writer = new BroadcastWriter(numIterations, ringBuffer);
+        writer.startNow(profiler);
+        return writer;
+    }
+
+    static void runAsync(int numIterations, BroadcastRingBuffer<Event> ringBuffer, Profiler profiler) {
+        startAsync(numIterations, ringBuffer, profiler).waitForCompletion(null);
+    }
+
+    private BroadcastWriter(int numIterations, BroadcastRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected void loop() {
+        BroadcastRingBuffer<Event> ringBuffer = (BroadcastRingBuffer<Event>) dataStructure;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            ringBuffer.put(new Event(numIterations));
+        }
+    }
+}
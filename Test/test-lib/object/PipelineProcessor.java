@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.object;
+
+import org.ringbuffer.object.PipelineRingBuffer;
+import test.AbstractTestThread;
+
+class PipelineProcessor extends AbstractTestThread {
+    static PipelineProcessor startAsync(int numIterations, PipelineRingBuffer.Stage<Event> stage) {
+        PipelineProcessor processor = new PipelineProcessor(numIterations, stage);
+        processor.startNow(null);
+        return processor;
+    }
+
+    private PipelineProcessor(int numIterations, PipelineRingBuffer.Stage<Event> stage) {
+        super(numIterations, stage);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected void loop() {
+        PipelineRingBuffer.Stage<Event> stage = (PipelineRingBuffer.Stage<Event>) dataStructure;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            Event event = stage.next();
+            event.setData(event.getData() * 2);
+            stage.release();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.object;
+
+import org.ringbuffer.object.PipelineRingBuffer;
+import test.AbstractReader;
+import test.AbstractTestThread;
+import test.Profiler;
+
+class PipelineReader extends AbstractTestThread implements AbstractReader {
+    static long runAsync(int numIterations, PipelineRingBuffer.Stage<Event> stage, Profiler profiler) {
+        PipelineReader reader = new PipelineReader(numIterations, stage);
+        reader.startNow(null);
+        reader.waitForCompletion(profiler);
+        return reader.getSum();
+    }
+
+    private long sum;
+
+    private PipelineReader(int numIterations, PipelineRingBuffer.Stage<Event> stage) {
+        super(numIterations, stage);
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected void loop() {
+        PipelineRingBuffer.Stage<Event> stage = (PipelineRingBuffer.Stage<Event>) dataStructure;
+        long sum = 0L;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            sum += stage.next().getData();
+            stage.release();
+        }
+        this.sum = sum;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test.object;
+
+import org.ringbuffer.object.PipelineRingBuffer;
+import test.AbstractTestThread;
+import test.Profiler;
+
+class PipelineWriter extends AbstractTestThread {
+    static PipelineWriter startAsync(int numIterations, PipelineRingBuffer<Event> ringBuffer, Profiler profiler) {
+        PipelineWriter writer = new PipelineWriter(numIterations, ringBuffer);
+        writer.startNow(profiler);
+        return writer;
+    }
+
+    private PipelineWriter(int numIterations, PipelineRingBuffer<Event> ringBuffer) {
+        super(numIterations, ringBuffer);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected void loop() {
+        PipelineRingBuffer<Event> ringBuffer = (PipelineRingBuffer<Event>) dataStructure;
+        for (int numIterations = getNumIterations(); numIterations > 0; numIterations--) {
+            int key = ringBuffer.nextKey();
+            ringBuffer.next(key).setData(numIterations);
+            ringBuffer.put(key);
+        }
+    }
+}
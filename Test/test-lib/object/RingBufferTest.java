@@ -25,6 +25,7 @@ public abstract class RingBufferTest extends AbstractRingBufferTest {
     protected static final int NOT_ONE_TO_ONE_SIZE = TOTAL_ELEMENTS + 1;
     protected static final int FAST_ONE_TO_ONE_SIZE = Numbers.getNextPowerOfTwo(ONE_TO_ONE_SIZE);
     protected static final int FAST_NOT_ONE_TO_ONE_SIZE = Numbers.getNextPowerOfTwo(NOT_ONE_TO_ONE_SIZE);
+    static final int FAST_BLOCKING_SIZE = Numbers.getNextPowerOfTwo(BLOCKING_SIZE);
 
     static final int BATCH_SIZE = 20;
     static final int BLOCKING_BATCH_SIZE = 4;
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkCopyTest {
+    @Test
+    void testHeap() {
+        HeapRingBuffer ringBuffer = HeapRingBuffer.withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+        byte[] bytes = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        byte[] readBytes = new byte[10];
+        ringBuffer.writeBytes(12, bytes, 0, 10);
+        assertEquals(5, ringBuffer.readByte(16));
+        ringBuffer.readBytes(12, readBytes, 0, 10);
+        assertArrayEquals(bytes, readBytes);
+
+        ByteBuffer source = ByteBuffer.allocateDirect(6).put(bytes, 0, 6).flip();
+        ringBuffer.writeBytes(30, source);
+        assertFalse(source.hasRemaining());
+        ByteBuffer destination = ByteBuffer.allocate(6);
+        ringBuffer.readBytes(30, destination);
+        assertFalse(destination.hasRemaining());
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6}, destination.array());
+
+        int[] ints = {-1, Integer.MAX_VALUE, 42};
+        int[] readInts = new int[3];
+        ringBuffer.writeInts(10, ints, 0, 3);
+        ringBuffer.readInts(10, readInts, 0, 3);
+        assertArrayEquals(ints, readInts);
+    }
+
+    @Test
+    void testDirect() {
+        DirectRingBuffer ringBuffer = DirectRingBuffer.withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+        long[] longs = {Long.MIN_VALUE, 7L};
+        long[] readLongs = new long[2];
+        ringBuffer.writeLongs(12L, longs, 0, 2);
+        ringBuffer.readLongs(12L, readLongs, 0, 2);
+        assertArrayEquals(longs, readLongs);
+
+        double[] doubles = {0.5, -3.25};
+        double[] readDoubles = new double[2];
+        ringBuffer.writeDoubles(4L, doubles, 0, 2);
+        ringBuffer.readDoubles(4L, readDoubles, 0, 2);
+        assertArrayEquals(doubles, readDoubles);
+
+        ByteBuffer source = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        ringBuffer.writeBytes(13L, source);
+        ByteBuffer destination = ByteBuffer.allocateDirect(9);
+        ringBuffer.readBytes(13L, DirectBuffer.getAddress(destination), 9L);
+        for (int i = 0; i < 9; i++) {
+            assertEquals(i + 1, destination.get(i));
+        }
+    }
+
+    @Test
+    void testBounds() {
+        HeapRingBuffer heapRingBuffer = HeapRingBuffer.withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+        assertThrows(IndexOutOfBoundsException.class, () -> heapRingBuffer.writeBytes(0, new byte[4], 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> heapRingBuffer.readInts(0, new int[2], -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> heapRingBuffer.writeInts(0, new int[5], 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> heapRingBuffer.readBytes(0, new byte[17], 0, 17));
+
+        DirectRingBuffer directRingBuffer = DirectRingBuffer.withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+        assertThrows(IndexOutOfBoundsException.class, () -> directRingBuffer.readLongs(0L, new long[2], 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> directRingBuffer.writeDoubles(0L, new double[3], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> directRingBuffer.writeBytes(0L, ByteBuffer.allocate(17)));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ringbuffer.marshalling.Offsets.*;
+
+class ByteBufferViewTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testViews() throws IOException {
+        DirectRingBuffer ringBuffer = DirectRingBuffer.withCapacity(16L)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+        ByteBuffer[] views = new ByteBuffer[2];
+        Path file = directory.resolve("views");
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE)) {
+            for (int i = 0; i < 4; i++) {
+                long offset = ringBuffer.next(6L);
+                ringBuffer.writeBytes(offset, new byte[]{(byte) i, 1, 2, 3, 4, 5}, 0, 6);
+                ringBuffer.put(offset + 6L);
+
+                offset = ringBuffer.take(6L);
+                int count = ringBuffer.viewBytes(offset, 6L, views);
+                assertEquals(offset + 6L > 16L ? 2 : 1, count);
+                assertEquals(6L, channel.write(views, 0, count));
+                ringBuffer.advance(offset + 6L);
+            }
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals(24, bytes.length);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, bytes[i * 6]);
+            assertEquals(5, bytes[i * 6 + 5]);
+        }
+
+        ByteBuffer first = views[0];
+        long offset = ringBuffer.next(LONG);
+        ringBuffer.writeLong(offset, 42L);
+        ringBuffer.put(offset + LONG);
+        assertEquals(1, ringBuffer.viewBytes(ringBuffer.take(LONG), LONG, views));
+        assertSame(first, views[0]);
+        assertEquals(42L, views[0].getLong(views[0].position()));
+        assertEquals(LONG, views[0].remaining());
+
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.viewBytes(0L, 1L, new ByteBuffer[]{ByteBuffer.allocate(1)}));
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.viewBytes(0L, 1L, new ByteBuffer[]{ByteBuffer.allocateDirect(16)}));
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.viewBytes(0L, 17L, views));
+    }
+
+    @Test
+    void testMappedViews() {
+        DirectRingBuffer ringBuffer = DirectRingBuffer.withCapacity(16L)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .sharedMemory(directory.resolve("ring"))
+                .build();
+        long offset = ringBuffer.next(INT);
+        ringBuffer.writeInt(offset, 7);
+        ringBuffer.put(offset + INT);
+        ByteBuffer[] views = new ByteBuffer[2];
+        offset = ringBuffer.take(INT);
+        assertEquals(1, ringBuffer.viewBytes(offset, INT, views));
+        assertEquals(7, views[0].getInt(views[0].position()));
+        ringBuffer.advance(offset + INT);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ringbuffer.marshalling.Offsets.INT;
+
+class FastMarshallingRingBufferTest {
+    @Test
+    void testHeapSize() {
+        HeapRingBuffer ringBuffer = HeapRingBuffer.withCapacity(64)
+                .manyWriters()
+                .manyReaders()
+                .withoutLocks()
+                .build();
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(0, ringBuffer.size());
+        for (int i = 0; i < 3; i++) {
+            int offset = ringBuffer.next(INT);
+            ringBuffer.writeInt(offset, i);
+            ringBuffer.put(offset);
+        }
+        assertFalse(ringBuffer.isEmpty());
+        assertEquals(3 * INT, ringBuffer.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, ringBuffer.readInt(ringBuffer.take(INT)));
+        }
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(0, ringBuffer.size());
+    }
+
+    @Test
+    void testDirectSize() {
+        DirectRingBuffer ringBuffer = DirectRingBuffer.withCapacity(64L)
+                .oneWriter()
+                .oneReader()
+                .withoutLocks()
+                .build();
+        assertTrue(ringBuffer.isEmpty());
+        long offset = ringBuffer.next(DirectOffsets.INT);
+        ringBuffer.writeInt(offset, 1);
+        ringBuffer.put(offset);
+        assertFalse(ringBuffer.isEmpty());
+        assertEquals(DirectOffsets.INT, ringBuffer.size());
+        assertEquals(1, ringBuffer.readInt(ringBuffer.take(DirectOffsets.INT)));
+        assertTrue(ringBuffer.isEmpty());
+    }
+}
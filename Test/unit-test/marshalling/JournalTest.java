@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ringbuffer.marshalling.Offsets.*;
+
+class JournalTest {
+    @TempDir
+    Path directory;
+
+    private static HeapRingBuffer heapRingBuffer() {
+        return HeapRingBuffer.withCapacity(256)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+    }
+
+    @Test
+    void testHeapMessages() throws Exception {
+        // Segments of 272 bytes hold one batch as long as the ring buffer, and a few batches of one message each
+        Files.writeString(directory.resolve("notes.journal"), "Not a segment");
+        Journal journal = new Journal(directory, 272);
+        HeapMessageRingBuffer messages = new HeapMessageRingBuffer(heapRingBuffer());
+        HeapJournaller journaller = new HeapJournaller(messages.getRingBuffer(), journal);
+        List<Integer> lengths = new ArrayList<>();
+        HeapBatchHandler handler = (ringBuffer, offset, length) -> lengths.add(length);
+        assertEquals(0, journaller.journal(handler));
+        for (int i = 0; i < 10; i++) {
+            messages.write(i, "abcdefghijklmnopqrstuvwxyz".getBytes(), 0, i);
+            assertEquals(recordLength(i), journaller.journal(handler));
+        }
+        assertEquals(10, lengths.size());
+        assertTrue(messages.getRingBuffer().isEmpty());
+        assertTrue(Files.list(directory).count() > 2L);
+
+        HeapMessageRingBuffer replayed = new HeapMessageRingBuffer(heapRingBuffer());
+        List<String> received = new ArrayList<>();
+        HeapMessageHandler messageHandler = (msgType, ringBuffer, offset, length) -> {
+            byte[] bytes = new byte[length];
+            ringBuffer.readBytes(offset, bytes, 0, length);
+            received.add(msgType + ":" + new String(bytes));
+        };
+        new Journal(directory, 272).replay(0L, Long.MAX_VALUE, replayed.getRingBuffer());
+        assertEquals(10, replayed.read(messageHandler, Integer.MAX_VALUE));
+        assertEquals("0:", received.get(0));
+        assertEquals("7:abcdefg", received.get(7));
+
+        new Journal(directory, 272).replay(0L, 1L, replayed.getRingBuffer());
+        assertTrue(replayed.getRingBuffer().isEmpty());
+    }
+
+    @Test
+    void testMaxBatchLength() {
+        // A batch of 112 bytes could end in the middle of a record of a 256 bytes ring buffer
+        assertThrows(IllegalArgumentException.class, () -> new HeapJournaller(heapRingBuffer(), new Journal(directory, 128)));
+    }
+
+    @Test
+    void testReplayWholeBatches() {
+        Journal journal = new Journal(directory, 272);
+        HeapMessageRingBuffer messages = new HeapMessageRingBuffer(heapRingBuffer());
+        HeapJournaller journaller = new HeapJournaller(messages.getRingBuffer(), journal);
+        for (int i = 0; i < 6; i++) {
+            messages.write(i, "abcdefghijklmnopqrstuvwxyz".getBytes(), 0, 24);
+        }
+        int length = journaller.journal((ringBuffer, offset, batchLength) -> {
+        });
+        assertTrue(length > 128);
+
+        // The batch is published at once, even if it is longer than half the target
+        HeapMessageRingBuffer replayed = new HeapMessageRingBuffer(heapRingBuffer());
+        new Journal(directory, 272).replay(0L, Long.MAX_VALUE, replayed.getRingBuffer());
+        assertEquals(length, replayed.getRingBuffer().size());
+        assertEquals(6, replayed.read((msgType, ringBuffer, offset, messageLength) -> {
+        }, Integer.MAX_VALUE));
+
+        HeapRingBuffer smaller = HeapRingBuffer.withCapacity(128)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> new Journal(directory, 272).replay(0L, Long.MAX_VALUE, smaller));
+    }
+
+    private static int recordLength(int length) {
+        return (HeapMessageRingBuffer.HEADER_LENGTH + length + HeapMessageRingBuffer.ALIGNMENT - 1) & -HeapMessageRingBuffer.ALIGNMENT;
+    }
+
+    @Test
+    void testDirectResume() {
+        DirectRingBuffer ringBuffer = DirectRingBuffer.withCapacity(32L)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+        DirectBatchHandler handler = (buffer, offset, length) -> {
+        };
+        for (int i = 0; i < 10; i++) {
+            // Reopening the journal resumes after the last batch
+            DirectJournaller journaller = new DirectJournaller(ringBuffer, new Journal(directory, 64));
+            for (int j = 0; j < 2; j++) {
+                long offset = ringBuffer.next(LONG);
+                ringBuffer.writeLong(offset, 2 * i + j);
+                ringBuffer.put(offset + LONG);
+            }
+            assertEquals(2 * LONG, journaller.journal(handler));
+        }
+
+        DirectRingBuffer target = DirectRingBuffer.withCapacity(1024L)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+        new Journal(directory, 64).replay(0L, Long.MAX_VALUE, target);
+        assertEquals(20 * LONG, target.size());
+        for (int i = 0; i < 20; i++) {
+            long offset = target.take(LONG);
+            assertEquals(i, target.readLong(offset));
+            target.advance(offset + LONG);
+        }
+    }
+}
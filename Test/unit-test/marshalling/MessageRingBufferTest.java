@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ringbuffer.marshalling.Offsets.*;
+
+class MessageRingBufferTest {
+    @Test
+    void testHeap() {
+        HeapMessageRingBuffer messages = new HeapMessageRingBuffer(HeapRingBuffer.withCapacity(128)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build());
+        assertEquals(8, messages.getMaxMessageLength());
+        List<String> received = new ArrayList<>();
+        HeapMessageHandler handler = (msgType, ringBuffer, offset, length) -> {
+            StringBuilder builder = new StringBuilder();
+            builder.append(msgType).append(':');
+            for (int i = 0; i < length; i++) {
+                builder.append((char) ringBuffer.readByte(offset + i));
+            }
+            received.add(builder.toString());
+        };
+        assertEquals(0, messages.read(handler, 10));
+
+        // Records of 40 bytes per round, so that the fourth round needs a padding record
+        for (int round = 0; round < 10; round++) {
+            messages.write(1, "abcdefg".getBytes(), 0, 7);
+            messages.write(2, new byte[0], 0, 0);
+            int offset = messages.claim(3, LONG);
+            messages.getRingBuffer().writeLong(offset, round);
+            messages.commit(offset);
+            assertEquals(1, messages.read(handler, 1));
+            assertEquals(2, messages.read(handler, 10));
+        }
+        assertEquals(30, received.size());
+        assertEquals("1:abcdefg", received.get(27));
+        assertEquals("2:", received.get(28));
+        assertEquals(3, received.get(29).charAt(0) - '0');
+        assertTrue(messages.getRingBuffer().isEmpty());
+    }
+
+    @Test
+    void testDirect() {
+        DirectMessageRingBuffer messages = new DirectMessageRingBuffer(DirectRingBuffer.withCapacity(256L)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build());
+        long[] sum = new long[1];
+        DirectMessageHandler handler = (msgType, ringBuffer, offset, length) -> {
+            assertEquals(7, msgType);
+            assertEquals(INT, length);
+            sum[0] += ringBuffer.readInt(offset);
+        };
+        for (int i = 0; i < 100; i++) {
+            long offset = messages.claim(7, INT);
+            messages.getRingBuffer().writeInt(offset, i);
+            messages.commit(offset);
+            assertEquals(1, messages.read(handler, 10));
+        }
+        assertEquals(99 * 100 / 2, sum[0]);
+        assertThrows(IllegalArgumentException.class, () -> messages.claim(7, messages.getMaxMessageLength() + 1));
+        assertThrows(IllegalArgumentException.class, () -> messages.claim(-1, INT));
+    }
+}
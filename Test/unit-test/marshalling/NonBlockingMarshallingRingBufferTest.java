@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.marshalling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.ringbuffer.marshalling.Offsets.INT;
+
+class NonBlockingMarshallingRingBufferTest {
+    @Test
+    void testHeapBlocking() {
+        HeapRingBuffer ringBuffer = HeapRingBuffer.withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+        assertEquals(-1, ringBuffer.tryTake(INT));
+        assertEquals(-1, ringBuffer.poll(INT, 1L, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < 3; i++) {
+            int offset = ringBuffer.tryNext(INT);
+            ringBuffer.writeInt(offset, i);
+            ringBuffer.put(offset + INT);
+        }
+        assertEquals(-1, ringBuffer.tryNext(INT));
+        assertEquals(-1, ringBuffer.offer(INT, 1L, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < 3; i++) {
+            int offset = ringBuffer.tryTake(INT);
+            assertEquals(i, ringBuffer.readInt(offset));
+            ringBuffer.advance(offset + INT);
+        }
+        assertEquals(-1, ringBuffer.tryTake(INT));
+    }
+
+    @Test
+    void testDirectBlocking() {
+        DirectRingBuffer ringBuffer = DirectRingBuffer.withCapacity(16L)
+                .manyWriters()
+                .manyReaders()
+                .blocking()
+                .build();
+        assertEquals(-1L, ringBuffer.tryTake(DirectOffsets.INT));
+        for (int i = 0; i < 3; i++) {
+            long offset = ringBuffer.tryNext(DirectOffsets.INT);
+            ringBuffer.writeInt(offset, i);
+            ringBuffer.put(offset + DirectOffsets.INT);
+        }
+        assertEquals(-1L, ringBuffer.tryNext(DirectOffsets.INT));
+        for (int i = 0; i < 3; i++) {
+            long offset = ringBuffer.poll(DirectOffsets.INT, 1L, TimeUnit.MILLISECONDS);
+            assertEquals(i, ringBuffer.readInt(offset));
+            ringBuffer.advance(offset + DirectOffsets.INT);
+        }
+        assertEquals(-1L, ringBuffer.poll(DirectOffsets.INT, 1L, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testHeapWithoutLocks() {
+        HeapRingBuffer ringBuffer = HeapRingBuffer.withCapacity(16)
+                .manyWriters()
+                .manyReaders()
+                .withoutLocks()
+                .build();
+        assertEquals(-1, ringBuffer.tryTake(INT));
+        int offset = ringBuffer.tryNext(INT);
+        ringBuffer.writeInt(offset, 1);
+        ringBuffer.put(offset);
+        assertEquals(1, ringBuffer.readInt(ringBuffer.tryTake(INT)));
+        assertEquals(-1, ringBuffer.tryTake(INT));
+    }
+
+    @Test
+    void testHeapWithoutLocksTryNextLikeNext() {
+        HeapRingBuffer ringBuffer = HeapRingBuffer.withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .withoutLocks()
+                .build();
+        for (int i = 0; i < 8; i++) {
+            int offset = ringBuffer.tryNext(INT);
+            assertEquals(i * INT, offset);
+            ringBuffer.writeInt(offset, i);
+            ringBuffer.put(offset);
+            assertEquals(i, ringBuffer.readInt(ringBuffer.tryTake(INT)));
+        }
+        assertEquals(8 * INT, ringBuffer.offer(INT, 1L, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testClearingOffsetsAreMasked() {
+        HeapClearingRingBuffer ringBuffer = HeapRingBuffer.withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .build();
+        for (int i = 0; i < 100; i++) {
+            int offset = ringBuffer.next();
+            ringBuffer.writeByte(offset, (byte) i);
+            ringBuffer.writeShort(offset + 1, (short) i);
+            ringBuffer.put(offset + 3);
+            offset = ringBuffer.tryTake(3);
+            assertTrue(offset >= 0 && offset < 16);
+            assertEquals((byte) i, ringBuffer.readByte(offset));
+            assertEquals((short) i, ringBuffer.readShort(offset + 1));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ringbuffer.marshalling.Offsets.INT;
+
+class ResizableMarshallingRingBufferTest {
+    @Test
+    void testHeap() {
+        ResizableHeapRingBuffer ringBuffer = new ResizableHeapRingBuffer(HeapRingBuffer.withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .blocking());
+        for (int i = 0; i < 3; i++) {
+            int offset = ringBuffer.tryNext(INT);
+            ringBuffer.writeInt(offset, i);
+            ringBuffer.put(offset + INT);
+        }
+        assertEquals(-1, ringBuffer.tryNext(INT));
+
+        ringBuffer.resize(64);
+        assertEquals(64, ringBuffer.getCapacity());
+        for (int i = 3; i < 10; i++) {
+            int offset = ringBuffer.next(INT);
+            ringBuffer.writeInt(offset, i);
+            ringBuffer.put(offset + INT);
+        }
+        assertEquals(10 * INT, ringBuffer.size());
+        for (int i = 0; i < 10; i++) {
+            int offset = ringBuffer.take(INT);
+            assertEquals(i, ringBuffer.readInt(offset));
+            ringBuffer.advance(offset + INT);
+        }
+        assertTrue(ringBuffer.isEmpty());
+        assertEquals(-1, ringBuffer.tryTake(INT));
+    }
+
+    @Test
+    void testResizeBetweenNextAndPut() {
+        ResizableHeapRingBuffer ringBuffer = new ResizableHeapRingBuffer(HeapRingBuffer.withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .blocking());
+        int offset = ringBuffer.next(INT);
+        ringBuffer.writeInt(offset, 0);
+        ringBuffer.put(offset + INT);
+        offset = ringBuffer.next(INT);
+        ringBuffer.resize(64);
+        ringBuffer.writeInt(offset, 1);
+        ringBuffer.put(offset + INT);
+        offset = ringBuffer.next(INT);
+        ringBuffer.writeInt(offset, 2);
+        ringBuffer.put(offset + INT);
+        for (int i = 0; i < 3; i++) {
+            offset = ringBuffer.take(INT);
+            assertEquals(i, ringBuffer.readInt(offset));
+            ringBuffer.advance(offset + INT);
+        }
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testResizeWhileWriterHoldsMonitor() throws InterruptedException {
+        ResizableHeapRingBuffer ringBuffer = new ResizableHeapRingBuffer(HeapRingBuffer.withCapacity(16)
+                .manyWriters()
+                .oneReader()
+                .blocking());
+        synchronized (ringBuffer) {
+            int offset = ringBuffer.next(INT);
+            Thread resizer = new Thread(() -> ringBuffer.resize(64));
+            resizer.start();
+            resizer.join(10_000L);
+            assertFalse(resizer.isAlive());
+            ringBuffer.writeInt(offset, 0);
+            ringBuffer.put(offset + INT);
+        }
+        assertEquals(64, ringBuffer.getCapacity());
+        int offset = ringBuffer.take(INT);
+        assertEquals(0, ringBuffer.readInt(offset));
+        ringBuffer.advance(offset + INT);
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testDirect() {
+        ResizableDirectRingBuffer ringBuffer = new ResizableDirectRingBuffer(DirectRingBuffer.withCapacity(64L)
+                .oneWriter()
+                .oneReader()
+                .withoutLocks());
+        long offset = ringBuffer.next(DirectOffsets.INT);
+        ringBuffer.writeInt(offset, 1);
+        ringBuffer.put(offset);
+        ringBuffer.resize(16L);
+        offset = ringBuffer.next(DirectOffsets.INT);
+        ringBuffer.writeInt(offset, 2);
+        ringBuffer.put(offset);
+        assertEquals(1, ringBuffer.readInt(ringBuffer.take(DirectOffsets.INT)));
+        assertEquals(2, ringBuffer.readInt(ringBuffer.take(DirectOffsets.INT)));
+        assertTrue(ringBuffer.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.resize(24L));
+    }
+}
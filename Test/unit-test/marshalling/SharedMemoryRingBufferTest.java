@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.marshalling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ringbuffer.marshalling.Offsets.*;
+
+class SharedMemoryRingBufferTest {
+    @TempDir
+    Path directory;
+
+    private DirectRingBuffer blocking(Path file, long capacity) {
+        return DirectRingBuffer.withCapacity(capacity)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .sharedMemory(file)
+                .build();
+    }
+
+    @Test
+    void testBlocking() {
+        Path file = directory.resolve("blocking");
+        // Two mappings of the same file stand for two processes
+        DirectRingBuffer writer = blocking(file, 64L);
+        DirectRingBuffer reader = blocking(file, 64L);
+        assertEquals(-1L, reader.tryTake(INT));
+
+        for (int i = 0; i < 100; i++) {
+            long offset = writer.next(LONG);
+            writer.writeLong(offset, i);
+            writer.put(offset + LONG);
+            offset = reader.take(LONG);
+            assertEquals(i, reader.readLong(offset));
+            reader.advance(offset + LONG);
+        }
+        long offset = writer.next(INT);
+        writer.writeInt(offset, 42);
+        writer.put(offset + INT);
+
+        DirectRingBuffer attached = blocking(file, 64L);
+        assertEquals(INT, attached.size());
+        offset = attached.take(INT);
+        assertEquals(42, attached.readInt(offset));
+        attached.advance(offset + INT);
+        assertTrue(reader.isEmpty());
+    }
+
+    @Test
+    void testFast() {
+        Path file = directory.resolve("fast");
+        DirectRingBuffer writer = DirectRingBuffer.withCapacity(64L)
+                .oneWriter()
+                .oneReader()
+                .withoutLocks()
+                .sharedMemory(file)
+                .build();
+        DirectRingBuffer reader = DirectRingBuffer.withCapacity(64L)
+                .oneWriter()
+                .oneReader()
+                .withoutLocks()
+                .sharedMemory(file)
+                .build();
+        assertTrue(reader.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            long offset = writer.next(INT);
+            writer.writeInt(offset, i);
+            writer.put(offset);
+            assertEquals(i, reader.readInt(reader.take(INT)));
+        }
+        assertTrue(reader.isEmpty());
+    }
+
+    @Test
+    void testMismatch() {
+        Path file = directory.resolve("mismatch");
+        blocking(file, 64L);
+        assertThrows(IllegalArgumentException.class, () -> blocking(file, 128L));
+        assertThrows(IllegalArgumentException.class, () -> DirectRingBuffer.withCapacity(64L)
+                .oneWriter()
+                .oneReader()
+                .withoutLocks()
+                .sharedMemory(file)
+                .build());
+        assertThrows(IllegalStateException.class, () -> DirectRingBuffer.withCapacity(64L)
+                .manyWriters()
+                .oneReader()
+                .blocking()
+                .sharedMemory(file)
+                .build());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BroadcastRingBufferTest {
+    @Test
+    void testEachReaderTakesEveryElement() {
+        BroadcastRingBuffer<Integer> ringBuffer = BroadcastRingBuffer.<Integer>withCapacity(4)
+                .withReaders(2)
+                .build();
+        assertEquals(4, ringBuffer.getCapacity());
+        assertEquals(2, ringBuffer.getNumReaders());
+        for (int i = 0; i < 3; i++) {
+            ringBuffer.put(i);
+        }
+        BroadcastRingBuffer.Reader<Integer> first = ringBuffer.getReader(0);
+        BroadcastRingBuffer.Reader<Integer> second = ringBuffer.getReader(1);
+        assertEquals(3, first.size());
+        assertEquals(0, first.take());
+        assertEquals(1, first.tryTake());
+        Integer[] destination = new Integer[4];
+        assertEquals(3, second.drainTo(destination, 4));
+        assertArrayEquals(new Integer[]{0, 1, 2, null}, destination);
+        assertTrue(second.isEmpty());
+        assertEquals(2, first.take());
+        assertNull(first.tryTake());
+    }
+
+    @Test
+    void testReadersRequired() {
+        assertThrows(IllegalStateException.class, () -> BroadcastRingBuffer.withCapacity(4).build());
+    }
+}
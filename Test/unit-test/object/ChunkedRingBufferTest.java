@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedRingBufferTest {
+    @Test
+    void testBurst() {
+        ChunkPool chunkPool = new ChunkPool(4, 2);
+        RingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .oneReader()
+                .unbounded(chunkPool)
+                .build();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++) {
+                assertTrue(ringBuffer.tryPut(i));
+            }
+            assertEquals(100, ringBuffer.size());
+            assertTrue(ringBuffer.contains(99));
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, ringBuffer.take());
+            }
+            assertTrue(ringBuffer.isEmpty());
+            assertNull(ringBuffer.tryTake());
+        }
+    }
+
+    @Test
+    void testChunkReuse() {
+        ChunkPool chunkPool = new ChunkPool(2, 1);
+        Object[] chunk = chunkPool.acquire();
+        chunkPool.release(chunk);
+        assertSame(chunk, chunkPool.acquire());
+        assertNotSame(chunk, chunkPool.acquire());
+    }
+
+    @Test
+    void testBatch() {
+        RingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .oneReader()
+                .unbounded()
+                .build();
+        Integer[] elements = new Integer[10];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+        }
+        ringBuffer.putAll(elements, 0, elements.length);
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", ringBuffer.toString());
+
+        ringBuffer.takeBatch(3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, ringBuffer.takePlain());
+        }
+        Integer[] destination = new Integer[3];
+        assertEquals(3, ringBuffer.drainTo(destination, 3));
+        assertArrayEquals(new Integer[]{3, 4, 5}, destination);
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, ringBuffer.drain(drained::add, 2));
+        assertEquals(List.of(6, 7), drained);
+        ringBuffer.put(10);
+        assertEquals(10, ringBuffer.takeLast());
+        assertTrue(ringBuffer.isEmpty());
+    }
+}
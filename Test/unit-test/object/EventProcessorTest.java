@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+import org.ringbuffer.wait.YieldBusyWaitStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventProcessorTest {
+    private final RingBuffer<Integer> ringBuffer =
+            RingBuffer.<Integer>withCapacity(16)
+                    .oneWriter()
+                    .oneReader()
+                    .blocking()
+                    .build();
+
+    @Test
+    void testEvents() {
+        List<Integer> elements = new ArrayList<>();
+        List<Long> sequences = new ArrayList<>();
+        List<Boolean> endOfBatches = new ArrayList<>();
+        EventProcessor<Integer> processor = EventProcessor.processing(ringBuffer)
+                .handledBy((element, sequence, endOfBatch) -> {
+                    synchronized (elements) {
+                        elements.add(element);
+                        sequences.add(sequence);
+                        endOfBatches.add(endOfBatch);
+                    }
+                })
+                .maxBatchSize(4)
+                .waitingWith(YieldBusyWaitStrategy.getDefault())
+                .build();
+
+        ringBuffer.putAll(new Integer[]{0, 1, 2, 3, 4, 5}, 0, 6);
+        processor.start();
+        for (int i = 6; i < 100; i++) {
+            ringBuffer.put(i);
+        }
+        while (true) {
+            synchronized (elements) {
+                if (elements.size() == 100) {
+                    break;
+                }
+            }
+            Thread.yield();
+        }
+        processor.halt();
+        assertFalse(processor.getThread().isAlive());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, elements.get(i));
+            assertEquals(i, sequences.get(i));
+        }
+        // The first batch is full and more elements are available, so it does not end the batch
+        assertEquals(List.of(false, false, false, false), endOfBatches.subList(0, 4));
+        assertTrue(endOfBatches.get(99));
+    }
+
+    @Test
+    void testPrefilled() {
+        PrefilledRingBuffer2<int[]> ringBuffer = PrefilledRingBuffer.<int[]>withCapacity(4)
+                .fillWith(() -> new int[2])
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+        List<Integer> elements = new ArrayList<>();
+        EventProcessor<int[]> processor = EventProcessor.processing(ringBuffer)
+                .handledBy((element, sequence, endOfBatch) -> {
+                    synchronized (elements) {
+                        // A torn event is recorded as -1
+                        elements.add(element[0] == element[1] ? element[0] : -1);
+                    }
+                })
+                .waitingWith(YieldBusyWaitStrategy.getDefault())
+                .build();
+        processor.start();
+        for (int i = 0; i < 10_000; i++) {
+            int key = ringBuffer.nextKey();
+            int putKey = ringBuffer.nextPutKey(key);
+            int[] element = ringBuffer.next(key, putKey);
+            element[0] = i;
+            element[1] = i;
+            ringBuffer.put(putKey);
+        }
+        while (true) {
+            synchronized (elements) {
+                if (elements.size() == 10_000) {
+                    break;
+                }
+            }
+            Thread.yield();
+        }
+        processor.halt();
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, elements.get(i));
+        }
+    }
+
+    @Test
+    void testHaltWhileWaiting() {
+        EventProcessor<Integer> processor = EventProcessor.processing(ringBuffer)
+                .handledBy((element, sequence, endOfBatch) -> fail())
+                .build();
+        processor.start();
+        processor.halt();
+        assertFalse(processor.getThread().isAlive());
+    }
+
+    @Test
+    void testHandlerNotSet() {
+        assertThrows(IllegalStateException.class, EventProcessor.processing(ringBuffer)::build);
+    }
+}
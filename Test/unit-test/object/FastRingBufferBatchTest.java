@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastRingBufferBatchTest {
+    @Test
+    void testOneToOne() {
+        test(RingBuffer.<Integer>withCapacity(8)
+                .oneWriter()
+                .oneReader()
+                .withoutLocks()
+                .build());
+    }
+
+    @Test
+    void testManyToMany() {
+        test(RingBuffer.<Integer>withCapacity(8)
+                .manyWriters()
+                .manyReaders()
+                .withoutLocks()
+                .build());
+    }
+
+    @Test
+    void testBlocking() {
+        test(RingBuffer.<Integer>withCapacity(8)
+                .manyWriters()
+                .oneReader()
+                .blockingWithoutLocks()
+                .build());
+        test(RingBuffer.<Integer>withCapacity(8)
+                .oneWriter()
+                .manyReaders()
+                .blockingWithoutLocks()
+                .build());
+    }
+
+    private static void test(RingBuffer<Integer> ringBuffer) {
+        for (int round = 0; round < 3; round++) {
+            assertTrue(ringBuffer.isEmpty());
+            assertEquals(0, ringBuffer.size());
+            for (int i = 0; i < 5; i++) {
+                ringBuffer.put(i);
+            }
+            assertFalse(ringBuffer.isEmpty());
+            assertEquals(5, ringBuffer.size());
+            ringBuffer.takeBatch(3);
+            for (int i = 0; i < 3; i++) {
+                assertEquals(i, ringBuffer.takePlain());
+            }
+            assertEquals(2, ringBuffer.size());
+            assertEquals(3, ringBuffer.take());
+            assertEquals(4, ringBuffer.take());
+        }
+    }
+
+    @Test
+    void testPrefilled() {
+        PrefilledRingBuffer<int[]> ringBuffer = PrefilledRingBuffer.<int[]>withCapacity(8)
+                .fillWith(() -> new int[1])
+                .manyWriters()
+                .manyReaders()
+                .withoutLocks()
+                .build();
+        for (int round = 0; round < 3; round++) {
+            assertTrue(ringBuffer.isEmpty());
+            for (int i = 0; i < 5; i++) {
+                int key = ringBuffer.nextKey();
+                ringBuffer.next(key)[0] = i;
+                ringBuffer.put(key);
+            }
+            assertEquals(5, ringBuffer.size());
+            synchronized (ringBuffer.getReadMonitor()) {
+                ringBuffer.takeBatch(5);
+                for (int i = 0; i < 5; i++) {
+                    assertEquals(i, ringBuffer.takePlain()[0]);
+                }
+            }
+            assertEquals(0, ringBuffer.size());
+        }
+    }
+}
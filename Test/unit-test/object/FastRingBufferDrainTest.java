@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastRingBufferDrainTest {
+    @Test
+    void testOneToOne() {
+        test(RingBuffer.<Integer>withCapacity(8)
+                .oneWriter()
+                .oneReader()
+                .withoutLocks()
+                .build());
+    }
+
+    @Test
+    void testManyToMany() {
+        test(RingBuffer.<Integer>withCapacity(8)
+                .manyWriters()
+                .manyReaders()
+                .withoutLocks()
+                .build());
+    }
+
+    @Test
+    void testBlocking() {
+        test(RingBuffer.<Integer>withCapacity(8)
+                .manyWriters()
+                .manyReaders()
+                .blockingWithoutLocks()
+                .build());
+    }
+
+    private static void test(RingBuffer<Integer> ringBuffer) {
+        Integer[] elements = {0, 1, 2, 3, 4, 5};
+        Integer[] destination = new Integer[8];
+        List<Integer> drained = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            ringBuffer.putAll(elements, 1, 5);
+            assertEquals(5, ringBuffer.size());
+            assertEquals(3, ringBuffer.drainTo(destination, 3));
+            assertArrayEquals(new Integer[]{1, 2, 3}, Arrays.copyOf(destination, 3));
+            drained.clear();
+            assertEquals(2, ringBuffer.drain(drained::add, 10));
+            assertEquals(List.of(4, 5), drained);
+            assertEquals(0, ringBuffer.drainTo(destination, 8));
+            assertTrue(ringBuffer.isEmpty());
+        }
+    }
+
+    @Test
+    void testPrefilled() {
+        PrefilledRingBuffer<int[]> ringBuffer = PrefilledRingBuffer.<int[]>withCapacity(8)
+                .fillWith(() -> new int[1])
+                .oneWriter()
+                .oneReader()
+                .withoutLocks()
+                .build();
+        for (int i = 0; i < 3; i++) {
+            int key = ringBuffer.nextKey();
+            ringBuffer.next(key)[0] = i;
+            ringBuffer.put(key);
+        }
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, ringBuffer.drain(element -> drained.add(element[0]), 10));
+        assertEquals(List.of(0, 1, 2), drained);
+        assertEquals(0, ringBuffer.drainTo(new int[8][], 8));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LanedRingBufferTest {
+    private static RingBuffer<Integer> ringBuffer() throws InterruptedException {
+        RingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(8)
+                .oneReader()
+                .manyWriters()
+                .blocking()
+                .withWriterLanes()
+                .build();
+        for (int i = 0; i < 4; i++) {
+            ringBuffer.put(i);
+        }
+        Thread writer = new Thread(() -> {
+            for (int i = 10; i < 14; i++) {
+                ringBuffer.put(i);
+            }
+        });
+        writer.start();
+        writer.join();
+        return ringBuffer;
+    }
+
+    @Test
+    void testDrainToVisitsAllLanes() throws InterruptedException {
+        RingBuffer<Integer> ringBuffer = ringBuffer();
+        Integer[] destination = new Integer[8];
+        assertEquals(2, ringBuffer.drainTo(destination, 2));
+        assertEquals(List.of(0, 1), Arrays.asList(destination).subList(0, 2));
+        assertEquals(2, ringBuffer.drainTo(destination, 2));
+        assertEquals(List.of(10, 11), Arrays.asList(destination).subList(0, 2));
+        assertEquals(4, ringBuffer.drainTo(destination, 8));
+        assertEquals(List.of(2, 3, 12, 13), Arrays.asList(destination).subList(0, 4));
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testDrainVisitsAllLanes() throws InterruptedException {
+        RingBuffer<Integer> ringBuffer = ringBuffer();
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, ringBuffer.drain(drained::add, 2));
+        assertEquals(2, ringBuffer.drain(drained::add, 2));
+        assertEquals(List.of(0, 1, 10, 11), drained);
+        assertEquals(4, ringBuffer.drain(drained::add, 8));
+        assertEquals(List.of(0, 1, 10, 11, 2, 3, 12, 13), drained);
+    }
+}
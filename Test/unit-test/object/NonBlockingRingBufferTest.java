@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NonBlockingRingBufferTest {
+    @Test
+    void testBlocking() {
+        test(RingBuffer.<Integer>withCapacity(4)
+                .manyWriters()
+                .manyReaders()
+                .blocking()
+                .build(), 3);
+    }
+
+    @Test
+    void testBlockingWithoutLocks() {
+        test(RingBuffer.<Integer>withCapacity(4)
+                .manyWriters()
+                .manyReaders()
+                .blockingWithoutLocks()
+                .build(), 4);
+    }
+
+    @Test
+    void testDiscarding() {
+        test(RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .oneReader()
+                .discarding()
+                .build(), 3);
+    }
+
+    private static void test(RingBuffer<Integer> ringBuffer, int maxSize) {
+        assertNull(ringBuffer.tryTake());
+        for (int i = 0; i < maxSize; i++) {
+            assertTrue(ringBuffer.tryPut(i));
+        }
+        assertFalse(ringBuffer.tryPut(maxSize));
+        assertFalse(ringBuffer.offer(maxSize, 1L, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < maxSize; i++) {
+            assertEquals(i, ringBuffer.peek());
+            assertEquals(i, ringBuffer.tryTake());
+        }
+        assertNull(ringBuffer.peek());
+        assertNull(ringBuffer.tryTake());
+        assertNull(ringBuffer.poll(1L, TimeUnit.MILLISECONDS));
+        assertTrue(ringBuffer.offer(maxSize, 1L, TimeUnit.MILLISECONDS));
+        assertEquals(maxSize, ringBuffer.poll(1L, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testWithoutLocks() {
+        RingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(4)
+                .manyWriters()
+                .manyReaders()
+                .withoutLocks()
+                .build();
+        assertNull(ringBuffer.peek());
+        assertTrue(ringBuffer.tryPut(0));
+        assertTrue(ringBuffer.tryPut(1));
+        assertEquals(0, ringBuffer.peek());
+        assertEquals(0, ringBuffer.tryTake());
+        assertEquals(1, ringBuffer.take());
+        assertNull(ringBuffer.tryTake());
+    }
+
+    @Test
+    void testPrefilled() {
+        PrefilledRingBuffer<int[]> ringBuffer = PrefilledRingBuffer.<int[]>withCapacity(4)
+                .fillWith(() -> new int[1])
+                .oneWriter()
+                .manyReaders()
+                .withoutLocks()
+                .build();
+        assertNull(ringBuffer.tryTake());
+        int key = ringBuffer.nextKey();
+        ringBuffer.next(key)[0] = 1;
+        ringBuffer.put(key);
+        assertEquals(1, ringBuffer.tryTake()[0]);
+        assertNull(ringBuffer.tryTake());
+    }
+}
@@ -59,6 +59,29 @@ class ObjectRingBufferBuilderTest extends RingBufferBuilderTest {
         assertThrows(IllegalStateException.class, builder::build);
     }
 
+    @Test
+    void testWriterLanesWithManyReaders() {
+        builder.manyWriters().manyReaders().withWriterLanes();
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    void testUnboundedWithManyReaders() {
+        builder.oneWriter().manyReaders().unbounded();
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    void testUnboundedBlocking() {
+        builder.oneWriter().oneReader().blocking().unbounded();
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    void testUnboundedChunkSizeMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> builder.unbounded(new ChunkPool(4, 1)));
+    }
+
     @Test
     void testFillerNotSet() {
         ObjectRingBufferBuilder<?> builder = new PrefilledRingBufferBuilder<>(2);
@@ -101,6 +124,19 @@ class ObjectRingBufferBuilderTest extends RingBufferBuilderTest {
         expectClass(FastAtomicWriteRingBuffer.class, FastManyWritersContentionTest.Holder.RING_BUFFER);
         expectClass(FastVolatileRingBuffer.class, FastOneToOneContentionTest.Holder.RING_BUFFER);
 
+        expectClass(FastConcurrentBlockingRingBuffer.class, FastManyToManyBlockingContentionTest.Holder.RING_BUFFER, FastManyToManyBlockingContentionPerfTest.RING_BUFFER);
+        expectClass(FastAtomicReadBlockingRingBuffer.class, FastManyReadersBlockingContentionTest.Holder.RING_BUFFER, FastManyReadersBlockingContentionPerfTest.RING_BUFFER);
+        expectClass(FastAtomicWriteBlockingRingBuffer.class, FastManyWritersBlockingContentionTest.Holder.RING_BUFFER, FastManyWritersBlockingContentionPerfTest.RING_BUFFER);
+        expectClass(FastVolatileBlockingRingBuffer.class, FastOneToOneBlockingContentionTest.Holder.RING_BUFFER, FastOneToOneBlockingContentionPerfTest.RING_BUFFER);
+
+        expectClass(LanedRingBuffer.class, ManyWritersLanedBlockingContentionTest.Holder.RING_BUFFER, ManyWritersLanedBlockingContentionPerfTest.RING_BUFFER);
+        expectClass(ChunkedRingBuffer.class, OneToOneUnboundedContentionTest.Holder.RING_BUFFER);
+
+        expectClass(FastConcurrentOverwritingRingBuffer.class, FastManyToManyOverwritingContentionTest.Holder.RING_BUFFER);
+        expectClass(FastAtomicReadOverwritingRingBuffer.class, FastManyReadersOverwritingContentionTest.Holder.RING_BUFFER);
+        expectClass(FastAtomicWriteOverwritingRingBuffer.class, FastManyWritersOverwritingContentionTest.Holder.RING_BUFFER);
+        expectClass(FastVolatileOverwritingRingBuffer.class, FastOneToOneOverwritingContentionTest.Holder.RING_BUFFER);
+
         expectClass(FastConcurrentPrefilledRingBuffer.class, FastPrefilledManyToManyContentionTest.RING_BUFFER);
         expectClass(FastAtomicReadPrefilledRingBuffer.class, FastPrefilledManyReadersContentionTest.RING_BUFFER);
         expectClass(FastAtomicWritePrefilledRingBuffer.class, FastPrefilledManyWritersContentionTest.RING_BUFFER);
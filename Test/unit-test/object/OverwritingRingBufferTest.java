@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OverwritingRingBufferTest {
+    @Test
+    void testOneToOne() {
+        test(RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .oneReader()
+                .overwritingWithoutLocks()
+                .build());
+    }
+
+    @Test
+    void testManyToMany() {
+        test(RingBuffer.<Integer>withCapacity(4)
+                .manyWriters()
+                .manyReaders()
+                .overwritingWithoutLocks()
+                .build());
+    }
+
+    private static void test(RingBuffer<Integer> ringBuffer) {
+        assertTrue(ringBuffer.isEmpty());
+        ringBuffer.put(0);
+        ringBuffer.put(1);
+        assertEquals(2, ringBuffer.size());
+        assertEquals(0, ringBuffer.take());
+        for (int i = 2; i < 10; i++) {
+            ringBuffer.put(i);
+        }
+        assertEquals(4, ringBuffer.size());
+        for (int i = 6; i < 10; i++) {
+            assertEquals(i, ringBuffer.take());
+        }
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testCapacityNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> RingBuffer.<Integer>withCapacity(5).overwritingWithoutLocks());
+    }
+}
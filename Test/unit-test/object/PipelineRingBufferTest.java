@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineRingBufferTest {
+    @Test
+    void testStagesFollowDependencies() {
+        PipelineRingBuffer<AtomicInteger> ringBuffer = PipelineRingBuffer.<AtomicInteger>withCapacity(4)
+                .fillWith(AtomicInteger::new)
+                .build();
+        PipelineRingBuffer.Stage<AtomicInteger> first = ringBuffer.createStage();
+        PipelineRingBuffer.Stage<AtomicInteger> second = ringBuffer.createStage(first);
+        PipelineRingBuffer.Stage<AtomicInteger> last = ringBuffer.createStage(List.of(first, second));
+        for (int i = 1; i <= 3; i++) {
+            int key = ringBuffer.nextKey();
+            ringBuffer.next(key).set(i);
+            ringBuffer.put(key);
+        }
+        assertEquals(0, second.drain(element -> fail(), 3));
+        assertEquals(3, first.drain(element -> element.set(element.get() * 10), 3));
+        assertEquals(0, last.drain(element -> fail(), 3));
+        assertEquals(2, second.drain(AtomicInteger::incrementAndGet, 2));
+        List<Integer> taken = new ArrayList<>();
+        assertEquals(2, last.drain(element -> taken.add(element.get()), 3));
+        assertEquals(List.of(11, 21), taken);
+    }
+
+    @Test
+    void testForeignDependency() {
+        PipelineRingBuffer<Object> ringBuffer = PipelineRingBuffer.withCapacity(4)
+                .fillWith(Object::new)
+                .build();
+        PipelineRingBuffer.Stage<Object> foreign = PipelineRingBuffer.withCapacity(4)
+                .fillWith(Object::new)
+                .build()
+                .createStage();
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.createStage(foreign));
+    }
+
+    @Test
+    void testFillerRequired() {
+        assertThrows(IllegalStateException.class, () -> PipelineRingBuffer.withCapacity(4).build());
+    }
+}
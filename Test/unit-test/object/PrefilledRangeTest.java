@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefilledRangeTest {
+    @Test
+    void testClearing() {
+        PrefilledRingBuffer<int[]> ringBuffer = PrefilledRingBuffer.<int[]>withCapacity(8)
+                .fillWith(() -> new int[1])
+                .oneWriter()
+                .oneReader()
+                .build();
+        for (int round = 0; round < 4; round++) {
+            int firstKey = ringBuffer.nextKeys(5);
+            for (int i = 0; i < 5; i++) {
+                ringBuffer.nextInRange(firstKey, i)[0] = round * 5 + i;
+            }
+            ringBuffer.putRange(firstKey, 5);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(round * 5 + i, ringBuffer.take()[0]);
+            }
+            assertTrue(ringBuffer.isEmpty());
+        }
+    }
+
+    @Test
+    void testWithoutLocks() {
+        PrefilledRingBuffer<int[]> ringBuffer = PrefilledRingBuffer.<int[]>withCapacity(8)
+                .fillWith(() -> new int[1])
+                .manyWriters()
+                .manyReaders()
+                .withoutLocks()
+                .build();
+        for (int round = 0; round < 4; round++) {
+            int firstKey = ringBuffer.nextKeys(5);
+            for (int i = 0; i < 5; i++) {
+                ringBuffer.nextInRange(firstKey, i)[0] = round * 5 + i;
+            }
+            ringBuffer.putRange(firstKey, 5);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(round * 5 + i, ringBuffer.take()[0]);
+            }
+        }
+    }
+
+    @Test
+    void testBlocking() {
+        PrefilledRingBuffer2<int[]> ringBuffer = PrefilledRingBuffer.<int[]>withCapacity(8)
+                .fillWith(() -> new int[1])
+                .blocking()
+                .manyWriters()
+                .oneReader()
+                .build();
+        for (int round = 0; round < 4; round++) {
+            synchronized (ringBuffer) {
+                int firstKey = ringBuffer.nextKeys(5);
+                for (int i = 0; i < 5; i++) {
+                    ringBuffer.nextInRange(firstKey, i)[0] = round * 5 + i;
+                }
+                ringBuffer.putRange(firstKey, 5);
+            }
+            assertEquals(5, ringBuffer.size());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(round * 5 + i, ringBuffer.take()[0]);
+            }
+        }
+    }
+
+    @Test
+    void testDiscarding() {
+        PrefilledRingBuffer2<int[]> ringBuffer = PrefilledRingBuffer.<int[]>withCapacity(8)
+                .fillWith(() -> new int[1])
+                .discarding()
+                .oneWriter()
+                .oneReader()
+                .build();
+        int firstKey = ringBuffer.nextKeys(5);
+        assertNotEquals(-1, firstKey);
+        ringBuffer.putRange(firstKey, 5);
+        assertEquals(-1, ringBuffer.nextKeys(3));
+        assertNotEquals(-1, ringBuffer.nextKeys(2));
+        ringBuffer.take();
+        assertNotEquals(-1, ringBuffer.nextKeys(3));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+import org.ringbuffer.wait.HintBusyWaitStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityRingBufferTest {
+    private static RingBuffer<String> newLane() {
+        return RingBuffer.<String>withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+    }
+
+    @Test
+    void testStrict() {
+        PriorityRingBuffer<String> ringBuffer = new PriorityRingBuffer<>(newLane(), newLane());
+        assertNull(ringBuffer.tryTake());
+        ringBuffer.put(1, "data1");
+        ringBuffer.put(1, "data2");
+        ringBuffer.put(0, "halt");
+        assertEquals(3, ringBuffer.size());
+        assertEquals("halt", ringBuffer.take());
+        assertEquals("data1", ringBuffer.take());
+        ringBuffer.getLane(0).put("cancel");
+        assertEquals("cancel", ringBuffer.take());
+        assertEquals("data2", ringBuffer.take());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testStrictManyReaders() {
+        RingBuffer<String> highLane = RingBuffer.<String>withCapacity(16)
+                .manyWriters()
+                .manyReaders()
+                .blocking()
+                .build();
+        PriorityRingBuffer<String> ringBuffer = new PriorityRingBuffer<>(highLane, newLane());
+        for (int i = 0; i < 10; i++) {
+            ringBuffer.put(1, "data" + i);
+        }
+        assertEquals("data0", ringBuffer.take());
+        ringBuffer.put(0, "cancel");
+        assertEquals("cancel", ringBuffer.take());
+        assertEquals("data1", ringBuffer.take());
+    }
+
+    @Test
+    void testWeighted() {
+        PriorityRingBuffer<String> ringBuffer = new PriorityRingBuffer<>(new int[]{2, 1}, HintBusyWaitStrategy.getDefault(), newLane(), newLane());
+        for (int i = 0; i < 4; i++) {
+            ringBuffer.put(0, "high" + i);
+            ringBuffer.put(1, "low" + i);
+        }
+        List<String> taken = new ArrayList<>();
+        assertEquals(8, ringBuffer.drain(taken::add, 8));
+        assertEquals(List.of("high0", "high1", "low0", "high2", "high3", "low1", "low2", "low3"), taken);
+        assertNull(ringBuffer.tryTake());
+    }
+
+    @Test
+    void testInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new PriorityRingBuffer<>(new int[]{1}, HintBusyWaitStrategy.getDefault(), newLane(), newLane()));
+        assertThrows(IllegalArgumentException.class, () -> new PriorityRingBuffer<>(new int[]{1, 0}, HintBusyWaitStrategy.getDefault(), newLane(), newLane()));
+    }
+}
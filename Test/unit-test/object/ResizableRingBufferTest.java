@@ -0,0 +1,208 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResizableRingBufferTest {
+    @Test
+    void testGrow() {
+        ResizableRingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .resizable()
+                .build();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(ringBuffer.tryPut(i));
+        }
+        assertFalse(ringBuffer.tryPut(3));
+
+        ringBuffer.resize(16);
+        assertEquals(16, ringBuffer.getCapacity());
+        for (int i = 3; i < 10; i++) {
+            assertTrue(ringBuffer.tryPut(i));
+        }
+        assertEquals(10, ringBuffer.size());
+        assertTrue(ringBuffer.contains(9));
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", ringBuffer.toString());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, ringBuffer.take());
+        }
+        assertTrue(ringBuffer.isEmpty());
+        assertNull(ringBuffer.tryTake());
+    }
+
+    @Test
+    void testShrinkTwice() {
+        ResizableRingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(16)
+                .manyWriters()
+                .manyReaders()
+                .resizable()
+                .build();
+        ringBuffer.put(0);
+        ringBuffer.resize(8);
+        ringBuffer.put(1);
+        ringBuffer.resize(4);
+        ringBuffer.put(2);
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, ringBuffer.drain(drained::add, 5));
+        assertEquals(List.of(0, 1, 2), drained);
+
+        ringBuffer.put(3);
+        ringBuffer.resize(2);
+        ringBuffer.put(4);
+        Integer[] destination = new Integer[2];
+        assertEquals(2, ringBuffer.drainTo(destination, 2));
+        assertArrayEquals(new Integer[]{3, 4}, destination);
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        ResizableRingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .withoutLocks()
+                .resizable()
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.resize(12));
+        assertEquals(16, ringBuffer.getCapacity());
+    }
+
+    @Test
+    void testConcurrentWritersAndResize() throws InterruptedException {
+        testConcurrentWritersAndResize(RingBuffer.<Integer>withCapacity(4)
+                .manyWriters()
+                .oneReader()
+                .blocking()
+                .resizable()
+                .build());
+    }
+
+    @Test
+    void testLockFreeWriters() {
+        assertThrows(IllegalStateException.class, () -> RingBuffer.<Integer>withCapacity(4)
+                .manyWriters()
+                .oneReader()
+                .blockingWithoutLocks()
+                .resizable()
+                .build());
+        assertThrows(IllegalStateException.class, () -> RingBuffer.<Integer>withCapacity(4)
+                .manyWriters()
+                .oneReader()
+                .withWriterLanes()
+                .resizable()
+                .build());
+    }
+
+    @Test
+    void testResizeFromReader() throws InterruptedException {
+        ResizableRingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .oneReader()
+                .blockingWithoutLocks()
+                .resizable()
+                .build();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                while (!ringBuffer.tryPut(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        writer.start();
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 100 == 0) {
+                ringBuffer.resize(i % 200 == 0 ? 8 : 4);
+            }
+            Integer element;
+            while ((element = ringBuffer.tryTake()) == null) {
+                Thread.yield();
+            }
+            assertEquals(i, element);
+        }
+        writer.join();
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testTakeBatch() {
+        ResizableRingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .oneReader()
+                .resizable()
+                .build();
+        ringBuffer.put(0);
+        ringBuffer.put(1);
+        ringBuffer.resize(8);
+        ringBuffer.put(2);
+        ringBuffer.takeBatch(3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, ringBuffer.takePlain());
+        }
+
+        ringBuffer.put(3);
+        ringBuffer.resize(4);
+        ringBuffer.put(4);
+        assertEquals(4, ringBuffer.takeLast());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    private static void testConcurrentWritersAndResize(ResizableRingBuffer<Integer> ringBuffer) throws InterruptedException {
+        int numWriters = 2;
+        int numIterations = 10_000;
+        Thread[] writers = new Thread[numWriters];
+        for (int i = 0; i < numWriters; i++) {
+            int base = i * numIterations;
+            writers[i] = new Thread(() -> {
+                for (int j = 0; j < numIterations; j++) {
+                    while (!ringBuffer.tryPut(base + j)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            writers[i].start();
+        }
+        Thread resizer = new Thread(() -> {
+            for (int i = 0; i < 100; i++) {
+                ringBuffer.resize(i % 2 == 0 ? 8 : 4);
+                Thread.yield();
+            }
+        });
+        resizer.start();
+        int[] next = new int[numWriters];
+        for (int i = 0; i < numWriters; i++) {
+            next[i] = i * numIterations;
+        }
+        for (int i = 0; i < numWriters * numIterations; i++) {
+            Integer element;
+            while ((element = ringBuffer.tryTake()) == null) {
+                Thread.yield();
+            }
+            assertEquals(next[element / numIterations]++, element);
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        resizer.join();
+        assertTrue(ringBuffer.isEmpty());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+import org.ringbuffer.wait.YieldBusyWaitStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferBlockingQueueTest {
+    @Test
+    void testQueue() throws InterruptedException {
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build());
+        assertNull(queue.poll());
+        assertNull(queue.poll(1L, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < 3; i++) {
+            queue.put(i);
+        }
+        assertFalse(queue.offer(3));
+        assertFalse(queue.offer(3, 1L, TimeUnit.MILLISECONDS));
+        assertEquals(3, queue.size());
+        assertTrue(queue.contains(1));
+        assertEquals(List.of(0, 1, 2), new ArrayList<>(queue));
+        assertEquals(0, queue.take());
+
+        List<Integer> elements = new ArrayList<>();
+        assertEquals(1, queue.drainTo(elements, 1));
+        assertEquals(1, queue.drainTo(elements));
+        assertEquals(List.of(1, 2), elements);
+        assertTrue(queue.isEmpty());
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+
+        assertNull(queue.peek());
+        queue.put(3);
+        assertEquals(3, queue.peek());
+        assertThrows(UnsupportedOperationException.class, () -> queue.remove(3));
+        assertEquals(3, queue.poll());
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, queue::take);
+    }
+
+    @Test
+    void testDrainToLockFree() {
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(RingBuffer.<Integer>withCapacity(4)
+                .manyWriters()
+                .manyReaders()
+                .withoutLocks()
+                .blocking()
+                .build());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer(i));
+        }
+        List<Integer> elements = new ArrayList<>();
+        assertEquals(2, queue.drainTo(elements, 2));
+        assertEquals(1, queue.drainTo(elements));
+        assertEquals(List.of(0, 1, 2), elements);
+    }
+
+    @Test
+    void testThreadPoolExecutor() throws InterruptedException {
+        RingBufferBlockingQueue<Runnable> queue = new RingBufferBlockingQueue<>(RingBuffer.<Runnable>withCapacity(1024)
+                .manyWriters()
+                .manyReaders()
+                .blocking()
+                .build(), YieldBusyWaitStrategy.DEFAULT_INSTANCE, YieldBusyWaitStrategy.DEFAULT_INSTANCE);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, queue);
+        AtomicInteger count = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(count::incrementAndGet);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+        assertEquals(1000, count.get());
+    }
+
+    @Test
+    void testThreadPoolExecutorRemove() throws InterruptedException {
+        RingBufferBlockingQueue<Runnable> queue = new RingBufferBlockingQueue<>(RingBuffer.<Runnable>withCapacity(16)
+                .manyWriters()
+                .manyReaders()
+                .blocking()
+                .build(), YieldBusyWaitStrategy.DEFAULT_INSTANCE, YieldBusyWaitStrategy.DEFAULT_INSTANCE);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        AtomicInteger count = new AtomicInteger();
+        Runnable removed = count::incrementAndGet;
+        executor.execute(count::incrementAndGet);
+        executor.execute(removed);
+        executor.execute(count::incrementAndGet);
+        assertTrue(executor.remove(removed));
+        assertFalse(executor.remove(removed));
+        assertEquals(2, queue.size());
+        release.countDown();
+        executor.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(count::incrementAndGet));
+        assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+        assertEquals(2, count.get());
+    }
+}
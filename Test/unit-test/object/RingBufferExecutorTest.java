@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+import org.ringbuffer.wait.ParkingBusyWaitStrategy;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferExecutorTest {
+    @Test
+    void testExecute() throws Exception {
+        RingBufferExecutor executor = RingBufferExecutor.withCapacity(64)
+                .withWorkers(2)
+                .waitingWith(ParkingBusyWaitStrategy::new)
+                .build();
+        AtomicInteger count = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(count::incrementAndGet);
+        }
+        assertEquals(5, executor.submit(() -> 5).get(10L, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(count::incrementAndGet));
+        assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+        assertTrue(executor.isTerminated());
+        assertEquals(1000, count.get());
+    }
+
+    @Test
+    void testParkedWorkerWokenUp() throws Exception {
+        RingBufferExecutor executor = RingBufferExecutor.withCapacity(8)
+                .waitingWith(() -> new ParkingBusyWaitStrategy(0, TimeUnit.MINUTES.toNanos(1L)))
+                .build();
+        Thread.sleep(100L);
+        assertEquals(5, executor.submit(() -> 5).get(10L, TimeUnit.SECONDS));
+        Thread.sleep(100L);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testExecuteFromTaskWhenFull() throws Exception {
+        RingBufferExecutor executor = RingBufferExecutor.withCapacity(2).build();
+        AtomicInteger count = new AtomicInteger();
+        executor.submit(() -> {
+            for (int i = 0; i < 3; i++) {
+                executor.execute(count::incrementAndGet);
+            }
+        }).get(10L, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+        assertEquals(3, count.get());
+    }
+
+    @Test
+    void testShutdownNow() throws InterruptedException {
+        RingBufferExecutor executor = RingBufferExecutor.withCapacity(8).build();
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        started.await();
+        Runnable pending = () -> {
+        };
+        executor.execute(pending);
+        executor.execute(pending);
+        List<Runnable> commands = executor.shutdownNow();
+        assertEquals(List.of(pending, pending), commands);
+        assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+        assertTrue(executor.shutdownNow().isEmpty());
+    }
+
+    @Test
+    void testShutdownNowFromTask() throws Exception {
+        RingBufferExecutor executor = RingBufferExecutor.withCapacity(8).build();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<Runnable>> commands = executor.submit(() -> {
+            release.await();
+            return executor.shutdownNow();
+        });
+        Runnable pending = () -> {
+        };
+        executor.execute(pending);
+        release.countDown();
+        assertEquals(List.of(pending), commands.get(10L, TimeUnit.SECONDS));
+        assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testShutdownNowManyWorkers() throws InterruptedException {
+        RingBufferExecutor executor = RingBufferExecutor.withCapacity(8)
+                .withWorkers(2)
+                .build();
+        CountDownLatch started = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException ignored) {
+                }
+            });
+        }
+        started.await();
+        Runnable pending = () -> {
+        };
+        executor.execute(pending);
+        executor.execute(pending);
+        List<Runnable> commands = executor.shutdownNow();
+        assertEquals(List.of(pending, pending), commands);
+        assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+        assertTrue(executor.shutdownNow().isEmpty());
+    }
+}
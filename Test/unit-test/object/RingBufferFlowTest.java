@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+import org.ringbuffer.wait.YieldBusyWaitStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferFlowTest {
+    private static final int NUM_ELEMENTS = 10_000;
+
+    @Test
+    void testPublisher() throws InterruptedException {
+        RingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .blocking(YieldBusyWaitStrategy.getDefault())
+                .build();
+        RingBufferPublisher<Integer> publisher = new RingBufferPublisher<>(ringBuffer, YieldBusyWaitStrategy.getDefault());
+        List<Integer> elements = new ArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        publisher.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1L);
+            }
+
+            @Override
+            public void onNext(Integer element) {
+                elements.add(element);
+                subscription.request(1L);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            ringBuffer.put(i);
+        }
+        publisher.complete();
+        assertTrue(completed.await(10L, TimeUnit.SECONDS));
+        assertEquals(NUM_ELEMENTS, elements.size());
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            assertEquals(i, elements.get(i));
+        }
+    }
+
+    @Test
+    void testSubscriber() throws InterruptedException {
+        PrefilledRingBuffer2<int[]> ringBuffer = PrefilledRingBuffer.<int[]>withCapacity(16)
+                .fillWith(() -> new int[1])
+                .blocking()
+                .oneWriter()
+                .oneReader()
+                .build();
+        RingBufferSubscriber<Integer> subscriber = RingBufferSubscriber.filling(ringBuffer,
+                (Integer element, int[] slot) -> slot[0] = element);
+        Thread submitter = new Thread(() -> {
+            try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+                publisher.subscribe(subscriber);
+                for (int i = 0; i < NUM_ELEMENTS; i++) {
+                    publisher.submit(i);
+                }
+            }
+        });
+        submitter.start();
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            while (ringBuffer.isEmpty()) {
+                Thread.yield();
+            }
+            assertEquals(i, ringBuffer.take()[0]);
+            subscriber.onTaken(1);
+        }
+        while (!subscriber.isCompleted()) {
+            Thread.yield();
+        }
+        submitter.join();
+        assertNull(subscriber.getError());
+        assertTrue(ringBuffer.isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.object;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferRemoveTest {
+    @Test
+    void testConcurrent() {
+        test(RingBuffer.<Integer>withCapacity(4)
+                .manyWriters()
+                .manyReaders()
+                .blocking()
+                .withGC()
+                .build());
+    }
+
+    @Test
+    void testAtomicRead() {
+        test(RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .manyReaders()
+                .discarding()
+                .build());
+    }
+
+    private static void test(RingBuffer<Integer> ringBuffer) {
+        assertFalse(ringBuffer.remove(0));
+        ringBuffer.put(0);
+        ringBuffer.put(1);
+        assertEquals(0, ringBuffer.take());
+        assertEquals(1, ringBuffer.take());
+        // The elements wrap around the end of the buffer
+        ringBuffer.put(2);
+        ringBuffer.put(3);
+        ringBuffer.put(4);
+        assertFalse(ringBuffer.remove(5));
+        assertTrue(ringBuffer.remove(3));
+        assertEquals(2, ringBuffer.size());
+        assertEquals(2, ringBuffer.peek());
+        // The slot freed by the removal can be put into
+        assertTrue(ringBuffer.tryPut(5));
+        assertFalse(ringBuffer.tryPut(6));
+        List<Integer> elements = new ArrayList<>();
+        ringBuffer.forEach(elements::add);
+        assertEquals(List.of(2, 4, 5), elements);
+        assertTrue(ringBuffer.remove(2));
+        assertTrue(ringBuffer.remove(5));
+        assertEquals(4, ringBuffer.take());
+        assertTrue(ringBuffer.isEmpty());
+        assertNull(ringBuffer.peek());
+    }
+
+    @Test
+    void testOneReader() {
+        RingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(4)
+                .manyWriters()
+                .oneReader()
+                .blocking()
+                .build();
+        ringBuffer.put(0);
+        assertThrows(UnsupportedOperationException.class, () -> ringBuffer.remove(0));
+        assertEquals(0, ringBuffer.peek());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package org.ringbuffer.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastPrimitiveRingBufferTest {
+    @Test
+    void testInt() {
+        test(IntRingBuffer.withCapacity(8).oneWriter().oneReader().withoutLocks().build());
+        test(IntRingBuffer.withCapacity(8).oneWriter().manyReaders().withoutLocks().build());
+        test(IntRingBuffer.withCapacity(8).manyWriters().oneReader().withoutLocks().build());
+        test(IntRingBuffer.withCapacity(8).manyWriters().manyReaders().withoutLocks().build());
+    }
+
+    @Test
+    void testLong() {
+        test(LongRingBuffer.withCapacity(8).oneWriter().oneReader().withoutLocks().build());
+        test(LongRingBuffer.withCapacity(8).oneWriter().manyReaders().withoutLocks().build());
+        test(LongRingBuffer.withCapacity(8).manyWriters().oneReader().withoutLocks().build());
+        test(LongRingBuffer.withCapacity(8).manyWriters().manyReaders().withoutLocks().build());
+    }
+
+    private static void test(IntRingBuffer ringBuffer) {
+        for (int round = 0; round < 3; round++) {
+            assertTrue(ringBuffer.isEmpty());
+            assertEquals(0, ringBuffer.size());
+            ringBuffer.putAll(new int[]{0, 1, 2, 3, 4, 5, 6}, 0, 7);
+            assertFalse(ringBuffer.isEmpty());
+            assertEquals(7, ringBuffer.size());
+            ringBuffer.takeBatch(2);
+            assertEquals(0, ringBuffer.takePlainInt());
+            assertEquals(1, ringBuffer.takePlainInt());
+            int[] destination = new int[3];
+            assertEquals(3, ringBuffer.drainTo(destination, 3));
+            assertArrayEquals(new int[]{2, 3, 4}, destination);
+            List<Integer> drained = new ArrayList<>();
+            assertEquals(2, ringBuffer.drain(drained::add, 5));
+            assertEquals(List.of(5, 6), drained);
+            assertEquals(0, ringBuffer.drainTo(destination, 3));
+        }
+    }
+
+    private static void test(LongRingBuffer ringBuffer) {
+        for (int round = 0; round < 3; round++) {
+            assertTrue(ringBuffer.isEmpty());
+            assertEquals(0, ringBuffer.size());
+            ringBuffer.putAll(new long[]{0L, 1L, 2L, 3L, 4L, 5L, 6L}, 0, 7);
+            assertFalse(ringBuffer.isEmpty());
+            assertEquals(7, ringBuffer.size());
+            ringBuffer.takeBatch(2);
+            assertEquals(0L, ringBuffer.takePlainLong());
+            assertEquals(1L, ringBuffer.takePlainLong());
+            long[] destination = new long[3];
+            assertEquals(3, ringBuffer.drainTo(destination, 3));
+            assertArrayEquals(new long[]{2L, 3L, 4L}, destination);
+            List<Long> drained = new ArrayList<>();
+            assertEquals(2, ringBuffer.drain(drained::add, 5));
+            assertEquals(List.of(5L, 6L), drained);
+            assertEquals(0, ringBuffer.drainTo(destination, 3));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.primitive;
+
+import org.junit.jupiter.api.Test;
+import org.ringbuffer.RingBufferBuilderTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntRingBufferBuilderTest extends RingBufferBuilderTest {
+    private static IntRingBufferBuilder builder(boolean oneWriter, boolean oneReader) {
+        IntRingBufferBuilder builder = IntRingBuffer.withCapacity(8);
+        if (oneWriter) {
+            builder.oneWriter();
+        } else {
+            builder.manyWriters();
+        }
+        if (oneReader) {
+            builder.oneReader();
+        } else {
+            builder.manyReaders();
+        }
+        return builder;
+    }
+
+    @Test
+    void testClasses() {
+        expectClass(VolatileIntRingBuffer.class, builder(true, true).build());
+        expectClass(VolatileBlockingIntRingBuffer.class, builder(true, true).blocking().build());
+        expectClass(VolatileDiscardingIntRingBuffer.class, builder(true, true).discarding().build());
+        expectClass(FastVolatileIntRingBuffer.class, builder(true, true).withoutLocks().build());
+
+        expectClass(AtomicReadIntRingBuffer.class, builder(true, false).build());
+        expectClass(AtomicReadBlockingIntRingBuffer.class, builder(true, false).blocking().build());
+        expectClass(AtomicReadDiscardingIntRingBuffer.class, builder(true, false).discarding().build());
+        expectClass(FastAtomicReadIntRingBuffer.class, builder(true, false).withoutLocks().build());
+
+        expectClass(AtomicWriteIntRingBuffer.class, builder(false, true).build());
+        expectClass(AtomicWriteBlockingIntRingBuffer.class, builder(false, true).blocking().build());
+        expectClass(AtomicWriteDiscardingIntRingBuffer.class, builder(false, true).discarding().build());
+        expectClass(FastAtomicWriteIntRingBuffer.class, builder(false, true).withoutLocks().build());
+
+        expectClass(ConcurrentIntRingBuffer.class, builder(false, false).build());
+        expectClass(ConcurrentBlockingIntRingBuffer.class, builder(false, false).blocking().build());
+        expectClass(ConcurrentDiscardingIntRingBuffer.class, builder(false, false).discarding().build());
+        expectClass(FastConcurrentIntRingBuffer.class, builder(false, false).withoutLocks().build());
+    }
+
+    @Test
+    void testWithoutLocksCapacityNotPowerOfTwo() {
+        IntRingBufferBuilder builder = IntRingBuffer.withCapacity(6).oneWriter().oneReader();
+        assertThrows(IllegalArgumentException.class, builder::withoutLocks);
+    }
+
+    @Test
+    void testPutAndTake() {
+        for (boolean oneWriter : new boolean[]{true, false}) {
+            for (boolean oneReader : new boolean[]{true, false}) {
+                test(builder(oneWriter, oneReader).build());
+                test(builder(oneWriter, oneReader).blocking().build());
+                test(builder(oneWriter, oneReader).discarding().build());
+
+                IntRingBuffer ringBuffer = builder(oneWriter, oneReader).withoutLocks().build();
+                for (int i = 0; i < 20; i++) {
+                    ringBuffer.put(i);
+                    assertEquals(i, ringBuffer.takeInt());
+                }
+            }
+        }
+    }
+
+    private static void test(IntRingBuffer ringBuffer) {
+        for (int i = 0; i < 20; i++) {
+            ringBuffer.put(i);
+            assertEquals(i, ringBuffer.takeInt());
+        }
+        assertTrue(ringBuffer.isEmpty());
+
+        ringBuffer.putAll(new int[]{1, 2, 3, 4, 5}, 1, 3);
+        assertEquals(3, ringBuffer.size());
+        assertTrue(ringBuffer.contains(3));
+        assertFalse(ringBuffer.contains(5));
+        assertEquals("[2, 3, 4]", ringBuffer.toString());
+        int[] elements = new int[5];
+        assertEquals(3, ringBuffer.drainTo(elements, 5));
+        assertArrayEquals(new int[]{2, 3, 4, 0, 0}, elements);
+        assertTrue(ringBuffer.isEmpty());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.primitive;
+
+import org.junit.jupiter.api.Test;
+import org.ringbuffer.RingBufferBuilderTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongRingBufferBuilderTest extends RingBufferBuilderTest {
+    private static LongRingBufferBuilder builder(boolean oneWriter, boolean oneReader) {
+        LongRingBufferBuilder builder = LongRingBuffer.withCapacity(8);
+        if (oneWriter) {
+            builder.oneWriter();
+        } else {
+            builder.manyWriters();
+        }
+        if (oneReader) {
+            builder.oneReader();
+        } else {
+            builder.manyReaders();
+        }
+        return builder;
+    }
+
+    @Test
+    void testClasses() {
+        expectClass(VolatileLongRingBuffer.class, builder(true, true).build());
+        expectClass(VolatileBlockingLongRingBuffer.class, builder(true, true).blocking().build());
+        expectClass(VolatileDiscardingLongRingBuffer.class, builder(true, true).discarding().build());
+        expectClass(FastVolatileLongRingBuffer.class, builder(true, true).withoutLocks().build());
+
+        expectClass(AtomicReadLongRingBuffer.class, builder(true, false).build());
+        expectClass(AtomicReadBlockingLongRingBuffer.class, builder(true, false).blocking().build());
+        expectClass(AtomicReadDiscardingLongRingBuffer.class, builder(true, false).discarding().build());
+        expectClass(FastAtomicReadLongRingBuffer.class, builder(true, false).withoutLocks().build());
+
+        expectClass(AtomicWriteLongRingBuffer.class, builder(false, true).build());
+        expectClass(AtomicWriteBlockingLongRingBuffer.class, builder(false, true).blocking().build());
+        expectClass(AtomicWriteDiscardingLongRingBuffer.class, builder(false, true).discarding().build());
+        expectClass(FastAtomicWriteLongRingBuffer.class, builder(false, true).withoutLocks().build());
+
+        expectClass(ConcurrentLongRingBuffer.class, builder(false, false).build());
+        expectClass(ConcurrentBlockingLongRingBuffer.class, builder(false, false).blocking().build());
+        expectClass(ConcurrentDiscardingLongRingBuffer.class, builder(false, false).discarding().build());
+        expectClass(FastConcurrentLongRingBuffer.class, builder(false, false).withoutLocks().build());
+    }
+
+    @Test
+    void testWithoutLocksCapacityNotPowerOfTwo() {
+        LongRingBufferBuilder builder = LongRingBuffer.withCapacity(6).oneWriter().oneReader();
+        assertThrows(IllegalArgumentException.class, builder::withoutLocks);
+    }
+
+    @Test
+    void testPutAndTake() {
+        for (boolean oneWriter : new boolean[]{true, false}) {
+            for (boolean oneReader : new boolean[]{true, false}) {
+                test(builder(oneWriter, oneReader).build());
+                test(builder(oneWriter, oneReader).blocking().build());
+                test(builder(oneWriter, oneReader).discarding().build());
+
+                LongRingBuffer ringBuffer = builder(oneWriter, oneReader).withoutLocks().build();
+                for (long i = 0; i < 20; i++) {
+                    ringBuffer.put(i);
+                    assertEquals(i, ringBuffer.takeLong());
+                }
+            }
+        }
+    }
+
+    private static void test(LongRingBuffer ringBuffer) {
+        for (long i = 0; i < 20; i++) {
+            ringBuffer.put(i);
+            assertEquals(i, ringBuffer.takeLong());
+        }
+        assertTrue(ringBuffer.isEmpty());
+
+        ringBuffer.putAll(new long[]{1, 2, 3, 4, 5}, 1, 3);
+        assertEquals(3, ringBuffer.size());
+        assertTrue(ringBuffer.contains(3));
+        assertFalse(ringBuffer.contains(5));
+        assertEquals("[2, 3, 4]", ringBuffer.toString());
+        long[] elements = new long[5];
+        assertEquals(3, ringBuffer.drainTo(elements, 5));
+        assertArrayEquals(new long[]{2, 3, 4, 0, 0}, elements);
+        assertTrue(ringBuffer.isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ringbuffer.util;
+
+import org.junit.jupiter.api.Test;
+import org.ringbuffer.AbstractRingBuffer;
+import org.ringbuffer.marshalling.HeapRingBuffer;
+import org.ringbuffer.object.RingBuffer;
+import org.ringbuffer.wait.FailBusyWaitStrategy;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ringbuffer.marshalling.Offsets.INT;
+
+class RingBufferSelectorTest {
+    @Test
+    void testSelect() {
+        RingBufferSelector<AbstractRingBuffer> selector = new RingBufferSelector<>(70);
+        RingBuffer<Integer> objectRingBuffer = newRingBuffer();
+        HeapRingBuffer heapRingBuffer = HeapRingBuffer.withCapacity(16)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+        assertEquals(0, selector.register(objectRingBuffer));
+        for (int i = 1; i < 65; i++) {
+            selector.register(newRingBuffer());
+        }
+        assertEquals(65, selector.register(heapRingBuffer));
+
+        int[] readyKeys = new int[selector.getMaxRingBuffers()];
+        assertEquals(0, selector.selectNow(readyKeys));
+
+        objectRingBuffer.put(1);
+        selector.markReady(0);
+        selector.markReady(0);
+        int offset = heapRingBuffer.next(INT);
+        heapRingBuffer.writeInt(offset, 1);
+        heapRingBuffer.put(offset + INT);
+        selector.markReady(65);
+        assertEquals(2, selector.select(FailBusyWaitStrategy.WRITING_TOO_SLOW, readyKeys));
+        assertEquals(0, readyKeys[0]);
+        assertEquals(65, readyKeys[1]);
+        assertSame(objectRingBuffer, selector.getRingBuffer(0));
+        assertSame(heapRingBuffer, selector.getRingBuffer(65));
+        assertEquals(0, selector.selectNow(readyKeys));
+    }
+
+    @Test
+    void testTooManyRingBuffers() {
+        RingBufferSelector<RingBuffer<Integer>> selector = new RingBufferSelector<>(1);
+        selector.register(newRingBuffer());
+        assertThrows(IllegalStateException.class, () -> selector.register(newRingBuffer()));
+    }
+
+    private static RingBuffer<Integer> newRingBuffer() {
+        return RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ringbuffer.wait;
+
+import org.junit.jupiter.api.Test;
+import org.ringbuffer.object.RingBuffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParkingBusyWaitStrategyTest {
+    @Test
+    void testWakeup() throws InterruptedException {
+        RingBuffer<Integer> ringBuffer = RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .oneReader()
+                .blocking()
+                .waitingWith(new ParkingBusyWaitStrategy(0, TimeUnit.MINUTES.toNanos(1L)))
+                .build();
+        AtomicReference<Integer> element = new AtomicReference<>();
+        Thread reader = new Thread(() -> element.set(ringBuffer.take()));
+        reader.start();
+        while (reader.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        long start = System.nanoTime();
+        ringBuffer.put(1);
+        reader.join();
+        assertEquals(1, element.get());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10L));
+    }
+
+    @Test
+    void testRegistrationClearedOnTimeout() {
+        ParkingBusyWaitStrategy strategy = new ParkingBusyWaitStrategy(0, 1L);
+        strategy.reset();
+        strategy.tick();
+        strategy.tick();
+        // The waiter timed out, so a wakeup must not leave it a permit
+        strategy.wakeup();
+        long parkTime = TimeUnit.MILLISECONDS.toNanos(100L);
+        long start = System.nanoTime();
+        LockSupport.parkNanos(parkTime);
+        assertTrue(System.nanoTime() - start >= parkTime);
+    }
+
+    @Test
+    void testNotBlocking() {
+        assertThrows(IllegalStateException.class, () -> RingBuffer.<Integer>withCapacity(4)
+                .oneWriter()
+                .oneReader()
+                .waitingWith(new ParkingBusyWaitStrategy())
+                .build());
+    }
+}